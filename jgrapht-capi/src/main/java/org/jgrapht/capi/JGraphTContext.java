@@ -7,6 +7,7 @@ import org.graalvm.nativeimage.c.constant.CEnumValue;
 import org.graalvm.nativeimage.c.function.CFunctionPointer;
 import org.graalvm.nativeimage.c.function.InvokeCFunctionPointer;
 import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CCharPointerPointer;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.word.PointerBase;
 
@@ -155,6 +156,29 @@ public class JGraphTContext {
 		void invoke(CCharPointer element, CCharPointer key, CCharPointer value);
 	}
 
+	/*
+	 * Function pointer which receives a batch of imported edges with string
+	 * endpoints. The arrays and strings are only valid during the call. A non-zero
+	 * return value stops the import.
+	 */
+	public interface StringEdgeBatchFunctionPointer extends CFunctionPointer {
+
+		@InvokeCFunctionPointer
+		int invoke(CCharPointerPointer sources, CCharPointerPointer targets, CDoublePointer weights, int count);
+
+	}
+
+	/*
+	 * Function pointer which receives a chunk of exported output. The data is only
+	 * valid during the call. A non-zero return value aborts the export.
+	 */
+	public interface WriteChunkFunctionPointer extends CFunctionPointer {
+
+		@InvokeCFunctionPointer
+		int invoke(CCharPointer data, int length);
+
+	}
+
 	/*
 	 * Function pointer for importers which give the user control on how to convert
 	 * the input identifier of a vertex or edge into an integer.
@@ -13,6 +13,7 @@ import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.nio.DefaultAttribute;
 
 /**
@@ -20,7 +21,7 @@ import org.jgrapht.nio.DefaultAttribute;
  */
 public class AttributesApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	/**
 	 * Create a new attributes store.
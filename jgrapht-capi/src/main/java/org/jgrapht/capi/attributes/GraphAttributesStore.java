@@ -1,5 +1,6 @@
 package org.jgrapht.capi.attributes;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -60,6 +61,18 @@ public class GraphAttributesStore<V, E> {
 		return graphAttributes.get(name);
 	}
 
+	public Map<String, Attribute> getVertexAttributes(V element) {
+		return unmodifiable(vertexAttributes.get(element));
+	}
+
+	public Map<String, Attribute> getEdgeAttributes(E element) {
+		return unmodifiable(edgeAttributes.get(element));
+	}
+
+	public Map<String, Attribute> getGraphAttributes() {
+		return unmodifiable(graphAttributes);
+	}
+
 	public void putVertexAttribute(V element, String name, Attribute value) {
 		getSafeVertexMap(element).put(name, value);
 	}
@@ -104,6 +117,11 @@ public class GraphAttributesStore<V, E> {
 		graphAttributes.clear();
 	}
 
+	private static Map<String, Attribute> unmodifiable(Map<String, Attribute> attrs) {
+		// does not create maps for elements without attributes
+		return attrs == null ? Collections.emptyMap() : Collections.unmodifiableMap(attrs);
+	}
+
 	private Map<String, Attribute> getSafeVertexMap(V element) {
 		Map<String, Attribute> attrs = vertexAttributes.get(element);
 		if (attrs == null) {
@@ -0,0 +1,654 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.capi.custom.util.ParallelLoops;
+import org.jgrapht.nio.ImportException;
+
+/**
+ * High-throughput parser of edge lists with integer vertices. The file is memory-mapped, split at
+ * line boundaries into chunks and the chunks are parsed concurrently into primitive arrays. The
+ * chunks are never concatenated into a merged copy, the result exposes them in file order instead.
+ * 
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ * <li>CSV edge lists where each line is {@code source,target} or {@code source,target,weight}.
+ * Vertices are non-negative integers used as is. Empty lines are skipped.</li>
+ * <li>DIMACS where lines starting with {@code c} are comments, the problem line is
+ * {@code p <type> <vertices> <edges>} and edges are given as {@code a <source> <target> [weight]}
+ * or {@code e <source> <target> [weight]}. Vertices are numbered from one and are renumbered to
+ * start from zero. Other lines are skipped.</li>
+ * </ul>
+ * 
+ * <p>
+ * Edges without a weight get weight one. Weights in plain decimal notation with at most 15
+ * significant digits are converted without allocation, all other weights using
+ * {@link Double#parseDouble(String)}, thus the result is always correctly rounded.
+ */
+public class ParallelEdgeListParser
+{
+    /**
+     * The supported formats.
+     */
+    public enum Format
+    {
+        CSV,
+        DIMACS,
+    }
+
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+    private static final int SCAN_BYTES = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+        1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private final Format format;
+    private final boolean weighted;
+    private final int parallelism;
+
+    /**
+     * Create a new parser.
+     * 
+     * @param format the format
+     * @param weighted whether to keep the edge weights
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     */
+    public ParallelEdgeListParser(Format format, boolean weighted, int parallelism)
+    {
+        if (format == null) {
+            throw new NullPointerException("Format cannot be null");
+        }
+        this.format = format;
+        this.weighted = weighted;
+        this.parallelism = ParallelLoops.parallelism(parallelism);
+    }
+
+    /**
+     * Parse a file.
+     * 
+     * @param file the file
+     * @return the parsed edges
+     * @throws IOException in case of an I/O error
+     * @throws ImportException in case the input is malformed
+     */
+    public Result parse(File file)
+        throws IOException
+    {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+            FileChannel channel = raf.getChannel())
+        {
+            long[] bounds = split(channel);
+            int numChunks = bounds.length - 1;
+            Chunk[] chunks = new Chunk[numChunks];
+            IOException[] failure = new IOException[1];
+            ParallelLoops.forEach(numChunks, parallelism, i -> {
+                try {
+                    long start = bounds[i];
+                    MappedByteBuffer buffer =
+                        channel.map(FileChannel.MapMode.READ_ONLY, start, bounds[i + 1] - start);
+                    Chunk chunk = new Chunk(start);
+                    chunk.parse(buffer);
+                    chunks[i] = chunk;
+                } catch (IOException e) {
+                    synchronized (failure) {
+                        failure[0] = e;
+                    }
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            return merge(chunks);
+        }
+    }
+
+    /**
+     * Compute the chunk boundaries. Every boundary but the first is placed right after a line
+     * terminator, thus no line is split between two chunks.
+     */
+    private long[] split(FileChannel channel)
+        throws IOException
+    {
+        long size = channel.size();
+        long chunkBytes = size / ((long) parallelism * CHUNKS_PER_THREAD) + 1;
+        chunkBytes = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES, chunkBytes));
+
+        long[] bounds = new long[(int) (size / chunkBytes) + 2];
+        int count = 0;
+        bounds[count++] = 0;
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BYTES);
+        long pos = chunkBytes;
+        while (pos < size) {
+            long next = nextLineStart(channel, pos, size, scan);
+            if (next >= size) {
+                break;
+            }
+            if (next - bounds[count - 1] > Integer.MAX_VALUE) {
+                throw new ImportException("Line too long at byte offset " + bounds[count - 1]);
+            }
+            bounds[count++] = next;
+            pos = next + chunkBytes;
+        }
+        if (size - bounds[count - 1] > Integer.MAX_VALUE) {
+            throw new ImportException("Line too long at byte offset " + bounds[count - 1]);
+        }
+        bounds[count++] = size;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static long nextLineStart(FileChannel channel, long pos, long size, ByteBuffer scan)
+        throws IOException
+    {
+        while (pos < size) {
+            scan.clear();
+            int read = channel.read(scan, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private Result merge(Chunk[] chunks)
+    {
+        long[] offsets = new long[chunks.length + 1];
+        int maxVertex = -1;
+        int declaredVertices = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            offsets[i + 1] = offsets[i] + chunks[i].size;
+            maxVertex = Math.max(maxVertex, chunks[i].maxVertex);
+            declaredVertices = Math.max(declaredVertices, chunks[i].declaredVertices);
+        }
+        long total = offsets[chunks.length];
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new ImportException("Too many edges: " + total);
+        }
+
+        return new Result(
+            Math.max(declaredVertices, maxVertex + 1), (int) total, offsets, chunks, weighted,
+            parallelism);
+    }
+
+    /**
+     * Consumer of the edges of one chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer
+    {
+        /**
+         * Consume the edges of a chunk. The arrays may be longer than the number of edges.
+         * 
+         * @param offset the position of the first edge of the chunk in file order
+         * @param sources the edge sources
+         * @param targets the edge targets
+         * @param weights the edge weights or null if the weights were not kept
+         * @param count the number of edges of the chunk
+         */
+        void accept(int offset, int[] sources, int[] targets, double[] weights, int count);
+    }
+
+    /**
+     * The parsed edges, stored in the chunks they were parsed into.
+     */
+    public static class Result
+    {
+        private final int numVertices;
+        private final int numEdges;
+        private final long[] offsets;
+        private final Chunk[] chunks;
+        private final boolean weighted;
+        private final int parallelism;
+        private boolean drained;
+
+        Result(
+            int numVertices, int numEdges, long[] offsets, Chunk[] chunks, boolean weighted,
+            int parallelism)
+        {
+            this.numVertices = numVertices;
+            this.numEdges = numEdges;
+            this.offsets = offsets;
+            this.chunks = chunks;
+            this.weighted = weighted;
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Get the number of vertices. This is one more than the largest vertex or, in the case of
+         * DIMACS, the number of vertices of the problem line if larger.
+         * 
+         * @return the number of vertices
+         */
+        public int getNumVertices()
+        {
+            return numVertices;
+        }
+
+        /**
+         * Get the number of edges.
+         * 
+         * @return the number of edges
+         */
+        public int getNumEdges()
+        {
+            return numEdges;
+        }
+
+        /**
+         * Hand the chunks over to a consumer and release them. The chunks are consumed
+         * concurrently, each one is released as soon as it has been consumed, thus the edges are
+         * never held twice in full. Afterwards the result holds no edges.
+         * 
+         * @param consumer the consumer, which must support concurrent calls for different chunks
+         * @throws IllegalStateException if the chunks were already drained
+         */
+        public void drain(ChunkConsumer consumer)
+        {
+            checkNotDrained();
+            drained = true;
+            ParallelLoops.forEach(chunks.length, parallelism, i -> {
+                Chunk chunk = chunks[i];
+                consumer.accept(
+                    (int) offsets[i], chunk.sources, chunk.targets, chunk.weights, chunk.size);
+                chunks[i] = null;
+            });
+        }
+
+        /**
+         * Get a view of the edges as pairs, as expected by the sparse graphs.
+         * 
+         * @return a view of the edges
+         * @throws IllegalStateException if the chunks were already drained
+         */
+        public List<Pair<Integer, Integer>> asPairs()
+        {
+            checkNotDrained();
+            return new ChunkView<Pair<Integer, Integer>>()
+            {
+                @Override
+                Pair<Integer, Integer> edge(Chunk chunk, int index)
+                {
+                    return Pair.of(chunk.sources[index], chunk.targets[index]);
+                }
+            };
+        }
+
+        /**
+         * Get a view of the edges as triples, as expected by the weighted sparse graphs.
+         * 
+         * @return a view of the edges
+         * @throws IllegalStateException if the weights were not kept or the chunks were already
+         *         drained
+         */
+        public List<Triple<Integer, Integer, Double>> asTriples()
+        {
+            if (!weighted) {
+                throw new IllegalStateException("Weights were not kept");
+            }
+            checkNotDrained();
+            return new ChunkView<Triple<Integer, Integer, Double>>()
+            {
+                @Override
+                Triple<Integer, Integer, Double> edge(Chunk chunk, int index)
+                {
+                    return Triple.of(
+                        chunk.sources[index], chunk.targets[index], chunk.weights[index]);
+                }
+            };
+        }
+
+        private void checkNotDrained()
+        {
+            if (drained) {
+                throw new IllegalStateException("Edges were already drained");
+            }
+        }
+
+        /**
+         * A list view over the chunks. Random access locates the chunk by binary search on the
+         * chunk offsets, while iteration walks the chunks in order.
+         */
+        private abstract class ChunkView<T>
+            extends
+            AbstractList<T>
+        {
+            abstract T edge(Chunk chunk, int index);
+
+            @Override
+            public T get(int index)
+            {
+                if (index < 0 || index >= numEdges) {
+                    throw new IndexOutOfBoundsException("Index: " + index);
+                }
+                int i = Arrays.binarySearch(offsets, index);
+                if (i < 0) {
+                    i = -i - 2;
+                } else {
+                    // skip empty chunks which share the offset
+                    while (chunks[i].size == 0) {
+                        i++;
+                    }
+                }
+                return edge(chunks[i], index - (int) offsets[i]);
+            }
+
+            @Override
+            public int size()
+            {
+                return numEdges;
+            }
+
+            @Override
+            public Iterator<T> iterator()
+            {
+                return new Iterator<T>()
+                {
+                    private int chunk;
+                    private int index;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        while (chunk < chunks.length && index == chunks[chunk].size) {
+                            chunk++;
+                            index = 0;
+                        }
+                        return chunk < chunks.length;
+                    }
+
+                    @Override
+                    public T next()
+                    {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return edge(chunks[chunk], index++);
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * The edges of one chunk of the file together with the parsing state.
+     */
+    private class Chunk
+    {
+        private final long base;
+        private int[] sources = new int[1024];
+        private int[] targets = new int[1024];
+        private double[] weights = weighted ? new double[1024] : null;
+        private int size;
+        private int maxVertex = -1;
+        private int declaredVertices;
+
+        private ByteBuffer buffer;
+        private int pos;
+        private int end;
+
+        Chunk(long base)
+        {
+            this.base = base;
+        }
+
+        void parse(ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                pos = lineStart;
+                end = lineEnd;
+                if (end > pos && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+                if (format == Format.CSV) {
+                    parseCsvLine();
+                } else {
+                    parseDimacsLine();
+                }
+                lineStart = lineEnd + 1;
+            }
+            this.buffer = null;
+        }
+
+        private void parseCsvLine()
+        {
+            skipBlanks();
+            if (pos == end) {
+                return;
+            }
+            int source = parseVertex();
+            expectDelimiter();
+            int target = parseVertex();
+            double weight = 1d;
+            skipBlanks();
+            if (pos < end && buffer.get(pos) == ',') {
+                pos++;
+                weight = parseWeight();
+            }
+            expectEndOfLine();
+            add(source, target, weight);
+        }
+
+        private void parseDimacsLine()
+        {
+            skipBlanks();
+            if (pos == end) {
+                return;
+            }
+            byte type = buffer.get(pos++);
+            if (pos < end && !isBlank(buffer.get(pos))) {
+                return;
+            }
+            switch (type) {
+            case 'p':
+                skipBlanks();
+                while (pos < end && !isBlank(buffer.get(pos))) {
+                    pos++;
+                }
+                declaredVertices = Math.max(declaredVertices, parseVertex());
+                break;
+            case 'a':
+            case 'e':
+                int source = parseDimacsVertex();
+                int target = parseDimacsVertex();
+                double weight = 1d;
+                skipBlanks();
+                if (pos < end) {
+                    weight = parseWeight();
+                }
+                expectEndOfLine();
+                add(source, target, weight);
+                break;
+            default:
+                // comments and other descriptors
+                break;
+            }
+        }
+
+        private int parseDimacsVertex()
+        {
+            int v = parseVertex();
+            if (v == 0) {
+                throw error("Invalid vertex 0");
+            }
+            return v - 1;
+        }
+
+        private int parseVertex()
+        {
+            skipBlanks();
+            int start = pos;
+            long value = 0;
+            while (pos < end) {
+                int digit = buffer.get(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                if (value > Integer.MAX_VALUE) {
+                    throw error("Vertex out of range");
+                }
+                pos++;
+            }
+            if (pos == start) {
+                throw error("Expected vertex");
+            }
+            return (int) value;
+        }
+
+        private double parseWeight()
+        {
+            skipBlanks();
+            int start = pos;
+            while (pos < end && buffer.get(pos) != ',' && !isBlank(buffer.get(pos))) {
+                pos++;
+            }
+            if (pos == start) {
+                throw error("Expected weight");
+            }
+
+            // fast path for plain decimals which are exact after a single division
+            int i = start;
+            boolean negative = false;
+            if (buffer.get(i) == '-' || buffer.get(i) == '+') {
+                negative = buffer.get(i) == '-';
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = 0;
+            boolean point = false;
+            boolean plain = i < pos;
+            for (; i < pos; i++) {
+                byte c = buffer.get(i);
+                if (c >= '0' && c <= '9') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                    if (point) {
+                        fractionDigits++;
+                    }
+                } else if (c == '.' && !point) {
+                    point = true;
+                } else {
+                    plain = false;
+                    break;
+                }
+            }
+            if (plain && digits > 0 && digits <= MAX_FAST_DIGITS) {
+                double value = mantissa / POWERS_OF_TEN[fractionDigits];
+                return negative ? -value : value;
+            }
+
+            byte[] token = new byte[pos - start];
+            for (int j = 0; j < token.length; j++) {
+                token[j] = buffer.get(start + j);
+            }
+            try {
+                return Double.parseDouble(new String(token, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw error("Invalid weight");
+            }
+        }
+
+        private void expectDelimiter()
+        {
+            skipBlanks();
+            if (pos == end || buffer.get(pos) != ',') {
+                throw error("Expected delimiter");
+            }
+            pos++;
+        }
+
+        private void expectEndOfLine()
+        {
+            skipBlanks();
+            if (pos != end) {
+                throw error("Unexpected trailing characters");
+            }
+        }
+
+        private void skipBlanks()
+        {
+            while (pos < end && isBlank(buffer.get(pos))) {
+                pos++;
+            }
+        }
+
+        private void add(int source, int target, double weight)
+        {
+            if (size == sources.length) {
+                int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * size);
+                if (capacity == size) {
+                    throw new ImportException("Too many edges");
+                }
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, capacity);
+                }
+            }
+            sources[size] = source;
+            targets[size] = target;
+            if (weights != null) {
+                weights[size] = weight;
+            }
+            size++;
+            maxVertex = Math.max(maxVertex, Math.max(source, target));
+        }
+
+        private ImportException error(String message)
+        {
+            return new ImportException(message + " at byte offset " + (base + pos));
+        }
+    }
+
+    private static boolean isBlank(byte c)
+    {
+        return c == ' ' || c == '\t';
+    }
+}
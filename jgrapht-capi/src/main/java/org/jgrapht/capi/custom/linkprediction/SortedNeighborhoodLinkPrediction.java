@@ -0,0 +1,503 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.linkprediction;
+
+import java.util.Arrays;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.capi.custom.util.ParallelLoops;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Neighborhood based link prediction indices computed over a snapshot of the graph where the
+ * neighborhood of each vertex is a sorted array of vertex indices. Common neighbors are found by a
+ * linear merge of two sorted arrays instead of hash set operations, and the snapshot is shared
+ * read-only by all threads when scoring in parallel.
+ * 
+ * <p>
+ * The neighborhoods are the same as in the link prediction algorithms of jgrapht-core, that is
+ * the set of opposite vertices of all edges touching a vertex. Pairs for which an index is not
+ * well defined, such as the Jaccard coefficient of two isolated vertices, are scored as NaN.
+ * 
+ * <p>
+ * Besides scoring given pairs, the best candidates of a vertex can be computed by enumerating its
+ * two-hop neighborhood. The candidates of a vertex $u$ are the vertices which are not $u$, are not
+ * adjacent to $u$ and share at least one common neighbor with $u$.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class SortedNeighborhoodLinkPrediction<V, E>
+{
+    /**
+     * The link prediction indices.
+     */
+    public enum Index
+    {
+        ADAMIC_ADAR,
+        COMMON_NEIGHBORS,
+        HUB_DEPRESSED,
+        HUB_PROMOTED,
+        JACCARD_COEFFICIENT,
+        LEICHT_HOLME_NEWMAN,
+        PREFERENTIAL_ATTACHMENT,
+        RESOURCE_ALLOCATION,
+        SALTON,
+        SORENSEN
+    }
+
+    /**
+     * Receives the best candidates of one source vertex.
+     */
+    @FunctionalInterface
+    public interface CandidateConsumer
+    {
+        /**
+         * Accept the best candidates of one source vertex, ordered by decreasing score and by
+         * increasing vertex index among equal scores. The arrays are reused afterwards and must
+         * not be retained.
+         * 
+         * @param i the position of the source in the sources array
+         * @param candidates the candidate vertex indices
+         * @param scores the candidate scores
+         * @param count the number of valid entries in the arrays
+         */
+        void accept(int i, int[] candidates, double[] scores, int count);
+    }
+
+    private final Object2IntOpenHashMap<V> index;
+    private final Object[] vertices;
+    private final int[] offsets;
+    private final int[] neighbors;
+
+    /**
+     * Create a new instance.
+     * 
+     * @param graph the graph
+     */
+    public SortedNeighborhoodLinkPrediction(Graph<V, E> graph)
+    {
+        int n = graph.vertexSet().size();
+        this.index = new Object2IntOpenHashMap<>(n);
+        this.index.defaultReturnValue(-1);
+        this.vertices = new Object[n];
+        for (V v : graph.vertexSet()) {
+            vertices[index.size()] = v;
+            index.put(v, index.size());
+        }
+
+        int[][] rows = new int[n][];
+        int total = 0;
+        int i = 0;
+        for (V v : graph.vertexSet()) {
+            int[] row = new int[graph.edgesOf(v).size()];
+            int k = 0;
+            for (E e : graph.edgesOf(v)) {
+                row[k++] = index.getInt(Graphs.getOppositeVertex(graph, e, v));
+            }
+            Arrays.sort(row);
+            int unique = 0;
+            for (int j = 0; j < row.length; j++) {
+                if (j == 0 || row[j] != row[j - 1]) {
+                    row[unique++] = row[j];
+                }
+            }
+            rows[i++] = unique == row.length ? row : Arrays.copyOf(row, unique);
+            total = Math.addExact(total, unique);
+        }
+
+        this.offsets = new int[n + 1];
+        this.neighbors = new int[total];
+        for (i = 0; i < n; i++) {
+            System.arraycopy(rows[i], 0, neighbors, offsets[i], rows[i].length);
+            offsets[i + 1] = offsets[i] + rows[i].length;
+        }
+    }
+
+    /**
+     * Get the index of a vertex.
+     * 
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not part of the graph
+     */
+    public int indexOf(V v)
+    {
+        int i = index.getInt(v);
+        if (i == -1) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return i;
+    }
+
+    /**
+     * Get the vertex of an index.
+     * 
+     * @param i the index
+     * @return the vertex
+     */
+    @SuppressWarnings("unchecked")
+    public V vertexAt(int i)
+    {
+        return (V) vertices[i];
+    }
+
+    /**
+     * Get the number of vertices.
+     * 
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Get the size of the neighborhood of a vertex.
+     * 
+     * @param u the vertex index
+     * @return the size of the neighborhood
+     */
+    public int neighborhoodSize(int u)
+    {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    /**
+     * Score a pair of vertices.
+     * 
+     * @param type the index
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @return the score or NaN if the index is not well defined for the pair
+     */
+    public double predict(Index type, int u, int v)
+    {
+        int du = neighborhoodSize(u);
+        int dv = neighborhoodSize(v);
+        switch (type) {
+        case PREFERENTIAL_ATTACHMENT:
+            return (double) du * dv;
+        case ADAMIC_ADAR:
+        case RESOURCE_ALLOCATION:
+            return sumOverCommonNeighbors(type, u, v);
+        default:
+            break;
+        }
+
+        return fromCommonNeighbors(type, du, dv, commonNeighbors(u, v));
+    }
+
+    /**
+     * Score many pairs of vertices in parallel.
+     * 
+     * @param type the index
+     * @param us the first vertex index of each pair
+     * @param vs the second vertex index of each pair
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each pair
+     */
+    public double[] predict(Index type, int[] us, int[] vs, int parallelism)
+    {
+        double[] scores = new double[us.length];
+        ParallelLoops.forEach(us.length, parallelism, i -> {
+            scores[i] = predict(type, us[i], vs[i]);
+        });
+        return scores;
+    }
+
+    /**
+     * Compute the best candidates of many source vertices in parallel. Only the candidates in the
+     * two-hop neighborhood of each source are considered and candidates whose score is NaN are
+     * skipped.
+     * 
+     * @param type the index
+     * @param sources the source vertex indices
+     * @param k the maximum number of candidates per source
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @param consumer the consumer of the results, called concurrently from the worker threads
+     * @throws IllegalArgumentException if k is not positive or a source is not a valid vertex index
+     */
+    public void topK(Index type, int[] sources, int k, int parallelism, CandidateConsumer consumer)
+    {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        int n = vertexCount();
+        for (int s : sources) {
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("no such vertex in graph: " + s);
+            }
+        }
+
+        ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(() -> new Workspace(n, k));
+        try {
+            ParallelLoops.forEach(sources.length, parallelism, i -> {
+                Workspace ws = workspaces.get();
+                ws.run(type, sources[i]);
+                consumer.accept(i, ws.candidates, ws.scores, ws.size);
+            });
+        } finally {
+            // the loop may run in the calling thread, which must not keep its workspace
+            workspaces.remove();
+        }
+    }
+
+    /**
+     * Count the common neighbors of two vertices by merging their sorted neighborhoods.
+     * 
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @return the number of common neighbors
+     */
+    public int commonNeighbors(int u, int v)
+    {
+        int i = offsets[u], iEnd = offsets[u + 1];
+        int j = offsets[v], jEnd = offsets[v + 1];
+        int count = 0;
+        while (i < iEnd && j < jEnd) {
+            int a = neighbors[i], b = neighbors[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private double sumOverCommonNeighbors(Index type, int u, int v)
+    {
+        int i = offsets[u], iEnd = offsets[u + 1];
+        int j = offsets[v], jEnd = offsets[v + 1];
+        double sum = 0d;
+        while (i < iEnd && j < jEnd) {
+            int a = neighbors[i], b = neighbors[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                int dz = neighborhoodSize(a);
+                if (type == Index.ADAMIC_ADAR) {
+                    if (dz == 1) {
+                        // log(1) = 0
+                        return Double.NaN;
+                    }
+                    sum += 1d / Math.log(dz);
+                } else {
+                    sum += 1d / dz;
+                }
+                i++;
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    private static double fromCommonNeighbors(Index type, int du, int dv, double common)
+    {
+        switch (type) {
+        case COMMON_NEIGHBORS:
+            return common;
+        case JACCARD_COEFFICIENT:
+            return ratio(common, du + dv - common);
+        case HUB_DEPRESSED:
+            return ratio(common, Math.max(du, dv));
+        case HUB_PROMOTED:
+            return ratio(common, Math.min(du, dv));
+        case LEICHT_HOLME_NEWMAN:
+            return ratio(common, (double) du * dv);
+        case SALTON:
+            return ratio(common, Math.sqrt((double) du * dv));
+        case SORENSEN:
+            return ratio(2d * common, du + dv);
+        default:
+            throw new IllegalArgumentException("Unknown index: " + type);
+        }
+    }
+
+    private static double ratio(double a, double b)
+    {
+        return b == 0d ? Double.NaN : a / b;
+    }
+
+    /**
+     * Per thread state, a sparse accumulator over the two-hop neighborhood and a bounded min-heap
+     * holding the best candidates found so far.
+     */
+    private class Workspace
+    {
+        final double[] accumulator;
+        final int[] touched;
+        final int[] seen;
+        final int[] blocked;
+        final int[] candidates;
+        final double[] scores;
+        int stamp;
+        int size;
+
+        Workspace(int n, int k)
+        {
+            this.accumulator = new double[n];
+            this.touched = new int[n];
+            this.seen = new int[n];
+            this.blocked = new int[n];
+            int capacity = Math.min(k, n);
+            this.candidates = new int[capacity];
+            this.scores = new double[capacity];
+        }
+
+        void run(Index type, int u)
+        {
+            stamp++;
+            size = 0;
+            if (candidates.length == 0) {
+                return;
+            }
+
+            // the source and its neighbors are never candidates
+            blocked[u] = stamp;
+            for (int j = offsets[u]; j < offsets[u + 1]; j++) {
+                blocked[neighbors[j]] = stamp;
+            }
+
+            // accumulate the contribution of each common neighbor
+            int numTouched = 0;
+            for (int j = offsets[u]; j < offsets[u + 1]; j++) {
+                int z = neighbors[j];
+                if (z == u) {
+                    continue;
+                }
+                int dz = neighborhoodSize(z);
+                double contribution;
+                if (type == Index.ADAMIC_ADAR) {
+                    contribution = 1d / Math.log(dz);
+                } else if (type == Index.RESOURCE_ALLOCATION) {
+                    contribution = 1d / dz;
+                } else {
+                    contribution = 1d;
+                }
+                for (int l = offsets[z]; l < offsets[z + 1]; l++) {
+                    int w = neighbors[l];
+                    if (blocked[w] == stamp) {
+                        continue;
+                    }
+                    if (seen[w] != stamp) {
+                        seen[w] = stamp;
+                        accumulator[w] = 0d;
+                        touched[numTouched++] = w;
+                    }
+                    accumulator[w] += contribution;
+                }
+            }
+
+            int du = neighborhoodSize(u);
+            for (int t = 0; t < numTouched; t++) {
+                int w = touched[t];
+                double score;
+                switch (type) {
+                case ADAMIC_ADAR:
+                case RESOURCE_ALLOCATION:
+                    score = accumulator[w];
+                    break;
+                case PREFERENTIAL_ATTACHMENT:
+                    score = (double) du * neighborhoodSize(w);
+                    break;
+                default:
+                    score = fromCommonNeighbors(type, du, neighborhoodSize(w), accumulator[w]);
+                    break;
+                }
+                if (!Double.isNaN(score)) {
+                    offer(w, score);
+                }
+            }
+
+            // pop the worst candidates first in order to sort in decreasing order
+            for (int end = size - 1; end > 0; end--) {
+                int w = candidates[0];
+                double score = scores[0];
+                candidates[0] = candidates[end];
+                scores[0] = scores[end];
+                siftDown(0, end);
+                candidates[end] = w;
+                scores[end] = score;
+            }
+        }
+
+        private void offer(int w, double score)
+        {
+            if (size < candidates.length) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (!worse(w, score, candidates[parent], scores[parent])) {
+                        break;
+                    }
+                    candidates[i] = candidates[parent];
+                    scores[i] = scores[parent];
+                    i = parent;
+                }
+                candidates[i] = w;
+                scores[i] = score;
+            } else if (worse(candidates[0], scores[0], w, score)) {
+                candidates[0] = w;
+                scores[0] = score;
+                siftDown(0, size);
+            }
+        }
+
+        private void siftDown(int i, int end)
+        {
+            int w = candidates[i];
+            double score = scores[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= end) {
+                    break;
+                }
+                if (child + 1 < end && worse(
+                    candidates[child + 1], scores[child + 1], candidates[child], scores[child]))
+                {
+                    child++;
+                }
+                if (!worse(candidates[child], scores[child], w, score)) {
+                    break;
+                }
+                candidates[i] = candidates[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            candidates[i] = w;
+            scores[i] = score;
+        }
+
+        private boolean worse(int a, double scoreA, int b, double scoreB)
+        {
+            return scoreA < scoreB || (scoreA == scoreB && a > b);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.scoring;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.jgrapht.ListenableGraph;
+import org.jgrapht.capi.graph.CsrSnapshot;
+import org.jgrapht.event.GraphEdgeChangeEvent;
+import org.jgrapht.event.GraphListener;
+import org.jgrapht.event.GraphVertexChangeEvent;
+
+/**
+ * PageRank which is kept up to date with a listenable graph. The instance registers itself as a
+ * listener of the graph and records whether the graph changed. Each refresh after a change runs
+ * the power iteration of {@link ParallelPowerIteration} starting from the previous scores instead
+ * of the uniform vector, which after small changes converges in a few iterations.
+ * 
+ * <p>
+ * The scores are the same as the ones computed by {@link org.jgrapht.alg.scoring.PageRank} with
+ * the same parameters, up to the tolerance.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class IncrementalPageRank<V, E>
+    implements GraphListener<V, E>
+{
+    private final ListenableGraph<V, E> graph;
+    private final double dampingFactor;
+    private final int maxIterations;
+    private final double tolerance;
+
+    private Map<V, Double> scores;
+    private boolean dirty;
+    private int iterations;
+
+    /**
+     * Create a new instance and register it as a listener of the graph. The scores are computed
+     * on the first refresh.
+     * 
+     * @param graph the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations of each refresh
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public IncrementalPageRank(
+        ListenableGraph<V, E> graph, double dampingFactor, int maxIterations, double tolerance)
+    {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        }
+        if (dampingFactor < 0.0 || dampingFactor > 1.0) {
+            throw new IllegalArgumentException("Damping factor not valid");
+        }
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+        this.graph = graph;
+        this.dampingFactor = dampingFactor;
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+        this.scores = Collections.emptyMap();
+        this.dirty = true;
+        graph.addGraphListener(this);
+    }
+
+    /**
+     * Stop listening to the graph. Later refreshes do not see any further changes.
+     */
+    public void detach()
+    {
+        graph.removeGraphListener(this);
+    }
+
+    /**
+     * Whether the graph changed since the last refresh.
+     * 
+     * @return whether the graph changed since the last refresh
+     */
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    /**
+     * Recompute the scores if the graph changed since the last refresh.
+     * 
+     * @return the number of iterations performed, zero if the graph did not change
+     */
+    public int refresh()
+    {
+        if (!dirty) {
+            return 0;
+        }
+
+        ParallelPowerIteration<V, E> alg = new ParallelPowerIteration<>(graph, 1);
+        CsrSnapshot<V, E> in = alg.getSnapshot();
+        int n = in.vertexCount();
+
+        // warm start from the previous scores, new vertices start from 1/n
+        double[] initial = new double[n];
+        double sum = 0d;
+        for (int v = 0; v < n; v++) {
+            Double previous = scores.get(in.vertexAt(v));
+            initial[v] = previous != null ? previous : 1d / n;
+            sum += initial[v];
+        }
+        if (sum > 0d) {
+            for (int v = 0; v < n; v++) {
+                initial[v] /= sum;
+            }
+        }
+
+        double[] result = alg.pageRank(dampingFactor, maxIterations, tolerance, initial);
+        int iteration = alg.getIterations();
+
+        this.scores = alg.toMap(result);
+        this.iterations = iteration;
+        this.dirty = false;
+        return iteration;
+    }
+
+    /**
+     * Get the scores computed by the last refresh.
+     * 
+     * @return the scores of the last refresh
+     */
+    public Map<V, Double> getScores()
+    {
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * Get the number of iterations of the last refresh which recomputed the scores.
+     * 
+     * @return the number of iterations
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void edgeWeightUpdated(GraphEdgeChangeEvent<V, E> e)
+    {
+        dirty = true;
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.util.ParallelLoops;
+import org.jgrapht.capi.graph.CsrSnapshot;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Brandes betweenness centrality with the sources partitioned among the threads of a fork-join
+ * pool. Each thread runs the single source shortest path computations of its sources over a
+ * shared compressed sparse row snapshot of the graph and accumulates the dependencies in its own
+ * primitive arrays, which are summed at the end.
+ * 
+ * <p>
+ * The scores are the same as the ones computed by
+ * {@link org.jgrapht.alg.scoring.BetweennessCentrality} and
+ * {@link org.jgrapht.alg.scoring.EdgeBetweennessCentrality}. Weighted graphs use Dijkstra's
+ * algorithm and unweighted graphs breadth-first search. Scores of undirected graphs are divided
+ * by two, since every shortest path is discovered from both of its endpoints.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ParallelBetweennessCentrality<V, E>
+{
+    private final Graph<V, E> graph;
+    private final CsrSnapshot<V, E> snapshot;
+    private final boolean weighted;
+    private final int[] edgeOfEntry;
+    private final List<E> edges;
+
+    /**
+     * Create a new instance. The graph is copied into a snapshot, thus later changes of the graph
+     * are not reflected.
+     * 
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is weighted and has a negative edge weight
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph)
+    {
+        this.graph = graph;
+        this.snapshot = new CsrSnapshot<>(graph);
+        this.weighted = graph.getType().isWeighted();
+        if (weighted) {
+            for (double w : snapshot.getWeights()) {
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+            }
+        }
+
+        // undirected edges appear in two entries
+        int[] targets = snapshot.getTargets();
+        this.edgeOfEntry = new int[targets.length];
+        this.edges = new ArrayList<>(graph.edgeSet().size());
+        Object2IntOpenHashMap<E> edgeIndex = new Object2IntOpenHashMap<>(graph.edgeSet().size());
+        edgeIndex.defaultReturnValue(-1);
+        for (int j = 0; j < targets.length; j++) {
+            E e = snapshot.edgeAt(j);
+            int index = edgeIndex.getInt(e);
+            if (index == -1) {
+                index = edges.size();
+                edgeIndex.put(e, index);
+                edges.add(e);
+            }
+            edgeOfEntry[j] = index;
+        }
+    }
+
+    /**
+     * Get the number of vertices.
+     * 
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return snapshot.vertexCount();
+    }
+
+    /**
+     * Get the snapshot whose vertex order indexes the score arrays.
+     * 
+     * @return the snapshot
+     */
+    public CsrSnapshot<V, E> getSnapshot()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Compute the vertex betweenness centrality.
+     * 
+     * @param normalize whether to divide the scores by $(n-1)(n-2)$
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each vertex
+     */
+    public Map<V, Double> getVertexScores(boolean normalize, int parallelism)
+    {
+        return toVertexMap(getVertexScoresArray(normalize, parallelism));
+    }
+
+    /**
+     * Compute the vertex betweenness centrality indexed by the iteration order of the vertex set.
+     * 
+     * @param normalize whether to divide the scores by $(n-1)(n-2)$
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each vertex
+     */
+    public double[] getVertexScoresArray(boolean normalize, int parallelism)
+    {
+        return getVertexScoresArray(allSources(), 1d, normalize, parallelism);
+    }
+
+    /**
+     * Compute the vertex betweenness centrality considering only the dependencies of a set of
+     * sources, multiplied by a factor.
+     * 
+     * @param sources the source vertex indices
+     * @param factor the factor to multiply the accumulated dependencies with
+     * @param normalize whether to divide the scores by $(n-1)(n-2)$
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each vertex
+     */
+    double[] getVertexScoresArray(int[] sources, double factor, boolean normalize, int parallelism)
+    {
+        double[] scores = accumulate(sources, true, parallelism);
+        if (graph.getType().isUndirected()) {
+            factor /= 2;
+        }
+        if (normalize) {
+            long n = snapshot.vertexCount();
+            long normalizationFactor = (n - 1) * (n - 2);
+            if (normalizationFactor != 0) {
+                factor /= normalizationFactor;
+            }
+        }
+        scale(scores, factor);
+        return scores;
+    }
+
+    /**
+     * Compute the edge betweenness centrality.
+     * 
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each edge
+     */
+    public Map<E, Double> getEdgeScores(int parallelism)
+    {
+        double[] scores = accumulate(allSources(), false, parallelism);
+        scale(scores, graph.getType().isUndirected() ? 0.5 : 1d);
+        return toEdgeMap(scores);
+    }
+
+    /**
+     * Accumulate the dependencies of a set of sources.
+     * 
+     * @param sources the source vertex indices, may contain duplicates
+     * @param vertices whether to accumulate vertex or edge dependencies
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the sum of the dependencies, indexed by vertex or by edge
+     */
+    double[] accumulate(int[] sources, boolean vertices, int parallelism)
+    {
+        int n = snapshot.vertexCount();
+        int size = vertices ? n : edges.size();
+        List<Workspace> all = new ArrayList<>();
+        ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(() -> {
+            Workspace ws = new Workspace(n, size, vertices);
+            synchronized (all) {
+                all.add(ws);
+            }
+            return ws;
+        });
+        try {
+            ParallelLoops.forEach(sources.length, parallelism, i -> workspaces.get().run(sources[i]));
+        } finally {
+            // the loop may run in the calling thread, which must not keep its workspace
+            workspaces.remove();
+        }
+
+        double[] scores = new double[size];
+        for (Workspace ws : all) {
+            for (int i = 0; i < size; i++) {
+                scores[i] += ws.scores[i];
+            }
+        }
+        return scores;
+    }
+
+    Map<V, Double> toVertexMap(double[] scores)
+    {
+        Map<V, Double> result = new HashMap<>();
+        for (int i = 0; i < scores.length; i++) {
+            result.put(snapshot.vertexAt(i), scores[i]);
+        }
+        return result;
+    }
+
+    Map<E, Double> toEdgeMap(double[] scores)
+    {
+        Map<E, Double> result = new HashMap<>();
+        for (int i = 0; i < scores.length; i++) {
+            result.put(edges.get(i), scores[i]);
+        }
+        return result;
+    }
+
+    static void scale(double[] scores, double factor)
+    {
+        if (factor != 1d) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] *= factor;
+            }
+        }
+    }
+
+    private int[] allSources()
+    {
+        int[] sources = new int[snapshot.vertexCount()];
+        Arrays.setAll(sources, i -> i);
+        return sources;
+    }
+
+    /**
+     * Per thread state. Only the vertices reached from a source are reset after its run, thus a
+     * run costs time proportional to the part of the graph it explores. Predecessors are not
+     * recorded, the dependencies are pulled from the successors on the shortest paths instead, thus
+     * the state takes space linear in the number of vertices.
+     */
+    private class Workspace
+    {
+        final double[] scores;
+        final boolean vertexScores;
+
+        final double[] distance;
+        final double[] sigma;
+        final double[] delta;
+        final int[] order;
+        int reached;
+
+        // indexed binary heap for weighted graphs, -1 never inserted, -2 settled
+        final int[] heap;
+        final int[] position;
+        int heapSize;
+
+        // settle order of each reached vertex for weighted graphs, since zero weight edges join
+        // vertices at equal distance
+        final int[] rank;
+
+        Workspace(int n, int size, boolean vertexScores)
+        {
+            this.scores = new double[size];
+            this.vertexScores = vertexScores;
+            this.distance = new double[n];
+            this.sigma = new double[n];
+            this.delta = new double[n];
+            this.order = new int[n];
+            this.heap = weighted ? new int[n] : null;
+            this.position = weighted ? new int[n] : null;
+            this.rank = weighted ? new int[n] : null;
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            if (weighted) {
+                Arrays.fill(position, -1);
+            }
+        }
+
+        void run(int source)
+        {
+            reached = 0;
+            distance[source] = 0d;
+            sigma[source] = 1d;
+            if (weighted) {
+                dijkstra(source);
+            } else {
+                bfs(source);
+            }
+
+            // accumulate in reverse settle order, every successor w of v on a shortest path is
+            // settled after v and thus already has its final dependency
+            int[] offsets = snapshot.getOffsets();
+            int[] targets = snapshot.getTargets();
+            double[] weights = snapshot.getWeights();
+            for (int i = reached - 1; i >= 0; i--) {
+                int v = order[i];
+                double dv = distance[v];
+                double sv = sigma[v];
+                double dependency = 0d;
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int w = targets[j];
+                    if (dv + (weighted ? weights[j] : 1d) != distance[w]
+                        || weighted && rank[w] <= i)
+                    {
+                        continue;
+                    }
+                    double c = sv / sigma[w] * (1d + delta[w]);
+                    dependency += c;
+                    if (!vertexScores) {
+                        scores[edgeOfEntry[j]] += c;
+                    }
+                }
+                delta[v] = dependency;
+                if (vertexScores && v != source) {
+                    scores[v] += dependency;
+                }
+            }
+
+            // reset the reached part
+            for (int i = 0; i < reached; i++) {
+                int v = order[i];
+                distance[v] = Double.POSITIVE_INFINITY;
+                sigma[v] = 0d;
+                delta[v] = 0d;
+                if (weighted) {
+                    position[v] = -1;
+                }
+            }
+        }
+
+        private void bfs(int source)
+        {
+            int[] offsets = snapshot.getOffsets();
+            int[] targets = snapshot.getTargets();
+            order[reached++] = source;
+            for (int head = 0; head < reached; head++) {
+                int v = order[head];
+                double dw = distance[v] + 1d;
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int w = targets[j];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = dw;
+                        order[reached++] = w;
+                    }
+                    if (distance[w] == dw) {
+                        sigma[w] += sigma[v];
+                    }
+                }
+            }
+        }
+
+        private void dijkstra(int source)
+        {
+            int[] offsets = snapshot.getOffsets();
+            int[] targets = snapshot.getTargets();
+            double[] weights = snapshot.getWeights();
+            heapSize = 0;
+            insert(source);
+            while (heapSize > 0) {
+                int v = deleteMin();
+                rank[v] = reached;
+                order[reached++] = v;
+                double dv = distance[v];
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int w = targets[j];
+                    if (position[w] == -2) {
+                        continue;
+                    }
+                    double dw = dv + weights[j];
+                    if (dw < distance[w]) {
+                        distance[w] = dw;
+                        sigma[w] = 0d;
+                        if (position[w] == -1) {
+                            insert(w);
+                        } else {
+                            siftUp(position[w]);
+                        }
+                    }
+                    if (dw == distance[w]) {
+                        sigma[w] += sigma[v];
+                    }
+                }
+            }
+        }
+
+        private void insert(int v)
+        {
+            heap[heapSize] = v;
+            position[v] = heapSize;
+            siftUp(heapSize++);
+        }
+
+        private int deleteMin()
+        {
+            int min = heap[0];
+            position[min] = -2;
+            heapSize--;
+            if (heapSize > 0) {
+                heap[0] = heap[heapSize];
+                position[heap[0]] = 0;
+                siftDown(0);
+            }
+            return min;
+        }
+
+        private void siftUp(int i)
+        {
+            int v = heap[i];
+            double key = distance[v];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = heap[parent];
+                if (distance[p] <= key) {
+                    break;
+                }
+                heap[i] = p;
+                position[p] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        private void siftDown(int i)
+        {
+            int v = heap[i];
+            double key = distance[v];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && distance[heap[child + 1]] < distance[heap[child]]) {
+                    child++;
+                }
+                int c = heap[child];
+                if (key <= distance[c]) {
+                    break;
+                }
+                heap[i] = c;
+                position[c] = i;
+                i = child;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+    }
+}
@@ -0,0 +1,629 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.scoring;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.util.ParallelLoops;
+import org.jgrapht.capi.graph.CsrSnapshot;
+import org.jgrapht.graph.EdgeReversedGraph;
+
+/**
+ * PageRank, Katz and eigenvector centrality by power iteration over a compressed sparse row
+ * snapshot of the incoming edges. Scores are kept in primitive arrays indexed by the iteration
+ * order of the vertex set and each iteration computes the sparse matrix-vector product in blocks
+ * of rows distributed among the threads of a fork-join pool.
+ * 
+ * <p>
+ * The iterations, the convergence test and the parameters follow
+ * {@link org.jgrapht.alg.scoring.PageRank}, {@link org.jgrapht.alg.scoring.KatzCentrality} and
+ * {@link org.jgrapht.alg.scoring.EigenvectorCentrality}. Iteration stops when the maximum
+ * change of a score is less than the tolerance or after the maximum number of iterations.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ParallelPowerIteration<V, E>
+{
+    private static final int BLOCK_SIZE = 1024;
+
+    private final CsrSnapshot<V, E> in;
+    private final int n;
+    private final int blocks;
+    private final int parallelism;
+    private final boolean countLoopsTwice;
+    private double[] outWeight;
+    private int iterations;
+
+    /**
+     * Create a new instance. The graph is copied into a snapshot, thus later changes of the graph
+     * are not reflected.
+     * 
+     * @param graph the input graph
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     */
+    public ParallelPowerIteration(Graph<V, E> graph, int parallelism)
+    {
+        Graph<V, E> g = graph;
+        if (graph.getType().isDirected()) {
+            g = new EdgeReversedGraph<>(graph);
+        }
+        this.in = new CsrSnapshot<>(g);
+        this.n = in.vertexCount();
+        this.blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.parallelism = ParallelLoops.parallelism(parallelism);
+        // self-loops have degree two in undirected unweighted graphs
+        this.countLoopsTwice = !graph.getType().isDirected() && !graph.getType().isWeighted();
+    }
+
+    /**
+     * Get the snapshot whose vertex order indexes the score arrays.
+     * 
+     * @return the snapshot of the incoming edges
+     */
+    public CsrSnapshot<V, E> getSnapshot()
+    {
+        return in;
+    }
+
+    /**
+     * Get the number of iterations performed by the last computation.
+     * 
+     * @return the number of iterations
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * Convert a score array into a map from vertices to scores.
+     * 
+     * @param scores the scores indexed by vertex index
+     * @return the scores map
+     */
+    public Map<V, Double> toMap(double[] scores)
+    {
+        Map<V, Double> result = new HashMap<>(Math.max(16, 2 * n));
+        for (int v = 0; v < n; v++) {
+            result.put(in.vertexAt(v), scores[v]);
+        }
+        return result;
+    }
+
+    /**
+     * Compute PageRank starting from the uniform vector.
+     * 
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @return the scores indexed by vertex index
+     */
+    public double[] pageRank(double dampingFactor, int maxIterations, double tolerance)
+    {
+        return pageRank(dampingFactor, maxIterations, tolerance, null);
+    }
+
+    /**
+     * Compute PageRank.
+     * 
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @param initial the initial scores indexed by vertex index, if null the uniform vector
+     * @return the scores indexed by vertex index
+     */
+    public double[] pageRank(
+        double dampingFactor, int maxIterations, double tolerance, double[] initial)
+    {
+        checkPageRankParameters(dampingFactor, maxIterations, tolerance);
+        int[] iterationsRes = new int[1];
+        double[] scores = pageRank(
+            dampingFactor, maxIterations, tolerance, initial, null, parallelism, iterationsRes);
+        iterations = iterationsRes[0];
+        return scores;
+    }
+
+    /**
+     * Compute personalized PageRank. Random jumps, as well as the rank of vertices without
+     * outgoing edges, go to the seed vertices in proportion to their weights instead of to all
+     * vertices uniformly. Iteration starts from the seed distribution.
+     * 
+     * @param dampingFactor the damping factor
+     * @param seeds the seed vertex indices, may contain duplicates whose weights are added
+     * @param weights the weight of each seed, if null all seeds have the same weight
+     * @param maxIterations the maximum number of iterations
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @return the scores indexed by vertex index
+     * @throws IllegalArgumentException if a seed is invalid, a weight is negative or all weights
+     *         are zero
+     */
+    public double[] personalizedPageRank(
+        double dampingFactor, int[] seeds, double[] weights, int maxIterations, double tolerance)
+    {
+        checkPageRankParameters(dampingFactor, maxIterations, tolerance);
+        double[] personalization = personalization(seeds, weights);
+        int[] iterationsRes = new int[1];
+        double[] scores = pageRank(
+            dampingFactor, maxIterations, tolerance, personalization, personalization,
+            parallelism, iterationsRes);
+        iterations = iterationsRes[0];
+        return scores;
+    }
+
+    /**
+     * Compute personalized PageRank for many seed sets. The seed sets are distributed among the
+     * threads and each one is computed sequentially. The number of iterations of this instance is
+     * set to the maximum over all seed sets.
+     * 
+     * @param dampingFactor the damping factor
+     * @param seeds the seed vertex indices of each seed set
+     * @param weights the seed weights of each seed set, if null or if an entry is null all seeds
+     *        of the set have the same weight
+     * @param maxIterations the maximum number of iterations
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @param consumer the consumer of the results, called concurrently from the worker threads
+     * @throws IllegalArgumentException if a seed is invalid, a weight is negative or all weights
+     *         of a seed set are zero
+     */
+    public void personalizedPageRank(
+        double dampingFactor, int[][] seeds, double[][] weights, int maxIterations,
+        double tolerance, ScoresConsumer consumer)
+    {
+        checkPageRankParameters(dampingFactor, maxIterations, tolerance);
+        if (weights != null && weights.length != seeds.length) {
+            throw new IllegalArgumentException("Seeds and weights must have the same length");
+        }
+        double[][] personalizations = new double[seeds.length][];
+        for (int i = 0; i < seeds.length; i++) {
+            personalizations[i] = personalization(seeds[i], weights != null ? weights[i] : null);
+        }
+
+        int[] maxIterationsDone = new int[1];
+        ParallelLoops.forEach(seeds.length, parallelism, i -> {
+            int[] iterationsRes = new int[1];
+            double[] scores = pageRank(
+                dampingFactor, maxIterations, tolerance, personalizations[i], personalizations[i],
+                1, iterationsRes);
+            personalizations[i] = null;
+            synchronized (maxIterationsDone) {
+                maxIterationsDone[0] = Math.max(maxIterationsDone[0], iterationsRes[0]);
+            }
+            consumer.accept(i, scores, iterationsRes[0]);
+        });
+        iterations = maxIterationsDone[0];
+    }
+
+    /**
+     * Select the vertices with the highest scores. Ties are broken in favor of the smaller vertex
+     * index.
+     * 
+     * @param scores the scores indexed by vertex index
+     * @param k the number of vertices to select
+     * @param topVertices array of length at least k which receives the selected vertex indices in
+     *        order of decreasing score
+     * @param topScores array of length at least k which receives the scores of the selected
+     *        vertices
+     * @return the number of selected vertices, which is less than k if there are fewer vertices
+     */
+    public static int topK(double[] scores, int k, int[] topVertices, double[] topScores)
+    {
+        // min-heap of the best vertices so far, the worst one at the root
+        int size = 0;
+        for (int v = 0; v < scores.length && k > 0; v++) {
+            if (size < k) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (!worse(scores, v, topVertices[parent])) {
+                        break;
+                    }
+                    topVertices[i] = topVertices[parent];
+                    i = parent;
+                }
+                topVertices[i] = v;
+            } else if (worse(scores, topVertices[0], v)) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size
+                        && worse(scores, topVertices[child + 1], topVertices[child]))
+                    {
+                        child++;
+                    }
+                    if (!worse(scores, topVertices[child], v)) {
+                        break;
+                    }
+                    topVertices[i] = topVertices[child];
+                    i = child;
+                }
+                topVertices[i] = v;
+            }
+        }
+
+        // repeatedly move the worst vertex to the end
+        for (int end = size - 1; end > 0; end--) {
+            int v = topVertices[end];
+            topVertices[end] = topVertices[0];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= end) {
+                    break;
+                }
+                if (child + 1 < end && worse(scores, topVertices[child + 1], topVertices[child])) {
+                    child++;
+                }
+                if (!worse(scores, topVertices[child], v)) {
+                    break;
+                }
+                topVertices[i] = topVertices[child];
+                i = child;
+            }
+            topVertices[i] = v;
+        }
+        for (int i = 0; i < size; i++) {
+            topScores[i] = scores[topVertices[i]];
+        }
+        return size;
+    }
+
+    /**
+     * Receives the scores of one seed set.
+     */
+    @FunctionalInterface
+    public interface ScoresConsumer
+    {
+        /**
+         * Accept the scores of one seed set.
+         * 
+         * @param i the position of the seed set
+         * @param scores the scores indexed by vertex index
+         * @param iterations the number of iterations performed
+         */
+        void accept(int i, double[] scores, int iterations);
+    }
+
+    private static boolean worse(double[] scores, int u, int v)
+    {
+        return scores[u] < scores[v] || (scores[u] == scores[v] && u > v);
+    }
+
+    private static void checkPageRankParameters(
+        double dampingFactor, int maxIterations, double tolerance)
+    {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        }
+        if (dampingFactor < 0.0 || dampingFactor > 1.0) {
+            throw new IllegalArgumentException("Damping factor not valid");
+        }
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+    }
+
+    private double[] personalization(int[] seeds, double[] weights)
+    {
+        if (weights != null && weights.length != seeds.length) {
+            throw new IllegalArgumentException("Seeds and weights must have the same length");
+        }
+        double[] personalization = new double[n];
+        double total = 0d;
+        for (int i = 0; i < seeds.length; i++) {
+            int s = seeds[i];
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("no such vertex in graph: " + s);
+            }
+            double w = weights != null ? weights[i] : 1d;
+            if (w < 0d || Double.isNaN(w)) {
+                throw new IllegalArgumentException("Seed weights must be non-negative");
+            }
+            personalization[s] += w;
+            total += w;
+        }
+        if (!(total > 0d)) {
+            throw new IllegalArgumentException("Seed weights must not be all zero");
+        }
+        for (int v = 0; v < n; v++) {
+            personalization[v] /= total;
+        }
+        return personalization;
+    }
+
+    private double[] outWeight()
+    {
+        synchronized (this) {
+            if (outWeight == null) {
+                int[] offsets = in.getOffsets();
+                int[] targets = in.getTargets();
+                double[] weights = in.getWeights();
+                double[] result = new double[n];
+                for (int v = 0; v < n; v++) {
+                    for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                        int u = targets[j];
+                        result[u] += weights[j];
+                        if (countLoopsTwice && u == v) {
+                            result[u] += weights[j];
+                        }
+                    }
+                }
+                outWeight = result;
+            }
+            return outWeight;
+        }
+    }
+
+    /**
+     * The PageRank iteration. With a personalization vector the rank of random jumps and of
+     * vertices without outgoing edges is distributed according to it, otherwise uniformly.
+     */
+    private double[] pageRank(
+        double dampingFactor, int maxIterations, double tolerance, double[] initial,
+        double[] personalization, int parallelism, int[] iterationsRes)
+    {
+        int[] offsets = in.getOffsets();
+        int[] targets = in.getTargets();
+        double[] weights = in.getWeights();
+        double[] outWeight = outWeight();
+
+        double[][] cur = new double[1][];
+        if (initial != null) {
+            cur[0] = Arrays.copyOf(initial, n);
+        } else {
+            cur[0] = new double[n];
+            Arrays.fill(cur[0], 1d / n);
+        }
+        double[][] next = { new double[n] };
+        double[] share = new double[n];
+        double[] blockSum = new double[blocks];
+        double[] blockMax = new double[blocks];
+
+        run(parallelism, () -> {
+            int iteration = 0;
+            double maxChange = tolerance;
+            while (iteration < maxIterations && maxChange >= tolerance) {
+                double[] x = cur[0];
+                double[] y = next[0];
+
+                // rank of dangling vertices and random jumps
+                forEachBlock(parallelism, b -> {
+                    double sum = 0d;
+                    for (int v = b * BLOCK_SIZE, end = Math.min(n, v + BLOCK_SIZE); v < end; v++) {
+                        if (outWeight[v] > 0d) {
+                            sum += (1d - dampingFactor) * x[v];
+                            share[v] = dampingFactor * x[v] / outWeight[v];
+                        } else {
+                            sum += x[v];
+                            share[v] = 0d;
+                        }
+                    }
+                    blockSum[b] = sum;
+                });
+                double total = sum(blockSum);
+                double r = total / n;
+
+                forEachBlock(parallelism, b -> {
+                    double max = 0d;
+                    for (int v = b * BLOCK_SIZE, end = Math.min(n, v + BLOCK_SIZE); v < end; v++) {
+                        double contribution = 0d;
+                        for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                            contribution += share[targets[j]] * weights[j];
+                        }
+                        if (personalization != null) {
+                            y[v] = total * personalization[v] + contribution;
+                        } else {
+                            y[v] = r + contribution;
+                        }
+                        max = Math.max(max, Math.abs(y[v] - x[v]));
+                    }
+                    blockMax[b] = max;
+                });
+                maxChange = max(blockMax);
+
+                cur[0] = y;
+                next[0] = x;
+                iteration++;
+            }
+            iterationsRes[0] = iteration;
+        });
+        return cur[0];
+    }
+
+    /**
+     * Compute Katz centrality.
+     * 
+     * @param dampingFactor the damping factor
+     * @param exogenousFactors the exogenous factor of each vertex index
+     * @param maxIterations the maximum number of iterations
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @return the scores indexed by vertex index
+     */
+    public double[] katz(
+        double dampingFactor, double[] exogenousFactors, int maxIterations, double tolerance)
+    {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        }
+        if (dampingFactor < 0.0) {
+            throw new IllegalArgumentException("Damping factor not valid");
+        }
+        if (exogenousFactors.length != n) {
+            throw new IllegalArgumentException("Exogenous factors must contain one value per vertex");
+        }
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+
+        int[] offsets = in.getOffsets();
+        int[] targets = in.getTargets();
+        double[] weights = in.getWeights();
+
+        double[][] cur = { Arrays.copyOf(exogenousFactors, n) };
+        double[][] next = { new double[n] };
+        double[] blockMax = new double[blocks];
+
+        iterations = 0;
+        run(parallelism, () -> {
+            double maxChange = tolerance;
+            while (iterations < maxIterations && maxChange >= tolerance) {
+                double[] x = cur[0];
+                double[] y = next[0];
+
+                forEachBlock(parallelism, b -> {
+                    double max = 0d;
+                    for (int v = b * BLOCK_SIZE, end = Math.min(n, v + BLOCK_SIZE); v < end; v++) {
+                        double contribution = 0d;
+                        for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                            contribution += x[targets[j]] * weights[j];
+                        }
+                        y[v] = dampingFactor * contribution + exogenousFactors[v];
+                        max = Math.max(max, Math.abs(y[v] - x[v]));
+                    }
+                    blockMax[b] = max;
+                });
+                maxChange = max(blockMax);
+
+                cur[0] = y;
+                next[0] = x;
+                iterations++;
+            }
+        });
+        return cur[0];
+    }
+
+    /**
+     * Compute eigenvector centrality. Scores are normalized to unit euclidean norm.
+     * 
+     * @param maxIterations the maximum number of iterations
+     * @param tolerance the maximum change of a score in order to stop iterating
+     * @return the scores indexed by vertex index
+     */
+    public double[] eigenvector(int maxIterations, double tolerance)
+    {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        }
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+
+        int[] offsets = in.getOffsets();
+        int[] targets = in.getTargets();
+        double[] weights = in.getWeights();
+
+        double[][] cur = { new double[n] };
+        Arrays.fill(cur[0], 1d / Math.sqrt(n));
+        double[][] next = { new double[n] };
+        double[] blockSum = new double[blocks];
+        double[] blockMax = new double[blocks];
+
+        iterations = 0;
+        run(parallelism, () -> {
+            double maxChange = tolerance;
+            while (iterations < maxIterations && maxChange >= tolerance) {
+                double[] x = cur[0];
+                double[] y = next[0];
+
+                forEachBlock(parallelism, b -> {
+                    double sumOfSquares = 0d;
+                    for (int v = b * BLOCK_SIZE, end = Math.min(n, v + BLOCK_SIZE); v < end; v++) {
+                        double contribution = 0d;
+                        for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                            contribution += x[targets[j]] * weights[j];
+                        }
+                        y[v] = contribution;
+                        sumOfSquares += contribution * contribution;
+                    }
+                    blockSum[b] = sumOfSquares;
+                });
+                double norm = Math.sqrt(sum(blockSum));
+                if (norm == 0d) {
+                    // no edges, all scores vanish
+                    Arrays.fill(y, 0d);
+                    cur[0] = y;
+                    next[0] = x;
+                    iterations++;
+                    break;
+                }
+
+                forEachBlock(parallelism, b -> {
+                    double max = 0d;
+                    for (int v = b * BLOCK_SIZE, end = Math.min(n, v + BLOCK_SIZE); v < end; v++) {
+                        y[v] /= norm;
+                        max = Math.max(max, Math.abs(y[v] - x[v]));
+                    }
+                    blockMax[b] = max;
+                });
+                maxChange = max(blockMax);
+
+                cur[0] = y;
+                next[0] = x;
+                iterations++;
+            }
+        });
+        return cur[0];
+    }
+
+    private void run(int parallelism, Runnable task)
+    {
+        if (parallelism == 1 || blocks <= 1) {
+            task.run();
+        } else {
+            ParallelLoops.execute(parallelism, task);
+        }
+    }
+
+    private void forEachBlock(int parallelism, IntConsumer body)
+    {
+        if (parallelism == 1 || blocks <= 1) {
+            for (int b = 0; b < blocks; b++) {
+                body.accept(b);
+            }
+        } else {
+            IntStream.range(0, blocks).parallel().forEach(body);
+        }
+    }
+
+    private static double sum(double[] values)
+    {
+        double sum = 0d;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static double max(double[] values)
+    {
+        double max = 0d;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+}
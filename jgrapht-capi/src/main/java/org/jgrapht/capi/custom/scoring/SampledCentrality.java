@@ -0,0 +1,227 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.scoring;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.shortestpath.MultiSourceDijkstra;
+import org.jgrapht.capi.graph.CsrSnapshot;
+import org.jgrapht.graph.EdgeReversedGraph;
+
+/**
+ * Approximate betweenness, closeness and harmonic centrality by sampling a subset of the vertices
+ * uniformly at random and running single source shortest paths only from them.
+ * 
+ * <p>
+ * Betweenness centrality sums the dependencies of the sampled sources and scales them by $n/k$,
+ * see U. Brandes and C. Pich, Centrality estimation in large networks, 2007. Closeness and
+ * harmonic centrality estimate the sum of distances of each vertex from the distances to the
+ * sampled pivots, see D. Eppstein and J. Wang, Fast approximation of centrality, 2004. When the
+ * number of samples is given as a target error $\epsilon$, $\lceil \ln n / \epsilon^2 \rceil$
+ * samples are used, which by the Hoeffding bound of Eppstein and Wang gives an additive error of
+ * at most $\epsilon$ times the diameter on the average distance with high probability. When the
+ * sample covers all vertices the scores are exact.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class SampledCentrality<V, E>
+{
+    private final Graph<V, E> graph;
+    private final int n;
+    private final int[] sources;
+    private final List<V> vertices;
+
+    /**
+     * Create a new instance.
+     * 
+     * @param graph the input graph
+     * @param samples the number of samples, if not positive it is computed from epsilon
+     * @param epsilon the target error, only used if samples is not positive
+     * @param seed the seed of the random number generator
+     * @throws IllegalArgumentException if neither the number of samples nor epsilon is positive
+     */
+    public SampledCentrality(Graph<V, E> graph, int samples, double epsilon, long seed)
+    {
+        this.graph = graph;
+        this.n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(graph.vertexSet());
+
+        int k = sampleSize(n, samples, epsilon);
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+        Random rng = new Random(seed);
+        for (int i = 0; i < k; i++) {
+            int j = i + rng.nextInt(n - i);
+            int tmp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = tmp;
+        }
+        this.sources = new int[k];
+        System.arraycopy(permutation, 0, sources, 0, k);
+    }
+
+    /**
+     * Compute the number of samples.
+     * 
+     * @param n the number of vertices
+     * @param samples the number of samples, if not positive it is computed from epsilon
+     * @param epsilon the target error, only used if samples is not positive
+     * @return the number of samples, at most n
+     * @throws IllegalArgumentException if neither the number of samples nor epsilon is positive
+     */
+    public static int sampleSize(int n, int samples, double epsilon)
+    {
+        long k;
+        if (samples > 0) {
+            k = samples;
+        } else if (epsilon > 0d) {
+            k = Math.max(1L, (long) Math.ceil(Math.log(n) / (epsilon * epsilon)));
+        } else {
+            throw new IllegalArgumentException("Number of samples or epsilon must be positive");
+        }
+        return (int) Math.min(k, n);
+    }
+
+    /**
+     * Get the realized number of samples.
+     * 
+     * @return the number of samples
+     */
+    public int getSampleSize()
+    {
+        return sources.length;
+    }
+
+    /**
+     * Compute approximate betweenness centrality.
+     * 
+     * @param normalize whether to divide the scores by $(n-1)(n-2)$
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each vertex
+     */
+    public Map<V, Double> getBetweennessScores(boolean normalize, int parallelism)
+    {
+        ParallelBetweennessCentrality<V, E> alg = new ParallelBetweennessCentrality<>(graph);
+        double factor = sources.length == 0 ? 1d : (double) n / sources.length;
+        return alg.toVertexMap(alg.getVertexScoresArray(sources, factor, normalize, parallelism));
+    }
+
+    /**
+     * Compute approximate closeness centrality.
+     * 
+     * @param incoming whether to use distances to each vertex instead of from each vertex
+     * @param normalize whether to multiply the scores by $n-1$
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each vertex
+     */
+    public Map<V, Double> getClosenessScores(boolean incoming, boolean normalize, int parallelism)
+    {
+        double[] sums = estimateSums(incoming, false, parallelism);
+        Map<V, Double> scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            // a vertex without any other pivot has no estimate
+            scores.put(vertices.get(i), sums[i] == 0d ? 0d : (normalize ? n - 1 : 1d) / sums[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * Compute approximate harmonic centrality.
+     * 
+     * @param incoming whether to use distances to each vertex instead of from each vertex
+     * @param normalize whether to divide the scores by $n-1$
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @return the score of each vertex
+     */
+    public Map<V, Double> getHarmonicScores(boolean incoming, boolean normalize, int parallelism)
+    {
+        double[] sums = estimateSums(incoming, true, parallelism);
+        Map<V, Double> scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            scores.put(vertices.get(i), normalize && n > 1 ? sums[i] / (n - 1) : sums[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * Estimate for each vertex the sum of its distances, or of their reciprocals, to all other
+     * vertices. Outgoing distances of a vertex to the pivots are computed by running from each
+     * pivot on the reversed graph.
+     */
+    private double[] estimateSums(boolean incoming, boolean reciprocal, int parallelism)
+    {
+        Graph<V, E> g = graph;
+        if (!incoming && graph.getType().isDirected()) {
+            g = new EdgeReversedGraph<>(graph);
+        }
+        MultiSourceDijkstra<V, E> alg = new MultiSourceDijkstra<>(new CsrSnapshot<>(g));
+
+        List<double[]> all = new ArrayList<>();
+        ThreadLocal<double[]> accumulators = ThreadLocal.withInitial(() -> {
+            double[] sums = new double[n];
+            synchronized (all) {
+                all.add(sums);
+            }
+            return sums;
+        });
+        try {
+            alg.run(sources, parallelism, (i, distance, predecessor) -> {
+                double[] sums = accumulators.get();
+                int s = sources[i];
+                for (int v = 0; v < n; v++) {
+                    if (v != s) {
+                        sums[v] += reciprocal ? 1d / distance[v] : distance[v];
+                    }
+                }
+            });
+        } finally {
+            // the loop may run in the calling thread, which must not keep its sums
+            accumulators.remove();
+        }
+
+        double[] sums = new double[n];
+        for (double[] partial : all) {
+            for (int v = 0; v < n; v++) {
+                sums[v] += partial[v];
+            }
+        }
+
+        // scale by the number of pivots other than the vertex itself
+        boolean[] sampled = new boolean[n];
+        for (int s : sources) {
+            sampled[s] = true;
+        }
+        int k = sources.length;
+        for (int v = 0; v < n; v++) {
+            int others = sampled[v] ? k - 1 : k;
+            sums[v] = others == 0 ? 0d : sums[v] * (n - 1) / others;
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.shortestpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+
+/**
+ * Binary persistence of a {@link ContractionHierarchy}. The file stores the contraction level of
+ * each vertex and all contraction edges, with shortcuts referring to the edges they bypass, so
+ * that loading only rebuilds the objects without repeating the preprocessing.
+ * 
+ * <p>
+ * Vertices and edges of the original graph are stored as positions in the iteration order of its
+ * vertex and edge sets. The file therefore carries a fingerprint of the graph, computed over the
+ * graph type, the numeric vertex and edge identifiers, the edge endpoints and the edge weights in
+ * iteration order, and a hierarchy can only be loaded against a graph with the same fingerprint.
+ * 
+ * <p>
+ * The hierarchy classes of jgrapht-core have no public constructors, thus they are created
+ * reflectively. The classes are registered in the reflection configuration of the native image.
+ */
+public class ContractionHierarchyIO
+{
+    private static final int MAGIC = 0x4A474348; // "JGCH"
+    private static final int VERSION = 1;
+
+    private static final int FLAG_IN_GRAPH = 1;
+    private static final int FLAG_UPWARD = 2;
+    private static final int FLAG_SHORTCUT = 4;
+
+    private ContractionHierarchyIO()
+    {
+    }
+
+    /**
+     * Compute a fingerprint of a graph. The fingerprint depends on the iteration order of the
+     * vertices and edges.
+     * 
+     * @param graph the graph
+     * @return the fingerprint
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> long fingerprint(Graph<V, E> graph)
+    {
+        Map<V, Integer> index = new HashMap<>();
+        long h = mix(0L, graph.getType().isDirected() ? 1 : 2);
+        h = mix(h, graph.vertexSet().size());
+        h = mix(h, graph.edgeSet().size());
+        for (V v : graph.vertexSet()) {
+            index.put(v, index.size());
+            h = mix(h, stableHash(v));
+        }
+        for (E e : graph.edgeSet()) {
+            h = mix(h, stableHash(e));
+            h = mix(h, index.get(graph.getEdgeSource(e)));
+            h = mix(h, index.get(graph.getEdgeTarget(e)));
+            h = mix(h, Double.doubleToLongBits(graph.getEdgeWeight(e)));
+        }
+        return h;
+    }
+
+    /**
+     * Write a contraction hierarchy to a file.
+     * 
+     * @param ch the contraction hierarchy
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> void write(ContractionHierarchy<V, E> ch, File file)
+        throws IOException
+    {
+        Graph<V, E> graph = ch.getGraph();
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            ch.getContractionGraph();
+        Map<V, ContractionVertex<V>> mapping = ch.getContractionMapping();
+
+        Map<E, Integer> edgeIndex = new HashMap<>();
+        for (E e : graph.edgeSet()) {
+            edgeIndex.put(e, edgeIndex.size());
+        }
+
+        // order the contraction edges such that bypassed edges come first
+        Map<ContractionEdge<E>, Integer> order = new IdentityHashMap<>();
+        List<ContractionEdge<E>> ordered = new ArrayList<>();
+        Deque<ContractionEdge<E>> stack = new ArrayDeque<>();
+        for (ContractionEdge<E> root : contractionGraph.edgeSet()) {
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                ContractionEdge<E> e = stack.peek();
+                if (order.containsKey(e)) {
+                    stack.pop();
+                    continue;
+                }
+                Pair<ContractionEdge<E>, ContractionEdge<E>> skipped = Reflection.skippedEdges(e);
+                if (skipped != null && !order.containsKey(skipped.getFirst())) {
+                    stack.push(skipped.getFirst());
+                } else if (skipped != null && !order.containsKey(skipped.getSecond())) {
+                    stack.push(skipped.getSecond());
+                } else {
+                    stack.pop();
+                    order.put(e, ordered.size());
+                    ordered.add(e);
+                }
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(file), 1 << 16)))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(fingerprint(graph));
+            out.writeInt(graph.vertexSet().size());
+            out.writeInt(ordered.size());
+
+            for (V v : graph.vertexSet()) {
+                ContractionVertex<V> cv = mapping.get(v);
+                out.writeInt(Reflection.vertexId(cv));
+                out.writeInt(Reflection.contractionLevel(cv));
+            }
+
+            for (ContractionEdge<E> e : ordered) {
+                Pair<ContractionEdge<E>, ContractionEdge<E>> skipped = Reflection.skippedEdges(e);
+                boolean inGraph = contractionGraph.containsEdge(e);
+                int flags = (inGraph ? FLAG_IN_GRAPH : 0)
+                    | (Reflection.isUpward(e) ? FLAG_UPWARD : 0)
+                    | (skipped != null ? FLAG_SHORTCUT : 0);
+                out.writeByte(flags);
+                if (inGraph) {
+                    out.writeInt(Reflection.vertexId(contractionGraph.getEdgeSource(e)));
+                    out.writeInt(Reflection.vertexId(contractionGraph.getEdgeTarget(e)));
+                    out.writeDouble(contractionGraph.getEdgeWeight(e));
+                }
+                if (skipped != null) {
+                    out.writeInt(order.get(skipped.getFirst()));
+                    out.writeInt(order.get(skipped.getSecond()));
+                } else {
+                    out.writeInt(edgeIndex.get(Reflection.edge(e)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a contraction hierarchy of a graph from a file.
+     * 
+     * @param graph the graph, which must have the same fingerprint as the graph of the written
+     *        hierarchy
+     * @param file the file
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error, an invalid file or a different graph
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> ContractionHierarchy<V, E> read(Graph<V, E> graph, File file)
+        throws IOException
+    {
+        try (DataInputStream in =
+            new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16)))
+        {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a contraction hierarchy file: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported contraction hierarchy file version: " + version);
+            }
+            if (in.readLong() != fingerprint(graph)) {
+                throw new IOException("Contraction hierarchy was computed for a different graph");
+            }
+            int n = in.readInt();
+            int numEdges = in.readInt();
+            if (n != graph.vertexSet().size() || numEdges < 0) {
+                throw new IOException("Corrupted contraction hierarchy file: " + file);
+            }
+
+            List<E> edges = new ArrayList<>(graph.edgeSet());
+            Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+                .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+                .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+            Map<V, ContractionVertex<V>> mapping = new HashMap<>();
+
+            List<ContractionVertex<V>> byId = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                byId.add(null);
+            }
+            for (V v : graph.vertexSet()) {
+                int id = in.readInt();
+                int level = in.readInt();
+                if (id < 0 || id >= n || byId.get(id) != null) {
+                    throw new IOException("Corrupted contraction hierarchy file: " + file);
+                }
+                ContractionVertex<V> cv = Reflection.newVertex(v, id, level);
+                byId.set(id, cv);
+                mapping.put(v, cv);
+                contractionGraph.addVertex(cv);
+            }
+
+            List<ContractionEdge<E>> ordered = new ArrayList<>(numEdges);
+            for (int i = 0; i < numEdges; i++) {
+                int flags = in.readByte();
+                int source = -1, target = -1;
+                double weight = 0d;
+                if ((flags & FLAG_IN_GRAPH) != 0) {
+                    source = in.readInt();
+                    target = in.readInt();
+                    weight = in.readDouble();
+                    if (source < 0 || source >= n || target < 0 || target >= n) {
+                        throw new IOException("Corrupted contraction hierarchy file: " + file);
+                    }
+                }
+                ContractionEdge<E> e;
+                if ((flags & FLAG_SHORTCUT) != 0) {
+                    int first = in.readInt();
+                    int second = in.readInt();
+                    if (first < 0 || first >= i || second < 0 || second >= i) {
+                        throw new IOException("Corrupted contraction hierarchy file: " + file);
+                    }
+                    e = Reflection.newShortcut(Pair.of(ordered.get(first), ordered.get(second)));
+                } else {
+                    int edge = in.readInt();
+                    if (edge < 0 || edge >= edges.size()) {
+                        throw new IOException("Corrupted contraction hierarchy file: " + file);
+                    }
+                    e = Reflection.newEdge(edges.get(edge));
+                }
+                Reflection.setUpward(e, (flags & FLAG_UPWARD) != 0);
+                ordered.add(e);
+                if ((flags & FLAG_IN_GRAPH) != 0) {
+                    contractionGraph.addEdge(byId.get(source), byId.get(target), e);
+                    contractionGraph.setEdgeWeight(e, weight);
+                }
+            }
+
+            return Reflection.newHierarchy(graph, contractionGraph, mapping);
+        }
+    }
+
+    /**
+     * Identity based hash codes differ between processes, thus only numeric identifiers are
+     * included in the fingerprint.
+     */
+    private static long stableHash(Object o)
+    {
+        return o instanceof Number ? ((Number) o).longValue() : 0L;
+    }
+
+    private static long mix(long h, long value)
+    {
+        // splitmix64 finalizer over the running hash
+        long z = h * 0x9E3779B97F4A7C15L + value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Reflective access to the package private members of the hierarchy classes.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static class Reflection
+    {
+        private static final Field VERTEX_ID;
+        private static final Field CONTRACTION_LEVEL;
+        private static final Field EDGE;
+        private static final Field SKIPPED_EDGES;
+        private static final Field IS_UPWARD;
+        private static final Constructor<ContractionVertex> VERTEX_CONSTRUCTOR;
+        private static final Constructor<ContractionEdge> EDGE_CONSTRUCTOR;
+        private static final Constructor<ContractionEdge> SHORTCUT_CONSTRUCTOR;
+        private static final Constructor<ContractionHierarchy> HIERARCHY_CONSTRUCTOR;
+
+        static {
+            try {
+                VERTEX_ID = accessible(ContractionVertex.class.getDeclaredField("vertexId"));
+                CONTRACTION_LEVEL =
+                    accessible(ContractionVertex.class.getDeclaredField("contractionLevel"));
+                EDGE = accessible(ContractionEdge.class.getDeclaredField("edge"));
+                SKIPPED_EDGES = accessible(ContractionEdge.class.getDeclaredField("skippedEdges"));
+                IS_UPWARD = accessible(ContractionEdge.class.getDeclaredField("isUpward"));
+                VERTEX_CONSTRUCTOR = accessible(
+                    ContractionVertex.class.getDeclaredConstructor(Object.class, int.class));
+                EDGE_CONSTRUCTOR =
+                    accessible(ContractionEdge.class.getDeclaredConstructor(Object.class));
+                SHORTCUT_CONSTRUCTOR =
+                    accessible(ContractionEdge.class.getDeclaredConstructor(Pair.class));
+                HIERARCHY_CONSTRUCTOR = accessible(
+                    ContractionHierarchy.class
+                        .getDeclaredConstructor(Graph.class, Graph.class, Map.class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        static int vertexId(ContractionVertex<?> v)
+        {
+            try {
+                return VERTEX_ID.getInt(v);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static int contractionLevel(ContractionVertex<?> v)
+        {
+            try {
+                return CONTRACTION_LEVEL.getInt(v);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static <E> E edge(ContractionEdge<E> e)
+        {
+            try {
+                return (E) EDGE.get(e);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        static <E> Pair<ContractionEdge<E>, ContractionEdge<E>> skippedEdges(ContractionEdge<E> e)
+        {
+            try {
+                return (Pair<ContractionEdge<E>, ContractionEdge<E>>) SKIPPED_EDGES.get(e);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        static boolean isUpward(ContractionEdge<?> e)
+        {
+            try {
+                return IS_UPWARD.getBoolean(e);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        static void setUpward(ContractionEdge<?> e, boolean upward)
+        {
+            try {
+                IS_UPWARD.setBoolean(e, upward);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        static <V> ContractionVertex<V> newVertex(V v, int id, int level)
+        {
+            try {
+                ContractionVertex<V> cv = VERTEX_CONSTRUCTOR.newInstance(v, id);
+                CONTRACTION_LEVEL.setInt(cv, level);
+                return cv;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static <E> ContractionEdge<E> newEdge(E e)
+        {
+            try {
+                return EDGE_CONSTRUCTOR.newInstance(e);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        static <E> ContractionEdge<E> newShortcut(
+            Pair<ContractionEdge<E>, ContractionEdge<E>> skippedEdges)
+        {
+            try {
+                return SHORTCUT_CONSTRUCTOR.newInstance(skippedEdges);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        static <V, E> ContractionHierarchy<V, E> newHierarchy(
+            Graph<V, E> graph, Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph,
+            Map<V, ContractionVertex<V>> mapping)
+        {
+            try {
+                return HIERARCHY_CONSTRUCTOR.newInstance(graph, contractionGraph, mapping);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        private static <T extends AccessibleObject> T accessible(T object)
+        {
+            object.setAccessible(true);
+            return object;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.shortestpath;
+
+import java.util.Arrays;
+
+import org.jgrapht.capi.custom.util.ParallelLoops;
+import org.jgrapht.capi.graph.CsrSnapshot;
+
+/**
+ * Dijkstra's algorithm from many sources over a compressed sparse row snapshot. Each source is
+ * processed independently using primitive arrays and an indexed binary heap, and the sources are
+ * distributed among the threads of a fork-join pool.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class MultiSourceDijkstra<V, E>
+{
+    /**
+     * Receives the result of one source.
+     */
+    @FunctionalInterface
+    public interface ResultConsumer
+    {
+        /**
+         * Accept the result of one source. The arrays are reused afterwards and must not be
+         * retained.
+         * 
+         * @param i the position of the source in the sources array
+         * @param distance the distance of each vertex index, infinity if unreachable
+         * @param predecessor the predecessor vertex index of each vertex index, -1 for the source
+         *        and unreachable vertices
+         */
+        void accept(int i, double[] distance, int[] predecessor);
+    }
+
+    private final CsrSnapshot<V, E> snapshot;
+
+    /**
+     * Create a new instance.
+     * 
+     * @param snapshot the graph snapshot
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public MultiSourceDijkstra(CsrSnapshot<V, E> snapshot)
+    {
+        this.snapshot = snapshot;
+        for (double w : snapshot.getWeights()) {
+            if (w < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+    }
+
+    /**
+     * Run the algorithm from each source.
+     * 
+     * @param sources the source vertex indices
+     * @param parallelism the number of threads, if not positive the number of available
+     *        processors is used
+     * @param consumer the consumer of the results, called concurrently from the worker threads
+     */
+    public void run(int[] sources, int parallelism, ResultConsumer consumer)
+    {
+        int n = snapshot.vertexCount();
+        for (int s : sources) {
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("no such vertex in graph: " + s);
+            }
+        }
+
+        ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(() -> new Workspace(n));
+        try {
+            ParallelLoops.forEach(sources.length, parallelism, i -> {
+                Workspace ws = workspaces.get();
+                ws.run(sources[i]);
+                consumer.accept(i, ws.distance, ws.predecessor);
+            });
+        } finally {
+            // the loop may run in the calling thread, which must not keep its workspace
+            workspaces.remove();
+        }
+    }
+
+    /**
+     * Per thread state, an indexed binary heap keyed by the tentative distances.
+     */
+    private class Workspace
+    {
+        final double[] distance;
+        final int[] predecessor;
+        final int[] heap;
+        final int[] position;
+        int size;
+
+        Workspace(int n)
+        {
+            this.distance = new double[n];
+            this.predecessor = new int[n];
+            this.heap = new int[n];
+            this.position = new int[n];
+        }
+
+        void run(int source)
+        {
+            int[] offsets = snapshot.getOffsets();
+            int[] targets = snapshot.getTargets();
+            double[] weights = snapshot.getWeights();
+
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            Arrays.fill(predecessor, -1);
+            // -1 never inserted, -2 settled
+            Arrays.fill(position, -1);
+            size = 0;
+
+            distance[source] = 0d;
+            insert(source);
+            while (size > 0) {
+                int v = deleteMin();
+                double dv = distance[v];
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int u = targets[j];
+                    if (position[u] == -2) {
+                        continue;
+                    }
+                    double du = dv + weights[j];
+                    if (du < distance[u]) {
+                        distance[u] = du;
+                        predecessor[u] = v;
+                        if (position[u] == -1) {
+                            insert(u);
+                        } else {
+                            siftUp(position[u]);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void insert(int v)
+        {
+            heap[size] = v;
+            position[v] = size;
+            siftUp(size++);
+        }
+
+        private int deleteMin()
+        {
+            int min = heap[0];
+            position[min] = -2;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                position[heap[0]] = 0;
+                siftDown(0);
+            }
+            return min;
+        }
+
+        private void siftUp(int i)
+        {
+            int v = heap[i];
+            double key = distance[v];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = heap[parent];
+                if (distance[p] <= key) {
+                    break;
+                }
+                heap[i] = p;
+                position[p] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        private void siftDown(int i)
+        {
+            int v = heap[i];
+            double key = distance[v];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distance[heap[child + 1]] < distance[heap[child]]) {
+                    child++;
+                }
+                int c = heap[child];
+                if (key <= distance[c]) {
+                    break;
+                }
+                heap[i] = c;
+                position[c] = i;
+                i = child;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+    }
+}
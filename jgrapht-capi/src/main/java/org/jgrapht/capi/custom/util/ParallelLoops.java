@@ -0,0 +1,98 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel loops over an integer range executed in a dedicated fork-join pool.
+ */
+public class ParallelLoops
+{
+    private ParallelLoops()
+    {
+    }
+
+    /**
+     * Resolve the requested parallelism.
+     * 
+     * @param parallelism the requested parallelism, if not positive the number of available
+     *        processors is used
+     * @return the actual parallelism
+     */
+    public static int parallelism(int parallelism)
+    {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Execute a loop body for each index from 0 (inclusive) to n (exclusive). The loop runs in the
+     * calling thread when the parallelism is one.
+     * 
+     * @param n the number of iterations
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @param body the loop body, called concurrently from the worker threads
+     */
+    public static void forEach(int n, int parallelism, IntConsumer body)
+    {
+        parallelism = parallelism(parallelism);
+        if (parallelism == 1 || n <= 1) {
+            for (int i = 0; i < n; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+
+        execute(parallelism, () -> IntStream.range(0, n).parallel().forEach(body));
+    }
+
+    /**
+     * Execute a task in a dedicated fork-join pool and wait for it to complete. Parallel streams
+     * used by the task run in the same pool, which allows a task with many parallel phases to
+     * create the pool only once.
+     * 
+     * @param parallelism the number of threads, if not positive the number of available processors
+     *        is used
+     * @param task the task
+     */
+    public static void execute(int parallelism, Runnable task)
+    {
+        ForkJoinPool pool = new ForkJoinPool(parallelism(parallelism));
+        try {
+            pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
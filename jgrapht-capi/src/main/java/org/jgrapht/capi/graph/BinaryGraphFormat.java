@@ -0,0 +1,377 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.capi.attributes.GraphAttributesStore;
+import org.jgrapht.nio.Attribute;
+import org.jgrapht.nio.AttributeType;
+import org.jgrapht.nio.DefaultAttribute;
+import org.jgrapht.nio.ImportException;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Compact binary exchange format for graphs with integer or long vertices and
+ * edges.
+ * 
+ * The file starts with an uncompressed header of four little-endian ints: a
+ * magic number, the version, the flags and a reserved zero. The body follows,
+ * optionally deflate compressed, and contains in little-endian order
+ * <ul>
+ * <li>the number of vertices as a long followed by the vertices,</li>
+ * <li>the number of edges as a long followed by the source, target, edge and
+ * weight (if weighted) of each edge,</li>
+ * <li>if attributes are included, the graph attributes, followed by the
+ * vertices and the edges which have attributes.</li>
+ * </ul>
+ * Vertices and edges are stored as ints or longs depending on the flags. A list
+ * of attributes is an int count followed by the name, type and value of each
+ * attribute, each one as an int byte length followed by the UTF-8 bytes.
+ */
+public class BinaryGraphFormat {
+
+	private static final int MAGIC = 0x4252474A; // "JGRB" in little-endian
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 16;
+
+	private static final int FLAG_DIRECTED = 1;
+	private static final int FLAG_WEIGHTED = 2;
+	private static final int FLAG_LONG_IDS = 4;
+	private static final int FLAG_COMPRESSED = 8;
+	private static final int FLAG_ATTRIBUTES = 16;
+
+	private static final int STREAM_BUFFER_BYTES = 1 << 16;
+
+	private BinaryGraphFormat() {
+	}
+
+	/**
+	 * Write a graph.
+	 * 
+	 * @param graph the graph
+	 * @param file the file
+	 * @param longIds whether to store vertices and edges as longs instead of ints
+	 * @param compress whether to deflate compress the body
+	 * @param attributes whether to include the attributes of the graph, if any
+	 * @throws IOException in case of an I/O error
+	 */
+	public static <V extends Number, E extends Number> void write(Graph<V, E> graph, File file, boolean longIds,
+			boolean compress, boolean attributes) throws IOException {
+		GraphType graphType = graph.getType();
+		if (graphType.isMixed()) {
+			throw new IllegalArgumentException("Mixed graphs are not supported");
+		}
+		boolean weighted = graphType.isWeighted();
+		GraphAttributesStore<V, E> store = null;
+		if (attributes && graph instanceof GraphWithAttributes) {
+			store = ((GraphWithAttributes<V, E>) graph).getStore();
+		}
+
+		int flags = (graphType.isDirected() ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0)
+				| (longIds ? FLAG_LONG_IDS : 0) | (compress ? FLAG_COMPRESSED : 0)
+				| (store != null ? FLAG_ATTRIBUTES : 0);
+
+		try (OutputStream out = new FileOutputStream(file)) {
+			LittleEndianWriter header = new LittleEndianWriter(out);
+			header.writeInt(MAGIC);
+			header.writeInt(VERSION);
+			header.writeInt(flags);
+			header.writeInt(0);
+			header.flush();
+
+			Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+			try {
+				OutputStream body = compress
+						? new DeflaterOutputStream(out, deflater, STREAM_BUFFER_BYTES)
+						: out;
+				LittleEndianWriter w = new LittleEndianWriter(body);
+
+				w.writeLong(graph.vertexSet().size());
+				for (V v : graph.vertexSet()) {
+					writeId(w, v, longIds);
+				}
+				w.writeLong(graph.edgeSet().size());
+				for (E e : graph.edgeSet()) {
+					writeId(w, graph.getEdgeSource(e), longIds);
+					writeId(w, graph.getEdgeTarget(e), longIds);
+					writeId(w, e, longIds);
+					if (weighted) {
+						w.writeDouble(graph.getEdgeWeight(e));
+					}
+				}
+
+				if (store != null) {
+					writeAttributes(w, store.getGraphAttributes());
+					writeElementAttributes(w, graph.vertexSet(), store::getVertexAttributes, longIds);
+					writeElementAttributes(w, graph.edgeSet(), store::getEdgeAttributes, longIds);
+				}
+
+				w.flush();
+				if (compress) {
+					((DeflaterOutputStream) body).finish();
+				}
+			} finally {
+				if (deflater != null) {
+					deflater.end();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read a graph and add it to an existing graph.
+	 * 
+	 * If the identifiers are preserved, the vertices and edges of the file are
+	 * added as they are, otherwise they are created by the graph suppliers. In both
+	 * cases an edge which the graph refuses, because it already exists or because
+	 * the graph does not allow multiple edges, fails the import. Attributes are
+	 * restored only if the target graph supports attributes.
+	 * 
+	 * @param graph the graph to add to
+	 * @param file the file
+	 * @param preserveIds whether to keep the vertices and edges of the file
+	 * @param vertexOf conversion from the stored vertex
+	 * @param edgeOf conversion from the stored edge
+	 * @throws IOException in case of an I/O error
+	 * @throws ImportException in case of an invalid file
+	 */
+	public static <V, E> void read(Graph<V, E> graph, File file, boolean preserveIds, LongFunction<V> vertexOf,
+			LongFunction<E> edgeOf) throws IOException {
+		try (InputStream in = new BufferedInputStream(new FileInputStream(file), STREAM_BUFFER_BYTES)) {
+			// read exactly the header, the body might be a separate compressed stream
+			byte[] headerBytes = new byte[HEADER_BYTES];
+			new DataInputStream(in).readFully(headerBytes);
+			ByteBuffer header = ByteBuffer.wrap(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt(0) != MAGIC) {
+				throw new ImportException("Not a binary graph file: " + file);
+			}
+			int version = header.getInt(4);
+			if (version != VERSION) {
+				throw new ImportException("Unsupported binary graph file version: " + version);
+			}
+			int flags = header.getInt(8);
+
+			boolean weighted = (flags & FLAG_WEIGHTED) != 0;
+			boolean longIds = (flags & FLAG_LONG_IDS) != 0;
+			boolean compressed = (flags & FLAG_COMPRESSED) != 0;
+			boolean hasAttributes = (flags & FLAG_ATTRIBUTES) != 0;
+			boolean setWeights = weighted && graph.getType().isWeighted();
+			GraphAttributesStore<V, E> store = null;
+			if (hasAttributes && graph instanceof GraphWithAttributes) {
+				store = ((GraphWithAttributes<V, E>) graph).getStore();
+			}
+
+			InputStream body = compressed ? new InflaterInputStream(in) : in;
+			try {
+				LittleEndianReader r = new LittleEndianReader(body);
+
+				long n = readCount(r);
+				Long2ObjectOpenHashMap<V> vertices = new Long2ObjectOpenHashMap<>();
+				for (long i = 0; i < n; i++) {
+					long id = readId(r, longIds);
+					V v;
+					if (preserveIds) {
+						v = vertexOf.apply(id);
+						graph.addVertex(v);
+					} else {
+						v = graph.addVertex();
+						vertices.put(id, v);
+					}
+				}
+
+				long m = readCount(r);
+				Long2ObjectOpenHashMap<E> edges = new Long2ObjectOpenHashMap<>();
+				for (long i = 0; i < m; i++) {
+					V s = vertex(readId(r, longIds), preserveIds, vertexOf, vertices);
+					V t = vertex(readId(r, longIds), preserveIds, vertexOf, vertices);
+					long id = readId(r, longIds);
+					double weight = weighted ? r.readDouble() : Graph.DEFAULT_EDGE_WEIGHT;
+					E e;
+					boolean added;
+					if (preserveIds) {
+						e = edgeOf.apply(id);
+						added = graph.addEdge(s, t, e);
+					} else {
+						e = graph.addEdge(s, t);
+						added = e != null;
+					}
+					if (!added) {
+						throw new ImportException(
+								"Edge " + id + " already exists or is not allowed by the graph type");
+					}
+					if (!preserveIds && hasAttributes) {
+						edges.put(id, e);
+					}
+					if (setWeights) {
+						graph.setEdgeWeight(e, weight);
+					}
+				}
+
+				if (hasAttributes) {
+					Map<String, Attribute> attrs = readAttributes(r);
+					if (store != null) {
+						for (Map.Entry<String, Attribute> a : attrs.entrySet()) {
+							store.putGraphAttribute(a.getKey(), a.getValue());
+						}
+					}
+					long count = readCount(r);
+					for (long i = 0; i < count; i++) {
+						V v = vertex(readId(r, longIds), preserveIds, vertexOf, vertices);
+						attrs = readAttributes(r);
+						if (store != null) {
+							for (Map.Entry<String, Attribute> a : attrs.entrySet()) {
+								store.putVertexAttribute(v, a.getKey(), a.getValue());
+							}
+						}
+					}
+					count = readCount(r);
+					for (long i = 0; i < count; i++) {
+						long id = readId(r, longIds);
+						E e = preserveIds ? edgeOf.apply(id) : edges.get(id);
+						attrs = readAttributes(r);
+						if (store != null && e != null) {
+							for (Map.Entry<String, Attribute> a : attrs.entrySet()) {
+								store.putEdgeAttribute(e, a.getKey(), a.getValue());
+							}
+						}
+					}
+				}
+			} catch (ArithmeticException e) {
+				throw new ImportException("Identifier out of range, use long identifiers", e);
+			} finally {
+				if (compressed) {
+					((InflaterInputStream) body).close();
+				}
+			}
+		}
+	}
+
+	private static void writeId(LittleEndianWriter w, Number id, boolean longIds) throws IOException {
+		long value = id.longValue();
+		if (longIds) {
+			w.writeLong(value);
+		} else if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Identifier out of range, use long identifiers: " + value);
+		} else {
+			w.writeInt((int) value);
+		}
+	}
+
+	private static long readId(LittleEndianReader r, boolean longIds) throws IOException {
+		return longIds ? r.readLong() : r.readInt();
+	}
+
+	private static long readCount(LittleEndianReader r) throws IOException {
+		long count = r.readLong();
+		if (count < 0) {
+			throw new ImportException("Invalid count: " + count);
+		}
+		return count;
+	}
+
+	private static <V> V vertex(long id, boolean preserveIds, LongFunction<V> vertexOf,
+			Long2ObjectOpenHashMap<V> vertices) {
+		V v = preserveIds ? vertexOf.apply(id) : vertices.get(id);
+		if (v == null) {
+			throw new ImportException("Unknown vertex: " + id);
+		}
+		return v;
+	}
+
+	private static <T extends Number> void writeElementAttributes(LittleEndianWriter w, Iterable<T> elements,
+			Function<T, Map<String, Attribute>> attributesOf, boolean longIds)
+			throws IOException {
+		long count = 0;
+		for (T element : elements) {
+			if (!attributesOf.apply(element).isEmpty()) {
+				count++;
+			}
+		}
+		w.writeLong(count);
+		for (T element : elements) {
+			Map<String, Attribute> attrs = attributesOf.apply(element);
+			if (!attrs.isEmpty()) {
+				writeId(w, element, longIds);
+				writeAttributes(w, attrs);
+			}
+		}
+	}
+
+	private static void writeAttributes(LittleEndianWriter w, Map<String, Attribute> attrs) throws IOException {
+		w.writeInt(attrs.size());
+		for (Map.Entry<String, Attribute> a : attrs.entrySet()) {
+			writeString(w, a.getKey());
+			writeString(w, a.getValue().getType().toString());
+			writeString(w, a.getValue().getValue());
+		}
+	}
+
+	private static Map<String, Attribute> readAttributes(LittleEndianReader r) throws IOException {
+		int count = r.readInt();
+		if (count < 0) {
+			throw new ImportException("Invalid count: " + count);
+		}
+		Map<String, Attribute> attrs = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			String name = readString(r);
+			AttributeType type = AttributeType.create(readString(r));
+			attrs.put(name, new DefaultAttribute<>(readString(r), type));
+		}
+		return attrs;
+	}
+
+	private static void writeString(LittleEndianWriter w, String value) throws IOException {
+		if (value == null) {
+			w.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		w.writeInt(bytes.length);
+		w.writeBytes(bytes);
+	}
+
+	private static String readString(LittleEndianReader r) throws IOException {
+		int length = r.readInt();
+		if (length < 0) {
+			return null;
+		}
+		return new String(r.readBytes(length), StandardCharsets.UTF_8);
+	}
+
+}
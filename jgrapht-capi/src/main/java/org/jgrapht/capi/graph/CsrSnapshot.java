@@ -0,0 +1,159 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * An immutable compressed sparse row snapshot of a graph in Java arrays, used by
+ * algorithms which need fast primitive traversals. Vertices are indexed 0 up to
+ * n-1 in the iteration order of the vertex set. Row i contains the entries from
+ * offsets[i] up to offsets[i+1], one for each outgoing edge in directed graphs
+ * and one for each incident edge in undirected graphs.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class CsrSnapshot<V, E> {
+
+	private final boolean directed;
+	private final List<V> vertices;
+	private final Object2IntOpenHashMap<V> index;
+	private final int[] offsets;
+	private final int[] targets;
+	private final double[] weights;
+	private final List<E> edges;
+
+	public CsrSnapshot(Graph<V, E> graph) {
+		this.directed = graph.getType().isDirected();
+		int n = graph.vertexSet().size();
+		this.vertices = new ArrayList<>(n);
+		this.index = new Object2IntOpenHashMap<>(n);
+		this.index.defaultReturnValue(-1);
+		for (V v : graph.vertexSet()) {
+			index.put(v, vertices.size());
+			vertices.add(v);
+		}
+
+		this.offsets = new int[n + 1];
+		for (int i = 0; i < n; i++) {
+			offsets[i + 1] = Math.addExact(offsets[i], graph.outgoingEdgesOf(vertices.get(i)).size());
+		}
+		int m = offsets[n];
+		this.targets = new int[m];
+		this.weights = new double[m];
+		this.edges = new ArrayList<>(m);
+		int pos = 0;
+		for (int i = 0; i < n; i++) {
+			V v = vertices.get(i);
+			for (E e : graph.outgoingEdgesOf(v)) {
+				targets[pos] = index.getInt(Graphs.getOppositeVertex(graph, e, v));
+				weights[pos] = graph.getEdgeWeight(e);
+				edges.add(e);
+				pos++;
+			}
+		}
+	}
+
+	/**
+	 * Whether the snapshot was taken from a directed graph.
+	 * 
+	 * @return whether the snapshot was taken from a directed graph
+	 */
+	public boolean isDirected() {
+		return directed;
+	}
+
+	/**
+	 * Get the number of vertices.
+	 * 
+	 * @return the number of vertices
+	 */
+	public int vertexCount() {
+		return vertices.size();
+	}
+
+	/**
+	 * Get the index of a vertex.
+	 * 
+	 * @param v the vertex
+	 * @return the index of the vertex
+	 * @throws IllegalArgumentException if the vertex is not part of the graph
+	 */
+	public int indexOf(V v) {
+		int i = index.getInt(v);
+		if (i == -1) {
+			throw new IllegalArgumentException("no such vertex in graph: " + v);
+		}
+		return i;
+	}
+
+	/**
+	 * Get the vertex at an index.
+	 * 
+	 * @param i the index
+	 * @return the vertex
+	 */
+	public V vertexAt(int i) {
+		return vertices.get(i);
+	}
+
+	/**
+	 * Get the edge of an entry.
+	 * 
+	 * @param entry the entry
+	 * @return the edge
+	 */
+	public E edgeAt(int entry) {
+		return edges.get(entry);
+	}
+
+	/**
+	 * Get the row offsets. The returned array must not be modified.
+	 * 
+	 * @return the row offsets
+	 */
+	public int[] getOffsets() {
+		return offsets;
+	}
+
+	/**
+	 * Get the target row of each entry. The returned array must not be modified.
+	 * 
+	 * @return the target row of each entry
+	 */
+	public int[] getTargets() {
+		return targets;
+	}
+
+	/**
+	 * Get the weight of each entry. The returned array must not be modified.
+	 * 
+	 * @return the weight of each entry
+	 */
+	public double[] getWeights() {
+		return weights;
+	}
+
+}
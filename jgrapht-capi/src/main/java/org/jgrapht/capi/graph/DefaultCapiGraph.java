@@ -41,6 +41,16 @@ public class DefaultCapiGraph<V, E> extends GraphDelegator<V, E> implements Capi
 		this.store = new GraphAttributesStore<>();
 	}
 
+	/**
+	 * Get the wrapped graph.
+	 * 
+	 * @return the wrapped graph
+	 */
+	@Override
+	public Graph<V, E> getDelegate() {
+		return graph;
+	}
+
 	@Override
 	public GraphAttributesStore<V, E> getStore() {
 		return store;
@@ -0,0 +1,487 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.AbstractGraph;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * An immutable copy of a graph which is safe to query concurrently from many
+ * threads. All structures, including the incoming edges of directed graphs, are
+ * materialized eagerly during construction and stored in final arrays, thus
+ * queries never mutate any state and the graph is safely published to every
+ * thread which obtains it after construction.
+ * 
+ * <p>
+ * The iteration order of vertices and edges is the same as in the original
+ * graph. The returned sets are lightweight unmodifiable views. The vertices and
+ * edges must provide hash codes and equality which are themselves safe to call
+ * concurrently.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class FrozenGraph<V, E> extends AbstractGraph<V, E> {
+
+	private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+	private final GraphType type;
+	private final boolean directed;
+
+	private final Object[] vertices;
+	private final Object2IntOpenHashMap<V> vertexIndex;
+	private final Object[] edges;
+	private final Object2IntOpenHashMap<E> edgeIndex;
+	private final int[] sources;
+	private final int[] targets;
+	private final double[] weights;
+
+	/*
+	 * Edge indices per vertex. Undirected graphs only use the incident edges,
+	 * where self-loops appear once.
+	 */
+	private final int[] incidentOffsets;
+	private final int[] incidentEdges;
+	private final int[] outOffsets;
+	private final int[] outEdges;
+	private final int[] inOffsets;
+	private final int[] inEdges;
+	private final int[] loops;
+
+	/**
+	 * Create an immutable copy of a graph.
+	 * 
+	 * @param graph the graph
+	 */
+	public FrozenGraph(Graph<V, E> graph) {
+		this.type = graph.getType().asUnmodifiable();
+		this.directed = type.isDirected();
+
+		int n = graph.vertexSet().size();
+		this.vertices = new Object[n];
+		this.vertexIndex = new Object2IntOpenHashMap<>(n);
+		this.vertexIndex.defaultReturnValue(-1);
+		for (V v : graph.vertexSet()) {
+			vertices[vertexIndex.size()] = v;
+			vertexIndex.put(v, vertexIndex.size());
+		}
+
+		int m = graph.edgeSet().size();
+		this.edges = new Object[m];
+		this.edgeIndex = new Object2IntOpenHashMap<>(m);
+		this.edgeIndex.defaultReturnValue(-1);
+		this.sources = new int[m];
+		this.targets = new int[m];
+		this.weights = type.isWeighted() ? new double[m] : null;
+		this.loops = new int[n];
+		for (E e : graph.edgeSet()) {
+			int i = edgeIndex.size();
+			edges[i] = e;
+			edgeIndex.put(e, i);
+			sources[i] = vertexIndex.getInt(graph.getEdgeSource(e));
+			targets[i] = vertexIndex.getInt(graph.getEdgeTarget(e));
+			if (weights != null) {
+				weights[i] = graph.getEdgeWeight(e);
+			}
+			if (sources[i] == targets[i]) {
+				loops[sources[i]]++;
+			}
+		}
+
+		this.incidentOffsets = new int[n + 1];
+		this.incidentEdges = fill(graph, n, Direction.INCIDENT, incidentOffsets);
+		if (directed) {
+			this.outOffsets = new int[n + 1];
+			this.outEdges = fill(graph, n, Direction.OUT, outOffsets);
+			this.inOffsets = new int[n + 1];
+			this.inEdges = fill(graph, n, Direction.IN, inOffsets);
+		} else {
+			this.outOffsets = incidentOffsets;
+			this.outEdges = incidentEdges;
+			this.inOffsets = incidentOffsets;
+			this.inEdges = incidentEdges;
+		}
+	}
+
+	@Override
+	public Set<E> getAllEdges(V sourceVertex, V targetVertex) {
+		int s = vertexIndex.getInt(sourceVertex);
+		int t = vertexIndex.getInt(targetVertex);
+		if (s == -1 || t == -1) {
+			return null;
+		}
+		Set<E> result = new LinkedHashSet<>();
+		for (int i = outOffsets[s]; i < outOffsets[s + 1]; i++) {
+			int e = outEdges[i];
+			if (connects(e, s, t)) {
+				result.add(edgeAt(e));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public E getEdge(V sourceVertex, V targetVertex) {
+		int s = vertexIndex.getInt(sourceVertex);
+		int t = vertexIndex.getInt(targetVertex);
+		if (s == -1 || t == -1) {
+			return null;
+		}
+		for (int i = outOffsets[s]; i < outOffsets[s + 1]; i++) {
+			int e = outEdges[i];
+			if (connects(e, s, t)) {
+				return edgeAt(e);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Supplier<V> getVertexSupplier() {
+		return null;
+	}
+
+	@Override
+	public Supplier<E> getEdgeSupplier() {
+		return null;
+	}
+
+	@Override
+	public E addEdge(V sourceVertex, V targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addEdge(V sourceVertex, V targetVertex, E e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public V addVertex() {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addVertex(V v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean containsEdge(E e) {
+		return edgeIndex.containsKey(e);
+	}
+
+	@Override
+	public boolean containsVertex(V v) {
+		return vertexIndex.containsKey(v);
+	}
+
+	@Override
+	public Set<E> edgeSet() {
+		return new ElementSet<>(edges, edgeIndex);
+	}
+
+	@Override
+	public int degreeOf(V vertex) {
+		int v = vertex(vertex);
+		if (directed) {
+			return outOffsets[v + 1] - outOffsets[v] + inOffsets[v + 1] - inOffsets[v];
+		}
+		// self-loops count twice
+		return incidentOffsets[v + 1] - incidentOffsets[v] + loops[v];
+	}
+
+	@Override
+	public Set<E> edgesOf(V vertex) {
+		int v = vertex(vertex);
+		return new EdgeSet(Direction.INCIDENT, v, incidentEdges, incidentOffsets[v], incidentOffsets[v + 1]);
+	}
+
+	@Override
+	public int inDegreeOf(V vertex) {
+		if (!directed) {
+			return degreeOf(vertex);
+		}
+		int v = vertex(vertex);
+		return inOffsets[v + 1] - inOffsets[v];
+	}
+
+	@Override
+	public Set<E> incomingEdgesOf(V vertex) {
+		if (!directed) {
+			return edgesOf(vertex);
+		}
+		int v = vertex(vertex);
+		return new EdgeSet(Direction.IN, v, inEdges, inOffsets[v], inOffsets[v + 1]);
+	}
+
+	@Override
+	public int outDegreeOf(V vertex) {
+		if (!directed) {
+			return degreeOf(vertex);
+		}
+		int v = vertex(vertex);
+		return outOffsets[v + 1] - outOffsets[v];
+	}
+
+	@Override
+	public Set<E> outgoingEdgesOf(V vertex) {
+		if (!directed) {
+			return edgesOf(vertex);
+		}
+		int v = vertex(vertex);
+		return new EdgeSet(Direction.OUT, v, outEdges, outOffsets[v], outOffsets[v + 1]);
+	}
+
+	@Override
+	public E removeEdge(V sourceVertex, V targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeEdge(E e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeVertex(V v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Set<V> vertexSet() {
+		return new ElementSet<>(vertices, vertexIndex);
+	}
+
+	@Override
+	public V getEdgeSource(E e) {
+		return vertexAt(sources[edge(e)]);
+	}
+
+	@Override
+	public V getEdgeTarget(E e) {
+		return vertexAt(targets[edge(e)]);
+	}
+
+	@Override
+	public GraphType getType() {
+		return type;
+	}
+
+	@Override
+	public double getEdgeWeight(E e) {
+		int i = edge(e);
+		return weights == null ? DEFAULT_EDGE_WEIGHT : weights[i];
+	}
+
+	@Override
+	public void setEdgeWeight(E e, double weight) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	private int vertex(V v) {
+		if (v == null) {
+			throw new NullPointerException();
+		}
+		int i = vertexIndex.getInt(v);
+		if (i == -1) {
+			throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+		}
+		return i;
+	}
+
+	private int edge(E e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+		int i = edgeIndex.getInt(e);
+		if (i == -1) {
+			throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+		}
+		return i;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V vertexAt(int i) {
+		return (V) vertices[i];
+	}
+
+	@SuppressWarnings("unchecked")
+	private E edgeAt(int i) {
+		return (E) edges[i];
+	}
+
+	private boolean connects(int e, int s, int t) {
+		if (sources[e] == s && targets[e] == t) {
+			return true;
+		}
+		return !directed && sources[e] == t && targets[e] == s;
+	}
+
+	private int[] fill(Graph<V, E> graph, int n, Direction direction, int[] offsets) {
+		for (int v = 0; v < n; v++) {
+			offsets[v + 1] = offsets[v] + direction.edgesOf(graph, vertexAt(v)).size();
+		}
+		int[] result = new int[offsets[n]];
+		int pos = 0;
+		for (int v = 0; v < n; v++) {
+			for (E e : direction.edgesOf(graph, vertexAt(v))) {
+				result[pos++] = edgeIndex.getInt(e);
+			}
+		}
+		return result;
+	}
+
+	private enum Direction {
+		INCIDENT, OUT, IN;
+
+		<V, E> Set<E> edgesOf(Graph<V, E> graph, V v) {
+			switch (this) {
+			case OUT:
+				return graph.outgoingEdgesOf(v);
+			case IN:
+				return graph.incomingEdgesOf(v);
+			case INCIDENT:
+			default:
+				return graph.edgesOf(v);
+			}
+		}
+	}
+
+	/**
+	 * Unmodifiable view of the vertex or edge set.
+	 */
+	private static class ElementSet<T> extends AbstractSet<T> {
+
+		private final Object[] elements;
+		private final Object2IntOpenHashMap<T> index;
+
+		ElementSet(Object[] elements, Object2IntOpenHashMap<T> index) {
+			this.elements = elements;
+			this.index = index;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new Iterator<T>() {
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					return next < elements.length;
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public T next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return (T) elements[next++];
+				}
+			};
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean contains(Object o) {
+			return index.containsKey((T) o);
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+
+	}
+
+	/**
+	 * Unmodifiable view of the outgoing, incoming or incident edges of a vertex.
+	 */
+	private class EdgeSet extends AbstractSet<E> {
+
+		private final Direction direction;
+		private final int vertex;
+		private final int[] list;
+		private final int start;
+		private final int end;
+
+		EdgeSet(Direction direction, int vertex, int[] list, int start, int end) {
+			this.direction = direction;
+			this.vertex = vertex;
+			this.list = list;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new Iterator<E>() {
+				private int next = start;
+
+				@Override
+				public boolean hasNext() {
+					return next < end;
+				}
+
+				@Override
+				public E next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return edgeAt(list[next++]);
+				}
+			};
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean contains(Object o) {
+			int e = edgeIndex.getInt((E) o);
+			if (e == -1) {
+				return false;
+			}
+			switch (direction) {
+			case OUT:
+				return sources[e] == vertex;
+			case IN:
+				return targets[e] == vertex;
+			case INCIDENT:
+			default:
+				return sources[e] == vertex || targets[e] == vertex;
+			}
+		}
+
+		@Override
+		public int size() {
+			return end - start;
+		}
+
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import org.jgrapht.Graph;
+import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
+import org.jgrapht.opt.graph.sparse.SparseIntUndirectedGraph;
+import org.jgrapht.sux4j.SuccinctIntDirectedGraph;
+import org.jgrapht.sux4j.SuccinctIntUndirectedGraph;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+
+/**
+ * A bijection between the vertices of an integer graph and the indices 0 up to
+ * n-1. When the vertices are already exactly 0 up to n-1 the bijection is the
+ * identity and no additional memory is used.
+ */
+public class IntVertexIndex {
+
+	private final int n;
+	private final int[] vertices;
+	private final Int2IntOpenHashMap index;
+
+	public IntVertexIndex(Graph<Integer, Integer> graph) {
+		this.n = graph.vertexSet().size();
+		if (isCompact(graph)) {
+			this.vertices = null;
+			this.index = null;
+		} else {
+			this.vertices = new int[n];
+			this.index = new Int2IntOpenHashMap(n);
+			this.index.defaultReturnValue(-1);
+			int i = 0;
+			for (Integer v : graph.vertexSet()) {
+				vertices[i] = v;
+				index.put(v.intValue(), i);
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Whether the bijection is the identity.
+	 * 
+	 * @return whether the bijection is the identity
+	 */
+	public boolean isIdentity() {
+		return vertices == null;
+	}
+
+	/**
+	 * Get the number of vertices.
+	 * 
+	 * @return the number of vertices
+	 */
+	public int size() {
+		return n;
+	}
+
+	/**
+	 * Get the index of a vertex.
+	 * 
+	 * @param v the vertex
+	 * @return the index of the vertex
+	 */
+	public int indexOf(int v) {
+		if (vertices == null) {
+			return v;
+		}
+		int i = index.get(v);
+		if (i == -1) {
+			throw new IllegalArgumentException("no such vertex in graph: " + v);
+		}
+		return i;
+	}
+
+	/**
+	 * Get the vertex at an index.
+	 * 
+	 * @param i the index
+	 * @return the vertex
+	 */
+	public int vertexAt(int i) {
+		return vertices == null ? i : vertices[i];
+	}
+
+	/**
+	 * Check whether the vertices of a graph are exactly 0 up to n-1. Graphs backed
+	 * by a compressed representation always satisfy this and are recognized
+	 * without scanning their vertices.
+	 */
+	private static boolean isCompact(Graph<Integer, Integer> g) {
+		Graph<Integer, Integer> inner = g;
+		if (inner instanceof DefaultCapiGraph) {
+			inner = ((DefaultCapiGraph<Integer, Integer>) inner).getDelegate();
+		}
+		if (inner instanceof SparseIntDirectedGraph || inner instanceof SparseIntUndirectedGraph
+				|| inner instanceof SuccinctIntDirectedGraph || inner instanceof SuccinctIntUndirectedGraph) {
+			return true;
+		}
+		int n = g.vertexSet().size();
+		for (Integer v : g.vertexSet()) {
+			if (v < 0 || v >= n) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Minimal buffered little-endian reader, the counterpart of
+ * {@link LittleEndianWriter}.
+ */
+class LittleEndianReader {
+
+	private final InputStream in;
+	private final ByteBuffer buffer;
+
+	LittleEndianReader(InputStream in) {
+		this.in = in;
+		this.buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+		this.buffer.limit(0);
+	}
+
+	int readInt() throws IOException {
+		ensure(4);
+		return buffer.getInt();
+	}
+
+	long readLong() throws IOException {
+		ensure(8);
+		return buffer.getLong();
+	}
+
+	double readDouble() throws IOException {
+		ensure(8);
+		return buffer.getDouble();
+	}
+
+	byte[] readBytes(int length) throws IOException {
+		byte[] values = new byte[length];
+		int pos = Math.min(length, buffer.remaining());
+		buffer.get(values, 0, pos);
+		while (pos < length) {
+			int read = in.read(values, pos, length - pos);
+			if (read < 0) {
+				throw new EOFException();
+			}
+			pos += read;
+		}
+		return values;
+	}
+
+	private void ensure(int bytes) throws IOException {
+		if (buffer.remaining() >= bytes) {
+			return;
+		}
+		buffer.compact();
+		while (buffer.position() < bytes) {
+			int read = in.read(buffer.array(), buffer.position(), buffer.remaining());
+			if (read < 0) {
+				throw new EOFException();
+			}
+			buffer.position(buffer.position() + read);
+		}
+		buffer.flip();
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Minimal buffered little-endian writer which keeps track of the number of
+ * bytes written. The caller must invoke {@link #flush()} at the end.
+ */
+class LittleEndianWriter {
+
+	private final OutputStream out;
+	private final ByteBuffer buffer;
+	private long position;
+
+	LittleEndianWriter(OutputStream out) {
+		this.out = out;
+		this.buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	long position() {
+		return position;
+	}
+
+	void writeInt(int value) throws IOException {
+		ensure(4);
+		buffer.putInt(value);
+		position += 4;
+	}
+
+	void writeInts(int[] values) throws IOException {
+		for (int value : values) {
+			writeInt(value);
+		}
+	}
+
+	void writeLong(long value) throws IOException {
+		ensure(8);
+		buffer.putLong(value);
+		position += 8;
+	}
+
+	void writeDouble(double value) throws IOException {
+		ensure(8);
+		buffer.putDouble(value);
+		position += 8;
+	}
+
+	void writeBytes(byte[] values) throws IOException {
+		if (values.length > buffer.capacity()) {
+			ensure(buffer.capacity());
+			out.write(values);
+		} else {
+			ensure(values.length);
+			buffer.put(values);
+		}
+		position += values.length;
+	}
+
+	void pad(long target) throws IOException {
+		while (position < target) {
+			ensure(1);
+			buffer.put((byte) 0);
+			position++;
+		}
+	}
+
+	void flush() throws IOException {
+		out.write(buffer.array(), 0, buffer.position());
+		buffer.clear();
+		out.flush();
+	}
+
+	private void ensure(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			out.write(buffer.array(), 0, buffer.position());
+			buffer.clear();
+		}
+	}
+
+}
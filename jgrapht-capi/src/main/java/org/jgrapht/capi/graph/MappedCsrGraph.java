@@ -0,0 +1,795 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+
+/**
+ * A read-only graph with integer vertices and edges backed by a memory-mapped
+ * file in compressed sparse row format. Opening only validates the header, the
+ * structure is paged in lazily by the operating system and the pages are shared
+ * among all processes which map the same file.
+ * 
+ * <p>
+ * Vertices and edges keep the identifiers of the original graph. Internally they
+ * are numbered 0 up to n-1 and 0 up to m-1 in increasing order of identifier.
+ * When the identifiers are exactly these numbers they are not stored, otherwise
+ * the file contains the sorted identifiers and lookups use binary search on
+ * them. Undirected edges are stored once using the source vertex as reported by
+ * the original graph.
+ * 
+ * <p>
+ * The file is little-endian and starts with a header of 32 bytes containing
+ * the magic number, the format version, the flags, n and m. The header is
+ * followed by the outgoing offsets (n+1 ints), the outgoing edges (m ints), the
+ * edge sources (m ints), the edge targets (m ints), the incoming offsets (n+1
+ * ints), the incoming edges (m ints), the vertex identifiers (n ints) if flagged,
+ * the edge identifiers (m ints) if flagged and, if the graph is weighted, the
+ * edge weights (m doubles) aligned at 8 bytes. All sections use the internal
+ * numbers, sources, targets and weights are indexed by edge.
+ */
+public class MappedCsrGraph extends AbstractGraph<Integer, Integer> {
+
+	private static final int MAGIC = 0x4352474A; // "JGRC" in little-endian
+	private static final int VERSION = 2;
+	private static final int HEADER_BYTES = 32;
+
+	private static final int FLAG_DIRECTED = 1;
+	private static final int FLAG_WEIGHTED = 2;
+	private static final int FLAG_SELF_LOOPS = 4;
+	private static final int FLAG_MULTIPLE_EDGES = 8;
+	private static final int FLAG_VERTEX_IDS = 16;
+	private static final int FLAG_EDGE_IDS = 32;
+	private static final int FLAGS = FLAG_DIRECTED | FLAG_WEIGHTED | FLAG_SELF_LOOPS | FLAG_MULTIPLE_EDGES
+			| FLAG_VERTEX_IDS | FLAG_EDGE_IDS;
+
+	private static final int CHUNK_SHIFT = 28;
+	private static final long CHUNK_BYTES = 1L << CHUNK_SHIFT;
+	private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+	private final GraphType type;
+	private final boolean directed;
+	private final boolean weighted;
+	private final int n;
+	private final int m;
+
+	private final MappedByteBuffer[] chunks;
+	private final long outOffsetsPos;
+	private final long outEdgesPos;
+	private final long sourcesPos;
+	private final long targetsPos;
+	private final long inOffsetsPos;
+	private final long inEdgesPos;
+	private final long vertexIdsPos;
+	private final long edgeIdsPos;
+	private final long weightsPos;
+
+	private MappedCsrGraph(MappedByteBuffer[] chunks, int flags, int n, int m) {
+		this.directed = (flags & FLAG_DIRECTED) != 0;
+		this.weighted = (flags & FLAG_WEIGHTED) != 0;
+		DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+		builder = directed ? builder.directed() : builder.undirected();
+		this.type = builder.weighted(weighted).allowSelfLoops((flags & FLAG_SELF_LOOPS) != 0)
+				.allowMultipleEdges((flags & FLAG_MULTIPLE_EDGES) != 0).modifiable(false).build();
+		this.n = n;
+		this.m = m;
+		this.chunks = chunks;
+		this.outOffsetsPos = HEADER_BYTES;
+		this.outEdgesPos = outOffsetsPos + 4L * (n + 1);
+		this.sourcesPos = outEdgesPos + 4L * m;
+		this.targetsPos = sourcesPos + 4L * m;
+		this.inOffsetsPos = targetsPos + 4L * m;
+		this.inEdgesPos = inOffsetsPos + 4L * (n + 1);
+		long pos = inEdgesPos + 4L * m;
+		this.vertexIdsPos = (flags & FLAG_VERTEX_IDS) != 0 ? pos : -1;
+		pos += vertexIdsPos != -1 ? 4L * n : 0;
+		this.edgeIdsPos = (flags & FLAG_EDGE_IDS) != 0 ? pos : -1;
+		pos += edgeIdsPos != -1 ? 4L * m : 0;
+		this.weightsPos = align(pos);
+	}
+
+	/**
+	 * Open a graph file for reading. Only the header is read, thus the cost is
+	 * independent of the size of the graph.
+	 * 
+	 * @param file the file
+	 * @return the graph
+	 * @throws IOException in case of an I/O error or an invalid file
+	 */
+	public static MappedCsrGraph open(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+			long size = channel.size();
+			if (size < HEADER_BYTES) {
+				throw new IOException("Not a graph file: " + file);
+			}
+			int numChunks = (int) ((size + CHUNK_BYTES - 1) >>> CHUNK_SHIFT);
+			MappedByteBuffer[] chunks = new MappedByteBuffer[numChunks];
+			for (int i = 0; i < numChunks; i++) {
+				long start = (long) i << CHUNK_SHIFT;
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_BYTES, size - start));
+				chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+			}
+
+			ByteBuffer header = chunks[0];
+			if (header.getInt(0) != MAGIC) {
+				throw new IOException("Not a graph file: " + file);
+			}
+			if (header.getInt(4) != VERSION) {
+				throw new IOException("Unsupported graph file version: " + header.getInt(4));
+			}
+			int flags = header.getInt(8);
+			if ((flags & ~FLAGS) != 0) {
+				throw new IOException("Unsupported graph file flags: " + flags);
+			}
+			int n = header.getInt(12);
+			int m = header.getInt(16);
+			if (n < 0 || m < 0 || size != fileSize(n, m, flags)) {
+				throw new IOException("Corrupted graph file: " + file);
+			}
+			return new MappedCsrGraph(chunks, flags, n, m);
+		}
+	}
+
+	/**
+	 * Write a graph in the format understood by {@link #open(File)}. Identifiers
+	 * which are exactly 0 up to n-1 for the vertices or 0 up to m-1 for the edges
+	 * are stored implicitly by position, any others are stored in sorted order.
+	 * 
+	 * @param graph the graph
+	 * @param file  the file
+	 * @throws IllegalArgumentException if the graph is mixed
+	 * @throws IOException              in case of an I/O error
+	 */
+	public static void write(Graph<Integer, Integer> graph, File file) throws IOException {
+		GraphType graphType = graph.getType();
+		if (graphType.isMixed()) {
+			throw new IllegalArgumentException("Mixed graphs are not supported");
+		}
+		boolean directed = graphType.isDirected();
+		boolean weighted = graphType.isWeighted();
+		int n = graph.vertexSet().size();
+		int m = graph.edgeSet().size();
+
+		// internal numbers follow the order of the identifiers
+		int[] vertexIds = sortedIds(graph.vertexSet());
+		int[] edgeIds = sortedIds(graph.edgeSet());
+		boolean denseVertices = isDense(vertexIds);
+		boolean denseEdges = isDense(edgeIds);
+
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		double[] weights = weighted ? new double[m] : null;
+		int[] outOffsets = new int[n + 1];
+		int[] inOffsets = new int[n + 1];
+		for (int e = 0; e < m; e++) {
+			Integer id = edgeIds[e];
+			int s = graph.getEdgeSource(id);
+			int t = graph.getEdgeTarget(id);
+			if (!denseVertices) {
+				s = Arrays.binarySearch(vertexIds, s);
+				t = Arrays.binarySearch(vertexIds, t);
+			}
+			sources[e] = s;
+			targets[e] = t;
+			if (weighted) {
+				weights[e] = graph.getEdgeWeight(id);
+			}
+			outOffsets[s + 1]++;
+			inOffsets[t + 1]++;
+		}
+
+		// counting sort of the edges by source and by target
+		for (int i = 0; i < n; i++) {
+			outOffsets[i + 1] += outOffsets[i];
+			inOffsets[i + 1] += inOffsets[i];
+		}
+		int[] outEdges = new int[m];
+		int[] inEdges = new int[m];
+		int[] outFill = new int[n];
+		int[] inFill = new int[n];
+		for (int e = 0; e < m; e++) {
+			int s = sources[e];
+			int t = targets[e];
+			outEdges[outOffsets[s] + outFill[s]++] = e;
+			inEdges[inOffsets[t] + inFill[t]++] = e;
+		}
+
+		int flags = (directed ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0)
+				| (graphType.isAllowingSelfLoops() ? FLAG_SELF_LOOPS : 0)
+				| (graphType.isAllowingMultipleEdges() ? FLAG_MULTIPLE_EDGES : 0)
+				| (denseVertices ? 0 : FLAG_VERTEX_IDS) | (denseEdges ? 0 : FLAG_EDGE_IDS);
+
+		try (OutputStream out = new FileOutputStream(file)) {
+			LittleEndianWriter w = new LittleEndianWriter(out);
+			w.writeInt(MAGIC);
+			w.writeInt(VERSION);
+			w.writeInt(flags);
+			w.writeInt(n);
+			w.writeInt(m);
+			w.pad(HEADER_BYTES);
+			w.writeInts(outOffsets);
+			w.writeInts(outEdges);
+			w.writeInts(sources);
+			w.writeInts(targets);
+			w.writeInts(inOffsets);
+			w.writeInts(inEdges);
+			if (!denseVertices) {
+				w.writeInts(vertexIds);
+			}
+			if (!denseEdges) {
+				w.writeInts(edgeIds);
+			}
+			if (weighted) {
+				w.pad(align(w.position()));
+				for (double weight : weights) {
+					w.writeDouble(weight);
+				}
+			}
+			w.flush();
+		}
+	}
+
+	@Override
+	public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex) {
+		int s = vertexIndex(sourceVertex);
+		int t = vertexIndex(targetVertex);
+		if (s == -1 || t == -1) {
+			return null;
+		}
+		Set<Integer> result = new LinkedHashSet<>();
+		collectEdges(s, t, result);
+		if (!directed && s != t) {
+			collectEdges(t, s, result);
+		}
+		return result;
+	}
+
+	@Override
+	public Integer getEdge(Integer sourceVertex, Integer targetVertex) {
+		int s = vertexIndex(sourceVertex);
+		int t = vertexIndex(targetVertex);
+		if (s == -1 || t == -1) {
+			return null;
+		}
+		int e = findEdge(s, t);
+		if (e == -1 && !directed) {
+			e = findEdge(t, s);
+		}
+		return e == -1 ? null : edgeId(e);
+	}
+
+	@Override
+	public Supplier<Integer> getVertexSupplier() {
+		return null;
+	}
+
+	@Override
+	public Supplier<Integer> getEdgeSupplier() {
+		return null;
+	}
+
+	@Override
+	public Integer addEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Integer addVertex() {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean containsEdge(Integer e) {
+		return edgeIndex(e) != -1;
+	}
+
+	@Override
+	public boolean containsVertex(Integer v) {
+		return vertexIndex(v) != -1;
+	}
+
+	@Override
+	public Set<Integer> edgeSet() {
+		return edgeIdsPos == -1 ? new RangeSet(0, m) : new SortedIdSet(edgeIdsPos, m);
+	}
+
+	@Override
+	public int degreeOf(Integer vertex) {
+		int v = vertex(vertex);
+		return outCount(v) + inCount(v);
+	}
+
+	@Override
+	public Set<Integer> edgesOf(Integer vertex) {
+		return new IncidentSet(vertex(vertex));
+	}
+
+	@Override
+	public int inDegreeOf(Integer vertex) {
+		if (!directed) {
+			return degreeOf(vertex);
+		}
+		return inCount(vertex(vertex));
+	}
+
+	@Override
+	public Set<Integer> incomingEdgesOf(Integer vertex) {
+		if (!directed) {
+			return edgesOf(vertex);
+		}
+		return new AdjacentSet(inOffsetsPos, inEdgesPos, targetsPos, vertex(vertex));
+	}
+
+	@Override
+	public int outDegreeOf(Integer vertex) {
+		if (!directed) {
+			return degreeOf(vertex);
+		}
+		return outCount(vertex(vertex));
+	}
+
+	@Override
+	public Set<Integer> outgoingEdgesOf(Integer vertex) {
+		if (!directed) {
+			return edgesOf(vertex);
+		}
+		return new AdjacentSet(outOffsetsPos, outEdgesPos, sourcesPos, vertex(vertex));
+	}
+
+	@Override
+	public Integer removeEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeEdge(Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Set<Integer> vertexSet() {
+		return vertexIdsPos == -1 ? new RangeSet(0, n) : new SortedIdSet(vertexIdsPos, n);
+	}
+
+	@Override
+	public Integer getEdgeSource(Integer e) {
+		return vertexId(getInt(sourcesPos, edge(e)));
+	}
+
+	@Override
+	public Integer getEdgeTarget(Integer e) {
+		return vertexId(getInt(targetsPos, edge(e)));
+	}
+
+	@Override
+	public GraphType getType() {
+		return type;
+	}
+
+	@Override
+	public double getEdgeWeight(Integer e) {
+		int edge = edge(e);
+		if (!weighted) {
+			return DEFAULT_EDGE_WEIGHT;
+		}
+		long p = weightsPos + 8L * edge;
+		return chunks[(int) (p >>> CHUNK_SHIFT)].getDouble((int) (p & (CHUNK_BYTES - 1)));
+	}
+
+	@Override
+	public void setEdgeWeight(Integer e, double weight) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	private int vertex(Integer v) {
+		if (v == null) {
+			throw new NullPointerException();
+		}
+		int index = vertexIndex(v);
+		if (index == -1) {
+			throw new IllegalArgumentException("no such vertex in graph: " + v);
+		}
+		return index;
+	}
+
+	private int edge(Integer e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+		int index = edgeIndex(e);
+		if (index == -1) {
+			throw new IllegalArgumentException("no such edge in graph: " + e);
+		}
+		return index;
+	}
+
+	/**
+	 * Get the internal number of a vertex, or -1 if the vertex does not exist.
+	 */
+	private int vertexIndex(Integer v) {
+		if (v == null) {
+			return -1;
+		}
+		if (vertexIdsPos == -1) {
+			return v >= 0 && v < n ? v : -1;
+		}
+		return search(vertexIdsPos, n, v);
+	}
+
+	/**
+	 * Get the internal number of an edge, or -1 if the edge does not exist.
+	 */
+	private int edgeIndex(Integer e) {
+		if (e == null) {
+			return -1;
+		}
+		if (edgeIdsPos == -1) {
+			return e >= 0 && e < m ? e : -1;
+		}
+		return search(edgeIdsPos, m, e);
+	}
+
+	private int vertexId(int index) {
+		return vertexIdsPos == -1 ? index : getInt(vertexIdsPos, index);
+	}
+
+	private int edgeId(int index) {
+		return edgeIdsPos == -1 ? index : getInt(edgeIdsPos, index);
+	}
+
+	/**
+	 * Binary search of a sorted section of ints.
+	 * 
+	 * @return the position of the key or -1 if not found
+	 */
+	private int search(long base, int size, int key) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int value = getInt(base, mid);
+			if (value < key) {
+				low = mid + 1;
+			} else if (value > key) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Read the i-th int of the section starting at byte position base. Sections are
+	 * aligned at 4 bytes, thus an int never crosses a chunk boundary.
+	 */
+	private int getInt(long base, int i) {
+		long p = base + 4L * i;
+		return chunks[(int) (p >>> CHUNK_SHIFT)].getInt((int) (p & (CHUNK_BYTES - 1)));
+	}
+
+	private int outCount(int v) {
+		return getInt(outOffsetsPos, v + 1) - getInt(outOffsetsPos, v);
+	}
+
+	private int inCount(int v) {
+		return getInt(inOffsetsPos, v + 1) - getInt(inOffsetsPos, v);
+	}
+
+	private int findEdge(int s, int t) {
+		int end = getInt(outOffsetsPos, s + 1);
+		for (int i = getInt(outOffsetsPos, s); i < end; i++) {
+			int e = getInt(outEdgesPos, i);
+			if (getInt(targetsPos, e) == t) {
+				return e;
+			}
+		}
+		return -1;
+	}
+
+	private void collectEdges(int s, int t, Set<Integer> result) {
+		int end = getInt(outOffsetsPos, s + 1);
+		for (int i = getInt(outOffsetsPos, s); i < end; i++) {
+			int e = getInt(outEdgesPos, i);
+			if (getInt(targetsPos, e) == t) {
+				result.add(edgeId(e));
+			}
+		}
+	}
+
+	private static long align(long pos) {
+		return (pos + 7) & ~7L;
+	}
+
+	private static long fileSize(int n, int m, int flags) {
+		long size = HEADER_BYTES + 8L * (n + 1) + 16L * m;
+		if ((flags & FLAG_VERTEX_IDS) != 0) {
+			size += 4L * n;
+		}
+		if ((flags & FLAG_EDGE_IDS) != 0) {
+			size += 4L * m;
+		}
+		return (flags & FLAG_WEIGHTED) != 0 ? align(size) + 8L * m : size;
+	}
+
+	private static int[] sortedIds(Set<Integer> set) {
+		int[] ids = new int[set.size()];
+		int i = 0;
+		for (Integer id : set) {
+			ids[i++] = id;
+		}
+		Arrays.sort(ids);
+		return ids;
+	}
+
+	private static boolean isDense(int[] sortedIds) {
+		// distinct sorted identifiers are 0 up to size-1 exactly when both ends match
+		return sortedIds.length == 0 || (sortedIds[0] == 0 && sortedIds[sortedIds.length - 1] == sortedIds.length - 1);
+	}
+
+	/**
+	 * Unmodifiable set of the consecutive integers from start (inclusive) to end
+	 * (exclusive).
+	 */
+	private static class RangeSet extends AbstractSet<Integer> {
+
+		private final int start;
+		private final int end;
+
+		RangeSet(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new Iterator<Integer>() {
+				private int next = start;
+
+				@Override
+				public boolean hasNext() {
+					return next < end;
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return next++;
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Integer)) {
+				return false;
+			}
+			int x = (Integer) o;
+			return x >= start && x < end;
+		}
+
+		@Override
+		public int size() {
+			return end - start;
+		}
+
+	}
+
+	/**
+	 * Unmodifiable view of a sorted section of identifiers.
+	 */
+	private class SortedIdSet extends AbstractSet<Integer> {
+
+		private final long idsPos;
+		private final int size;
+
+		SortedIdSet(long idsPos, int size) {
+			this.idsPos = idsPos;
+			this.size = size;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new Iterator<Integer>() {
+				private int next;
+
+				@Override
+				public boolean hasNext() {
+					return next < size;
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return getInt(idsPos, next++);
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return o instanceof Integer && search(idsPos, size, (Integer) o) != -1;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+	}
+
+	/**
+	 * Unmodifiable view of the outgoing or incoming edges of a vertex, given by the
+	 * positions of the offsets, the edges and the endpoint of each edge which must
+	 * equal the vertex.
+	 */
+	private class AdjacentSet extends AbstractSet<Integer> {
+
+		private final long offsetsPos;
+		private final long edgesPos;
+		private final long endpointsPos;
+		private final int vertex;
+
+		AdjacentSet(long offsetsPos, long edgesPos, long endpointsPos, int vertex) {
+			this.offsetsPos = offsetsPos;
+			this.edgesPos = edgesPos;
+			this.endpointsPos = endpointsPos;
+			this.vertex = vertex;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			int end = getInt(offsetsPos, vertex + 1);
+			return new Iterator<Integer>() {
+				private int next = getInt(offsetsPos, vertex);
+
+				@Override
+				public boolean hasNext() {
+					return next < end;
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return edgeId(getInt(edgesPos, next++));
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			int e = o instanceof Integer ? edgeIndex((Integer) o) : -1;
+			return e != -1 && getInt(endpointsPos, e) == vertex;
+		}
+
+		@Override
+		public int size() {
+			return getInt(offsetsPos, vertex + 1) - getInt(offsetsPos, vertex);
+		}
+
+	}
+
+	/**
+	 * Unmodifiable view of all edges touching a vertex. Outgoing edges are
+	 * reported first, followed by the incoming edges which are not self-loops.
+	 */
+	private class IncidentSet extends AbstractSet<Integer> {
+
+		private final int vertex;
+
+		IncidentSet(int vertex) {
+			this.vertex = vertex;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			int outEnd = getInt(outOffsetsPos, vertex + 1);
+			int inEnd = getInt(inOffsetsPos, vertex + 1);
+			return new Iterator<Integer>() {
+				private int nextOut = getInt(outOffsetsPos, vertex);
+				private int nextIn = advance(getInt(inOffsetsPos, vertex));
+
+				private int advance(int i) {
+					while (i < inEnd && getInt(sourcesPos, getInt(inEdgesPos, i)) == vertex) {
+						i++;
+					}
+					return i;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return nextOut < outEnd || nextIn < inEnd;
+				}
+
+				@Override
+				public Integer next() {
+					if (nextOut < outEnd) {
+						return edgeId(getInt(outEdgesPos, nextOut++));
+					}
+					if (nextIn < inEnd) {
+						int e = getInt(inEdgesPos, nextIn);
+						nextIn = advance(nextIn + 1);
+						return edgeId(e);
+					}
+					throw new NoSuchElementException();
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			int e = o instanceof Integer ? edgeIndex((Integer) o) : -1;
+			return e != -1 && (getInt(sourcesPos, e) == vertex || getInt(targetsPos, e) == vertex);
+		}
+
+		@Override
+		public int size() {
+			int size = outCount(vertex);
+			int end = getInt(inOffsetsPos, vertex + 1);
+			for (int i = getInt(inOffsetsPos, vertex); i < end; i++) {
+				if (getInt(sourcesPos, getInt(inEdgesPos, i)) != vertex) {
+					size++;
+				}
+			}
+			return size;
+		}
+
+	}
+
+}
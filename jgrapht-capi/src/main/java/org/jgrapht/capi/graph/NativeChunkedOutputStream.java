@@ -0,0 +1,199 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.graalvm.nativeimage.PinnedObject;
+import org.graalvm.nativeimage.Platform;
+import org.graalvm.nativeimage.Platforms;
+import org.graalvm.nativeimage.c.function.CFunction;
+import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.word.PointerBase;
+import org.graalvm.word.SignedWord;
+import org.graalvm.word.UnsignedWord;
+import org.graalvm.word.WordFactory;
+import org.jgrapht.capi.JGraphTContext.WriteChunkFunctionPointer;
+
+/**
+ * Output stream which hands its output to native code in chunks of a fixed
+ * size, either by calling a C function or by writing to a file descriptor.
+ * Only the last chunk of each flush can be shorter. Thus memory usage is bounded
+ * by the chunk size and output starts while the exporter is still running.
+ * 
+ * The file descriptor is owned by the caller and is never closed. File
+ * descriptors are written with the POSIX write() function and are not supported
+ * on Windows, where the C runtime of the caller owns its descriptors.
+ * 
+ * Writers such as {@link java.io.PrintWriter} swallow I/O errors, thus the
+ * first failure is also recorded and output is discarded until
+ * {@link #checkFailure()} is called.
+ */
+public class NativeChunkedOutputStream extends OutputStream {
+
+	private final byte[] chunk;
+	private final WriteChunkFunctionPointer callback;
+	private final int fd;
+	private int count;
+	private long total;
+	private IOException failure;
+
+	private NativeChunkedOutputStream(int chunkSize, WriteChunkFunctionPointer callback, int fd) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive");
+		}
+		this.chunk = new byte[chunkSize];
+		this.callback = callback;
+		this.fd = fd;
+	}
+
+	/**
+	 * Create a stream which calls a C function for each chunk.
+	 * 
+	 * @param chunkSize the chunk size in bytes
+	 * @param callback the callback
+	 * @return the stream
+	 */
+	public static NativeChunkedOutputStream toCallback(int chunkSize, WriteChunkFunctionPointer callback) {
+		if (callback.isNull()) {
+			throw new NullPointerException("Callback cannot be null");
+		}
+		return new NativeChunkedOutputStream(chunkSize, callback, -1);
+	}
+
+	/**
+	 * Create a stream which writes each chunk to a file descriptor. Only supported
+	 * on POSIX systems.
+	 * 
+	 * @param chunkSize the chunk size in bytes
+	 * @param fd the file descriptor
+	 * @return the stream
+	 * @throws UnsupportedOperationException on Windows
+	 */
+	public static NativeChunkedOutputStream toFileDescriptor(int chunkSize, int fd) {
+		if (Platform.includedIn(Platform.WINDOWS.class)) {
+			throw new UnsupportedOperationException("File descriptor streams are only supported on POSIX systems");
+		}
+		if (fd < 0) {
+			throw new IllegalArgumentException("Invalid file descriptor: " + fd);
+		}
+		return new NativeChunkedOutputStream(chunkSize, WordFactory.nullPointer(), fd);
+	}
+
+	/**
+	 * Get the total number of bytes handed to native code.
+	 * 
+	 * @return the total number of bytes
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (count == chunk.length) {
+			emit();
+		}
+		chunk[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (count == chunk.length) {
+				emit();
+			}
+			int n = Math.min(len, chunk.length - count);
+			System.arraycopy(b, off, chunk, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (count > 0) {
+			emit();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	/**
+	 * Throw and clear the first failure since the last check, if any.
+	 * 
+	 * @throws IOException the failure
+	 */
+	public void checkFailure() throws IOException {
+		if (failure != null) {
+			IOException e = failure;
+			failure = null;
+			throw e;
+		}
+	}
+
+	private void emit() throws IOException {
+		if (failure != null) {
+			count = 0;
+			throw failure;
+		}
+		try (PinnedObject pinned = PinnedObject.create(chunk)) {
+			CCharPointer data = pinned.addressOfArrayElement(0);
+			if (callback.isNonNull()) {
+				if (callback.invoke(data, count) != 0) {
+					fail(new IOException("Write callback failed"));
+				}
+			} else {
+				writeToFileDescriptor(data);
+			}
+		}
+		total += count;
+		count = 0;
+	}
+
+	private void writeToFileDescriptor(CCharPointer data) throws IOException {
+		// folded at image build time, keeps write() out of Windows images
+		if (Platform.includedIn(Platform.WINDOWS.class)) {
+			throw new UnsupportedOperationException("File descriptor streams are only supported on POSIX systems");
+		}
+		int pos = 0;
+		while (pos < count) {
+			long written = posixWrite(fd, data.addressOf(pos), WordFactory.unsigned(count - pos)).rawValue();
+			if (written < 0) {
+				fail(new IOException("Write to file descriptor " + fd + " failed"));
+			}
+			pos += (int) written;
+		}
+	}
+
+	private void fail(IOException e) throws IOException {
+		count = 0;
+		failure = e;
+		throw e;
+	}
+
+	@Platforms({ Platform.LINUX.class, Platform.DARWIN.class })
+	@CFunction("write")
+	private static native SignedWord posixWrite(int fd, PointerBase buf, UnsignedWord count);
+
+}
@@ -0,0 +1,237 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import org.graalvm.nativeimage.PinnedObject;
+import org.graalvm.nativeimage.UnmanagedMemory;
+import org.graalvm.nativeimage.c.function.CFunction;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.graalvm.word.PointerBase;
+import org.graalvm.word.UnsignedWord;
+import org.graalvm.word.WordFactory;
+
+/**
+ * Growable native arrays of edge sources, targets and optionally weights with
+ * int or long endpoints. The arrays are handed over to the caller using
+ * {@link #transfer(WordPointer, WordPointer, WordPointer)}, any arrays which
+ * were not transferred are released by {@link #close()}.
+ */
+public class NativeEdgeArraysBuilder implements AutoCloseable {
+
+	private static final long INITIAL_CAPACITY = 1024;
+
+	private final boolean longIds;
+	private final int idBytes;
+	private final boolean weighted;
+
+	private PointerBase sources;
+	private PointerBase targets;
+	private CDoublePointer weights;
+	private long capacity;
+	private long size;
+
+	/**
+	 * Create a new builder.
+	 * 
+	 * @param longIds whether the endpoints are longs instead of ints
+	 * @param weighted whether to store the edge weights
+	 */
+	public NativeEdgeArraysBuilder(boolean longIds, boolean weighted) {
+		this(longIds, weighted, INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Create a new builder.
+	 * 
+	 * @param longIds whether the endpoints are longs instead of ints
+	 * @param weighted whether to store the edge weights
+	 * @param capacity the initial capacity in edges
+	 */
+	public NativeEdgeArraysBuilder(boolean longIds, boolean weighted, long capacity) {
+		this.longIds = longIds;
+		this.idBytes = longIds ? Long.BYTES : Integer.BYTES;
+		this.weighted = weighted;
+		this.capacity = Math.max(capacity, 1);
+		this.sources = UnmanagedMemory.malloc(WordFactory.unsigned(this.capacity * idBytes));
+		this.targets = UnmanagedMemory.malloc(WordFactory.unsigned(this.capacity * idBytes));
+		this.weights = weighted ? UnmanagedMemory.malloc(WordFactory.unsigned(this.capacity * Double.BYTES))
+				: WordFactory.nullPointer();
+	}
+
+	/**
+	 * Append an edge.
+	 * 
+	 * @param source the source
+	 * @param target the target
+	 * @param weight the weight, ignored if weights are not stored
+	 * @throws IllegalArgumentException if the endpoints are ints and there are too
+	 *                                  many edges or an endpoint does not fit
+	 */
+	public void add(long source, long target, double weight) {
+		if (size == capacity) {
+			grow();
+		}
+		if (longIds) {
+			((CLongPointer) sources).write(WordFactory.signed(size), source);
+			((CLongPointer) targets).write(WordFactory.signed(size), target);
+		} else {
+			((CIntPointer) sources).write(WordFactory.signed(size), toInt(source));
+			((CIntPointer) targets).write(WordFactory.signed(size), toInt(target));
+		}
+		if (weighted) {
+			weights.write(WordFactory.signed(size), weight);
+		}
+		size++;
+	}
+
+	/**
+	 * Change the number of edges. Edges beyond the previous size are undefined until
+	 * written using {@link #setAll(long, int[], int[], double[], int)}.
+	 * 
+	 * @param newSize the new number of edges
+	 * @throws IllegalArgumentException if the endpoints are ints and there are too
+	 *                                  many edges
+	 */
+	public void resize(long newSize) {
+		if (newSize < 0) {
+			throw new IllegalArgumentException("Negative size");
+		}
+		while (capacity < newSize) {
+			grow();
+		}
+		size = newSize;
+	}
+
+	/**
+	 * Overwrite a range of edges from Java arrays. With int endpoints the arrays are
+	 * copied in bulk without checking each edge. Calls for disjoint ranges may run
+	 * concurrently.
+	 * 
+	 * @param offset the first edge to overwrite
+	 * @param sources the sources
+	 * @param targets the targets
+	 * @param weights the weights, ignored if weights are not stored
+	 * @param count the number of edges to copy from the start of the arrays
+	 * @throws IndexOutOfBoundsException if the range is not inside the current size
+	 */
+	public void setAll(long offset, int[] sources, int[] targets, double[] weights, int count) {
+		if (offset < 0 || count < 0 || offset + count > size) {
+			throw new IndexOutOfBoundsException("Range " + offset + " to " + (offset + count) + " outside of " + size);
+		}
+		if (longIds) {
+			for (int i = 0; i < count; i++) {
+				((CLongPointer) this.sources).write(WordFactory.signed(offset + i), sources[i]);
+				((CLongPointer) this.targets).write(WordFactory.signed(offset + i), targets[i]);
+			}
+		} else {
+			copy(sources, this.sources, offset * Integer.BYTES, (long) count * Integer.BYTES);
+			copy(targets, this.targets, offset * Integer.BYTES, (long) count * Integer.BYTES);
+		}
+		if (weighted) {
+			copy(weights, this.weights, offset * Double.BYTES, (long) count * Double.BYTES);
+		}
+	}
+
+	/**
+	 * Get the number of edges.
+	 * 
+	 * @return the number of edges
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Hand the arrays over to the caller. Arrays whose result pointer is null are
+	 * released.
+	 * 
+	 * @param sourcesRes receives the sources array
+	 * @param targetsRes receives the targets array
+	 * @param weightsRes receives the weights array
+	 */
+	public void transfer(WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		sources = transfer(sources, sourcesRes);
+		targets = transfer(targets, targetsRes);
+		weights = transfer(weights, weightsRes);
+	}
+
+	@Override
+	public void close() {
+		sources = free(sources);
+		targets = free(targets);
+		weights = free(weights);
+	}
+
+	private void grow() {
+		long newCapacity = capacity * 2;
+		if (!longIds && newCapacity > Integer.MAX_VALUE) {
+			newCapacity = Integer.MAX_VALUE;
+			if (newCapacity == capacity) {
+				throw new IllegalArgumentException("Too many edges, use long identifiers");
+			}
+		}
+		sources = UnmanagedMemory.realloc(sources, WordFactory.unsigned(newCapacity * idBytes));
+		targets = UnmanagedMemory.realloc(targets, WordFactory.unsigned(newCapacity * idBytes));
+		if (weighted) {
+			weights = UnmanagedMemory.realloc(weights, WordFactory.unsigned(newCapacity * Double.BYTES));
+		}
+		capacity = newCapacity;
+	}
+
+	private static void copy(Object array, PointerBase dest, long offset, long bytes) {
+		if (bytes == 0) {
+			return;
+		}
+		try (PinnedObject pinned = PinnedObject.create(array)) {
+			memcpy(WordFactory.pointer(dest.rawValue() + offset), pinned.addressOfArrayElement(0),
+					WordFactory.unsigned(bytes));
+		}
+	}
+
+	@CFunction("memcpy")
+	private static native PointerBase memcpy(PointerBase dest, PointerBase src, UnsignedWord count);
+
+	private static int toInt(long value) {
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Identifier does not fit in an int: " + value);
+		}
+		return (int) value;
+	}
+
+	private static <T extends PointerBase> T transfer(T array, WordPointer res) {
+		if (array.isNull()) {
+			return array;
+		}
+		if (res.isNonNull()) {
+			res.write(array);
+			return WordFactory.nullPointer();
+		}
+		return free(array);
+	}
+
+	private static <T extends PointerBase> T free(T array) {
+		if (array.isNonNull()) {
+			UnmanagedMemory.free(array);
+		}
+		return WordFactory.nullPointer();
+	}
+
+}
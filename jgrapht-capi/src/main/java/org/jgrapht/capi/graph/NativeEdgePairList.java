@@ -0,0 +1,62 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.jgrapht.alg.util.Pair;
+
+/**
+ * An unmodifiable list view of edges stored in two native arrays of sources and
+ * targets. Elements are created on demand and the native arrays must outlive
+ * the view.
+ */
+public class NativeEdgePairList extends AbstractList<Pair<Integer, Integer>> implements RandomAccess {
+
+	private final CIntPointer sources;
+	private final CIntPointer targets;
+	private final int size;
+
+	public NativeEdgePairList(CIntPointer sources, CIntPointer targets, int size) {
+		if (sources.isNull() || targets.isNull()) {
+			throw new NullPointerException("Sources and targets cannot be null");
+		}
+		if (size < 0) {
+			throw new IllegalArgumentException("Number of edges cannot be negative");
+		}
+		this.sources = sources;
+		this.targets = targets;
+		this.size = size;
+	}
+
+	@Override
+	public Pair<Integer, Integer> get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return Pair.of(sources.read(index), targets.read(index));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.nio.charset.StandardCharsets;
+
+import org.graalvm.nativeimage.UnmanagedMemory;
+import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CCharPointerPointer;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.word.WordFactory;
+import org.jgrapht.capi.JGraphTContext.StringEdgeBatchFunctionPointer;
+
+/**
+ * A fixed-size batch of edges with string endpoints in native memory which is
+ * handed to a C callback whenever it becomes full. The endpoints of a batch are
+ * encoded as UTF-8 into a single reusable character buffer, thus the memory
+ * used is bounded by the batch size and no string is pinned per endpoint.
+ * 
+ * <p>
+ * The buffers must be released by calling {@link #close()}.
+ */
+public class NativeStringEdgeBatch implements AutoCloseable {
+
+	private final StringEdgeBatchFunctionPointer callback;
+	private final int capacity;
+	private final int[] sourceOffsets;
+	private final int[] targetOffsets;
+
+	private CCharPointerPointer sources;
+	private CCharPointerPointer targets;
+	private CDoublePointer weights;
+	private CCharPointer chars;
+	private int charsCapacity;
+	private int charsSize;
+	private int size;
+	private long total;
+
+	/**
+	 * Create a new batch.
+	 * 
+	 * @param capacity the number of edges of each batch
+	 * @param callback the callback which receives each full batch
+	 */
+	public NativeStringEdgeBatch(int capacity, StringEdgeBatchFunctionPointer callback) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Batch size must be positive");
+		}
+		if (callback.isNull()) {
+			throw new NullPointerException("Callback cannot be null");
+		}
+		this.callback = callback;
+		this.capacity = capacity;
+		this.sourceOffsets = new int[capacity];
+		this.targetOffsets = new int[capacity];
+		this.sources = UnmanagedMemory.malloc(WordFactory.unsigned((long) capacity * Long.BYTES));
+		this.targets = UnmanagedMemory.malloc(WordFactory.unsigned((long) capacity * Long.BYTES));
+		this.weights = UnmanagedMemory.malloc(WordFactory.unsigned((long) capacity * Double.BYTES));
+		this.charsCapacity = Math.max(64, capacity * 16);
+		this.chars = UnmanagedMemory.malloc(WordFactory.unsigned(charsCapacity));
+	}
+
+	/**
+	 * Add an edge, delivering the batch if it becomes full.
+	 * 
+	 * @param source the source, converted to a string
+	 * @param target the target, converted to a string
+	 * @param weight the weight
+	 * @throws StoppedException if the callback requested to stop
+	 */
+	public void add(Object source, Object target, double weight) {
+		sourceOffsets[size] = append(String.valueOf(source));
+		targetOffsets[size] = append(String.valueOf(target));
+		weights.write(size, weight);
+		if (++size == capacity) {
+			flush();
+		}
+	}
+
+	/**
+	 * Deliver the edges added so far, if any.
+	 * 
+	 * @throws StoppedException if the callback requested to stop
+	 */
+	public void flush() {
+		if (size == 0) {
+			return;
+		}
+		// the character buffer might have moved, thus pointers are computed last
+		for (int i = 0; i < size; i++) {
+			sources.write(i, chars.addressOf(sourceOffsets[i]));
+			targets.write(i, chars.addressOf(targetOffsets[i]));
+		}
+		int count = size;
+		size = 0;
+		charsSize = 0;
+		total += count;
+		if (callback.invoke(sources, targets, weights, count) != 0) {
+			throw new StoppedException();
+		}
+	}
+
+	/**
+	 * Get the total number of edges delivered to the callback.
+	 * 
+	 * @return the number of edges delivered
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	@Override
+	public void close() {
+		if (sources.isNonNull()) {
+			UnmanagedMemory.free(sources);
+			UnmanagedMemory.free(targets);
+			UnmanagedMemory.free(weights);
+			UnmanagedMemory.free(chars);
+			sources = WordFactory.nullPointer();
+		}
+	}
+
+	private int append(String s) {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		int required = charsSize + bytes.length + 1;
+		if (required < 0) {
+			throw new IllegalArgumentException("Batch too large");
+		}
+		if (required > charsCapacity) {
+			int newCapacity = Math.max(required, charsCapacity * 2);
+			if (newCapacity < 0) {
+				newCapacity = required;
+			}
+			chars = UnmanagedMemory.realloc(chars, WordFactory.unsigned(newCapacity));
+			charsCapacity = newCapacity;
+		}
+		int offset = charsSize;
+		for (int i = 0; i < bytes.length; i++) {
+			chars.write(offset + i, bytes[i]);
+		}
+		chars.write(offset + bytes.length, (byte) 0);
+		charsSize = required;
+		return offset;
+	}
+
+	/**
+	 * Thrown when the callback requests to stop the import.
+	 */
+	public static class StoppedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		public StoppedException() {
+			super("Import stopped by callback");
+		}
+
+	}
+
+}
@@ -0,0 +1,595 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+
+/**
+ * A modifiable graph with long integer vertices and edges which keeps its structure
+ * in primitive arrays. Vertices and edges are stored in dense slots located
+ * through fastutil open addressing maps, and the adjacency of each vertex is a
+ * growable array of edge identifiers. Removals move the last slot into the
+ * freed one, thus iteration order is not preserved after removals.
+ */
+public class PrimitiveLongGraph extends AbstractGraph<Long, Long> {
+
+	private static final long[] EMPTY = new long[0];
+	private static final int INITIAL_CAPACITY = 16;
+	private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+
+	private final GraphType type;
+	private final boolean directed;
+	private final Supplier<Long> vertexSupplier;
+	private final Supplier<Long> edgeSupplier;
+
+	private final Long2IntOpenHashMap vertexIndex;
+	private long[] vertices;
+	private long[][] outEdges;
+	private int[] outCount;
+	private long[][] inEdges;
+	private int[] inCount;
+	private int[] loopCount;
+	private int vertexCount;
+
+	private final Long2IntOpenHashMap edgeIndex;
+	private long[] edges;
+	private long[] sources;
+	private long[] targets;
+	private double[] weights;
+	private int edgeCount;
+
+	public PrimitiveLongGraph(Supplier<Long> vertexSupplier, Supplier<Long> edgeSupplier, boolean directed,
+			boolean allowingSelfLoops, boolean allowingMultipleEdges, boolean weighted) {
+		DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+		builder = directed ? builder.directed() : builder.undirected();
+		this.type = builder.weighted(weighted).allowSelfLoops(allowingSelfLoops)
+				.allowMultipleEdges(allowingMultipleEdges).modifiable(true).build();
+		this.directed = directed;
+		this.vertexSupplier = vertexSupplier;
+		this.edgeSupplier = edgeSupplier;
+
+		this.vertexIndex = new Long2IntOpenHashMap();
+		this.vertexIndex.defaultReturnValue(-1);
+		this.vertices = new long[INITIAL_CAPACITY];
+		this.outEdges = new long[INITIAL_CAPACITY][];
+		this.outCount = new int[INITIAL_CAPACITY];
+		if (directed) {
+			this.inEdges = new long[INITIAL_CAPACITY][];
+			this.inCount = new int[INITIAL_CAPACITY];
+		}
+		this.loopCount = new int[INITIAL_CAPACITY];
+
+		this.edgeIndex = new Long2IntOpenHashMap();
+		this.edgeIndex.defaultReturnValue(-1);
+		this.edges = new long[INITIAL_CAPACITY];
+		this.sources = new long[INITIAL_CAPACITY];
+		this.targets = new long[INITIAL_CAPACITY];
+		if (weighted) {
+			this.weights = new double[INITIAL_CAPACITY];
+		}
+	}
+
+	@Override
+	public Set<Long> getAllEdges(Long sourceVertex, Long targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		long s = sourceVertex;
+		long t = targetVertex;
+		int slot = vertexIndex.get(s);
+		long[] list = outEdges[slot];
+		LongLinkedOpenHashSet result = new LongLinkedOpenHashSet();
+		for (int i = 0; i < outCount[slot]; i++) {
+			long e = list[i];
+			if (connects(edgeIndex.get(e), s, t)) {
+				result.add(e);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Long getEdge(Long sourceVertex, Long targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		long s = sourceVertex;
+		long t = targetVertex;
+		int slot = vertexIndex.get(s);
+		long[] list = outEdges[slot];
+		for (int i = 0; i < outCount[slot]; i++) {
+			long e = list[i];
+			if (connects(edgeIndex.get(e), s, t)) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Supplier<Long> getVertexSupplier() {
+		return vertexSupplier;
+	}
+
+	@Override
+	public Supplier<Long> getEdgeSupplier() {
+		return edgeSupplier;
+	}
+
+	@Override
+	public Long addEdge(Long sourceVertex, Long targetVertex) {
+		assertVertexExist(sourceVertex);
+		assertVertexExist(targetVertex);
+
+		if (!type.isAllowingMultipleEdges() && containsEdge(sourceVertex, targetVertex)) {
+			return null;
+		}
+		if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+			throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+		}
+		if (edgeSupplier == null) {
+			throw new UnsupportedOperationException("The graph contains no edge supplier");
+		}
+
+		Long e = edgeSupplier.get();
+		if (e == null || containsEdge(e)) {
+			throw new IllegalArgumentException("Invalid edge supplier (does not return unique edges on each call).");
+		}
+		insertEdge(sourceVertex, targetVertex, e);
+		return e;
+	}
+
+	@Override
+	public boolean addEdge(Long sourceVertex, Long targetVertex, Long e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+		if (containsEdge(e)) {
+			return false;
+		}
+		assertVertexExist(sourceVertex);
+		assertVertexExist(targetVertex);
+
+		if (!type.isAllowingMultipleEdges() && containsEdge(sourceVertex, targetVertex)) {
+			return false;
+		}
+		if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+			throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+		}
+		insertEdge(sourceVertex, targetVertex, e);
+		return true;
+	}
+
+	@Override
+	public Long addVertex() {
+		if (vertexSupplier == null) {
+			throw new UnsupportedOperationException("The graph contains no vertex supplier");
+		}
+		Long v = vertexSupplier.get();
+		if (v == null || !addVertex(v)) {
+			throw new IllegalArgumentException(
+					"Invalid vertex supplier (does not return unique vertices on each call).");
+		}
+		return v;
+	}
+
+	@Override
+	public boolean addVertex(Long v) {
+		if (v == null) {
+			throw new NullPointerException();
+		}
+		if (containsVertex(v)) {
+			return false;
+		}
+		if (vertexCount == vertices.length) {
+			int capacity = vertices.length + (vertices.length >> 1);
+			vertices = Arrays.copyOf(vertices, capacity);
+			outEdges = Arrays.copyOf(outEdges, capacity);
+			outCount = Arrays.copyOf(outCount, capacity);
+			if (directed) {
+				inEdges = Arrays.copyOf(inEdges, capacity);
+				inCount = Arrays.copyOf(inCount, capacity);
+			}
+			loopCount = Arrays.copyOf(loopCount, capacity);
+		}
+		int slot = vertexCount++;
+		vertices[slot] = v;
+		outEdges[slot] = EMPTY;
+		outCount[slot] = 0;
+		if (directed) {
+			inEdges[slot] = EMPTY;
+			inCount[slot] = 0;
+		}
+		loopCount[slot] = 0;
+		vertexIndex.put(v.longValue(), slot);
+		return true;
+	}
+
+	@Override
+	public boolean containsEdge(Long e) {
+		return e != null && edgeIndex.containsKey(e.longValue());
+	}
+
+	@Override
+	public boolean containsVertex(Long v) {
+		return v != null && vertexIndex.containsKey(v.longValue());
+	}
+
+	@Override
+	public Set<Long> edgeSet() {
+		return new SlotSet(false);
+	}
+
+	@Override
+	public int degreeOf(Long vertex) {
+		assertVertexExist(vertex);
+		int slot = vertexIndex.get(vertex.longValue());
+		if (directed) {
+			return outCount[slot] + inCount[slot];
+		}
+		return outCount[slot] + loopCount[slot];
+	}
+
+	@Override
+	public Set<Long> edgesOf(Long vertex) {
+		assertVertexExist(vertex);
+		if (!directed) {
+			return new AdjacencySet(vertex, false);
+		}
+		// self-loops appear in both lists but are reported once
+		int slot = vertexIndex.get(vertex.longValue());
+		LongLinkedOpenHashSet result = new LongLinkedOpenHashSet(outCount[slot] + inCount[slot]);
+		for (int i = 0; i < outCount[slot]; i++) {
+			result.add(outEdges[slot][i]);
+		}
+		for (int i = 0; i < inCount[slot]; i++) {
+			result.add(inEdges[slot][i]);
+		}
+		return result;
+	}
+
+	@Override
+	public int inDegreeOf(Long vertex) {
+		assertVertexExist(vertex);
+		if (directed) {
+			return inCount[vertexIndex.get(vertex.longValue())];
+		}
+		return degreeOf(vertex);
+	}
+
+	@Override
+	public Set<Long> incomingEdgesOf(Long vertex) {
+		assertVertexExist(vertex);
+		return new AdjacencySet(vertex, directed);
+	}
+
+	@Override
+	public int outDegreeOf(Long vertex) {
+		assertVertexExist(vertex);
+		if (directed) {
+			return outCount[vertexIndex.get(vertex.longValue())];
+		}
+		return degreeOf(vertex);
+	}
+
+	@Override
+	public Set<Long> outgoingEdgesOf(Long vertex) {
+		assertVertexExist(vertex);
+		return new AdjacencySet(vertex, false);
+	}
+
+	@Override
+	public Long removeEdge(Long sourceVertex, Long targetVertex) {
+		Long e = getEdge(sourceVertex, targetVertex);
+		if (e != null) {
+			removeEdge(e);
+		}
+		return e;
+	}
+
+	@Override
+	public boolean removeEdge(Long e) {
+		if (!containsEdge(e)) {
+			return false;
+		}
+		long edge = e;
+		int slot = edgeIndex.get(edge);
+		int sourceSlot = vertexIndex.get(sources[slot]);
+		int targetSlot = vertexIndex.get(targets[slot]);
+
+		outCount[sourceSlot] = removeFromList(outEdges[sourceSlot], outCount[sourceSlot], edge);
+		if (directed) {
+			inCount[targetSlot] = removeFromList(inEdges[targetSlot], inCount[targetSlot], edge);
+		} else if (sourceSlot != targetSlot) {
+			outCount[targetSlot] = removeFromList(outEdges[targetSlot], outCount[targetSlot], edge);
+		}
+		if (sourceSlot == targetSlot) {
+			loopCount[sourceSlot]--;
+		}
+
+		int last = --edgeCount;
+		if (slot != last) {
+			edges[slot] = edges[last];
+			sources[slot] = sources[last];
+			targets[slot] = targets[last];
+			if (weights != null) {
+				weights[slot] = weights[last];
+			}
+			edgeIndex.put(edges[slot], slot);
+		}
+		edgeIndex.remove(edge);
+		return true;
+	}
+
+	@Override
+	public boolean removeVertex(Long v) {
+		if (!containsVertex(v)) {
+			return false;
+		}
+		long[] incident = edgesOf(v).stream().mapToLong(Long::longValue).toArray();
+		for (long e : incident) {
+			removeEdge(e);
+		}
+
+		int slot = vertexIndex.get(v.longValue());
+		int last = --vertexCount;
+		if (slot != last) {
+			vertices[slot] = vertices[last];
+			outEdges[slot] = outEdges[last];
+			outCount[slot] = outCount[last];
+			if (directed) {
+				inEdges[slot] = inEdges[last];
+				inCount[slot] = inCount[last];
+			}
+			loopCount[slot] = loopCount[last];
+			vertexIndex.put(vertices[slot], slot);
+		}
+		outEdges[last] = null;
+		if (directed) {
+			inEdges[last] = null;
+		}
+		vertexIndex.remove(v.longValue());
+		return true;
+	}
+
+	@Override
+	public Set<Long> vertexSet() {
+		return new SlotSet(true);
+	}
+
+	@Override
+	public Long getEdgeSource(Long e) {
+		return sources[edgeSlot(e)];
+	}
+
+	@Override
+	public Long getEdgeTarget(Long e) {
+		return targets[edgeSlot(e)];
+	}
+
+	@Override
+	public GraphType getType() {
+		return type;
+	}
+
+	@Override
+	public double getEdgeWeight(Long e) {
+		int slot = edgeSlot(e);
+		if (weights == null) {
+			return DEFAULT_EDGE_WEIGHT;
+		}
+		return weights[slot];
+	}
+
+	@Override
+	public void setEdgeWeight(Long e, double weight) {
+		int slot = edgeSlot(e);
+		if (weights == null) {
+			throw new UnsupportedOperationException("Graph is not weighted");
+		}
+		weights[slot] = weight;
+	}
+
+	private int edgeSlot(Long e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+		int slot = edgeIndex.get(e.longValue());
+		if (slot == -1) {
+			throw new IllegalArgumentException("no such edge in graph: " + e);
+		}
+		return slot;
+	}
+
+	private boolean connects(int edgeSlot, long s, long t) {
+		if (sources[edgeSlot] == s && targets[edgeSlot] == t) {
+			return true;
+		}
+		return !directed && sources[edgeSlot] == t && targets[edgeSlot] == s;
+	}
+
+	private void insertEdge(long s, long t, long e) {
+		if (edgeCount == edges.length) {
+			int capacity = edges.length + (edges.length >> 1);
+			edges = Arrays.copyOf(edges, capacity);
+			sources = Arrays.copyOf(sources, capacity);
+			targets = Arrays.copyOf(targets, capacity);
+			if (weights != null) {
+				weights = Arrays.copyOf(weights, capacity);
+			}
+		}
+		int slot = edgeCount++;
+		edges[slot] = e;
+		sources[slot] = s;
+		targets[slot] = t;
+		if (weights != null) {
+			weights[slot] = DEFAULT_EDGE_WEIGHT;
+		}
+		edgeIndex.put(e, slot);
+
+		int sourceSlot = vertexIndex.get(s);
+		int targetSlot = vertexIndex.get(t);
+		outEdges[sourceSlot] = appendToList(outEdges[sourceSlot], outCount[sourceSlot]++, e);
+		if (directed) {
+			inEdges[targetSlot] = appendToList(inEdges[targetSlot], inCount[targetSlot]++, e);
+		} else if (sourceSlot != targetSlot) {
+			outEdges[targetSlot] = appendToList(outEdges[targetSlot], outCount[targetSlot]++, e);
+		}
+		if (sourceSlot == targetSlot) {
+			loopCount[sourceSlot]++;
+		}
+	}
+
+	private static long[] appendToList(long[] list, int size, long e) {
+		if (size == list.length) {
+			list = Arrays.copyOf(list, Math.max(4, size + (size >> 1)));
+		}
+		list[size] = e;
+		return list;
+	}
+
+	private static int removeFromList(long[] list, int size, long e) {
+		for (int i = 0; i < size; i++) {
+			if (list[i] == e) {
+				System.arraycopy(list, i + 1, list, i, size - i - 1);
+				return size - 1;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Unmodifiable live view of the vertex or edge slots.
+	 */
+	private class SlotSet extends AbstractSet<Long> {
+
+		private final boolean ofVertices;
+
+		SlotSet(boolean ofVertices) {
+			this.ofVertices = ofVertices;
+		}
+
+		@Override
+		public Iterator<Long> iterator() {
+			return new Iterator<Long>() {
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					return next < size();
+				}
+
+				@Override
+				public Long next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return ofVertices ? vertices[next++] : edges[next++];
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Long)) {
+				return false;
+			}
+			return ofVertices ? containsVertex((Long) o) : containsEdge((Long) o);
+		}
+
+		@Override
+		public int size() {
+			return ofVertices ? vertexCount : edgeCount;
+		}
+
+	}
+
+	/**
+	 * Unmodifiable live view of the outgoing or incoming edges of a vertex.
+	 */
+	private class AdjacencySet extends AbstractSet<Long> {
+
+		private final long vertex;
+		private final boolean incoming;
+
+		AdjacencySet(long vertex, boolean incoming) {
+			this.vertex = vertex;
+			this.incoming = incoming;
+		}
+
+		@Override
+		public Iterator<Long> iterator() {
+			int slot = vertexIndex.get(vertex);
+			long[] list = incoming ? inEdges[slot] : outEdges[slot];
+			int size = incoming ? inCount[slot] : outCount[slot];
+			return new Iterator<Long>() {
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					return next < size;
+				}
+
+				@Override
+				public Long next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return list[next++];
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Long)) {
+				return false;
+			}
+			int slot = edgeIndex.get(((Long) o).longValue());
+			if (slot == -1) {
+				return false;
+			}
+			if (directed) {
+				return incoming ? targets[slot] == vertex : sources[slot] == vertex;
+			}
+			return sources[slot] == vertex || targets[slot] == vertex;
+		}
+
+		@Override
+		public int size() {
+			int slot = vertexIndex.get(vertex);
+			return incoming ? inCount[slot] : outCount[slot];
+		}
+
+	}
+
+}
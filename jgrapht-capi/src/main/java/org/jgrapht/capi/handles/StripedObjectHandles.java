@@ -0,0 +1,363 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.handles;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.word.WordFactory;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+/**
+ * Object handles registry split into independently locked stripes. Each thread
+ * allocates its handles from its own stripe, thus threads which create and
+ * destroy many short-lived handles do not contend on a single table. Resolving a
+ * handle does not lock, thus threads sharing a handle do not contend either.
+ * 
+ * <p>
+ * A handle encodes the stripe, the slot inside the stripe and the generation of
+ * the slot. The null object is represented by the zero handle. Slots are reused
+ * after a handle is destroyed, but with a new generation, thus a stale handle is
+ * detected and rejected instead of silently resolving to an unrelated object.
+ * 
+ * <p>
+ * The registry keeps counters of created and destroyed handles which allow
+ * clients to detect handles which are never released.
+ * 
+ * <p>
+ * A thread may open nested scopes. Every handle created by the thread while a
+ * scope is open is recorded in the innermost scope, and closing the scope
+ * destroys all of them which are still alive in a single call.
+ */
+public class StripedObjectHandles implements ObjectHandles {
+
+	private static final int STRIPE_BITS = 6;
+	private static final int STRIPES = 1 << STRIPE_BITS;
+	private static final int SLOT_BITS = 32;
+	private static final int GENERATION_SHIFT = STRIPE_BITS + SLOT_BITS;
+	private static final int GENERATION_MASK = (1 << 24) - 1;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final StripedObjectHandles GLOBAL = new StripedObjectHandles();
+
+	private final Stripe[] stripes;
+	private final LongAdder created;
+	private final LongAdder destroyed;
+	private final ThreadLocal<Scope> scopes;
+
+	/**
+	 * Get the global registry which is shared by all entry points.
+	 * 
+	 * @return the global registry
+	 */
+	public static StripedObjectHandles getGlobal() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Create a new registry.
+	 */
+	public StripedObjectHandles() {
+		this.stripes = new Stripe[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new Stripe();
+		}
+		this.created = new LongAdder();
+		this.destroyed = new LongAdder();
+		this.scopes = new ThreadLocal<>();
+	}
+
+	@Override
+	public ObjectHandle create(Object object) {
+		if (object == null) {
+			return WordFactory.zero();
+		}
+		// thread ids are assigned sequentially, thus neighboring threads use different
+		// stripes
+		int stripe = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+		long handle = stripes[stripe].add(object, stripe);
+		created.increment();
+		Scope scope = scopes.get();
+		if (scope != null) {
+			scope.handles.add(handle);
+		}
+		return WordFactory.signed(handle);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(ObjectHandle handle) {
+		long value = handle.rawValue();
+		if (value == 0) {
+			return null;
+		}
+		return (T) stripe(value).get(slot(value), generation(value));
+	}
+
+	@Override
+	public void destroy(ObjectHandle handle) {
+		long value = handle.rawValue();
+		if (value == 0) {
+			return;
+		}
+		stripe(value).remove(slot(value), generation(value));
+		destroyed.increment();
+	}
+
+	/**
+	 * Open a new scope for the current thread, nested inside the currently open
+	 * scope if any.
+	 */
+	public void beginScope() {
+		scopes.set(new Scope(scopes.get()));
+	}
+
+	/**
+	 * Close the innermost scope of the current thread and destroy all handles
+	 * created inside it which have not already been destroyed. Handles created
+	 * inside nested scopes have already been released when those were closed.
+	 * 
+	 * @return the number of handles destroyed
+	 * @throws IllegalStateException if the current thread has no open scope
+	 */
+	public int endScope() {
+		Scope scope = scopes.get();
+		if (scope == null) {
+			throw new IllegalStateException("No open handles scope");
+		}
+		if (scope.parent == null) {
+			scopes.remove();
+		} else {
+			scopes.set(scope.parent);
+		}
+
+		int released = 0;
+		LongArrayList handles = scope.handles;
+		for (int i = handles.size() - 1; i >= 0; i--) {
+			long value = handles.getLong(i);
+			if (stripe(value).removeIfPresent(slot(value), generation(value))) {
+				destroyed.increment();
+				released++;
+			}
+		}
+		return released;
+	}
+
+	/**
+	 * Get the number of open scopes of the current thread.
+	 * 
+	 * @return the number of open scopes
+	 */
+	public int getScopeDepth() {
+		int depth = 0;
+		for (Scope s = scopes.get(); s != null; s = s.parent) {
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * Get the number of handles which are currently alive.
+	 * 
+	 * @return the number of live handles
+	 */
+	public long getLiveCount() {
+		return created.sum() - destroyed.sum();
+	}
+
+	/**
+	 * Get the total number of handles created since the isolate started.
+	 * 
+	 * @return the number of created handles
+	 */
+	public long getCreatedCount() {
+		return created.sum();
+	}
+
+	/**
+	 * Get the total number of handles destroyed since the isolate started.
+	 * 
+	 * @return the number of destroyed handles
+	 */
+	public long getDestroyedCount() {
+		return destroyed.sum();
+	}
+
+	/**
+	 * Get the number of slots allocated by all stripes. The capacity only grows,
+	 * and it reflects the largest number of simultaneously live handles.
+	 * 
+	 * @return the number of allocated slots
+	 */
+	public long getCapacity() {
+		long capacity = 0;
+		for (Stripe s : stripes) {
+			capacity += s.capacity();
+		}
+		return capacity;
+	}
+
+	private Stripe stripe(long handle) {
+		if (handle < 0) {
+			throw new IllegalArgumentException("Invalid handle");
+		}
+		return stripes[(int) (handle & (STRIPES - 1))];
+	}
+
+	private static int slot(long handle) {
+		return (int) (handle >>> STRIPE_BITS);
+	}
+
+	private static int generation(long handle) {
+		return (int) (handle >>> GENERATION_SHIFT);
+	}
+
+	/**
+	 * The handles created by a thread while a scope is open.
+	 */
+	private static class Scope {
+
+		private final Scope parent;
+		private final LongArrayList handles;
+
+		Scope(Scope parent) {
+			this.parent = parent;
+			this.handles = new LongArrayList();
+		}
+
+	}
+
+	/**
+	 * A table of slots with a free list. Creating and destroying handles takes the
+	 * lock of the stripe, while lookups only read the currently published table.
+	 */
+	private static class Stripe {
+
+		private volatile Table table;
+		private int[] free;
+		private int freeSize;
+		private int used;
+
+		Stripe() {
+			this.table = new Table(INITIAL_CAPACITY);
+			this.free = new int[INITIAL_CAPACITY];
+		}
+
+		synchronized long add(Object object, int stripe) {
+			Table t = table;
+			int slot;
+			if (freeSize > 0) {
+				slot = free[--freeSize];
+			} else {
+				if (used == t.length()) {
+					t = grow();
+				}
+				slot = used++;
+				t.generations.set(slot, 1);
+			}
+			t.objects.set(slot, object);
+			return ((long) t.generations.get(slot) << GENERATION_SHIFT) | ((long) slot << STRIPE_BITS) | stripe;
+		}
+
+		Object get(int slot, int generation) {
+			Table t = table;
+			if (slot < 0 || slot >= t.length() || t.generations.get(slot) != generation) {
+				throw new IllegalArgumentException("Invalid handle");
+			}
+			Object object = t.objects.get(slot);
+			// remove advances the generation before clearing the slot, thus an unchanged
+			// generation after the read means the object belongs to this handle
+			if (t.generations.get(slot) != generation) {
+				throw new IllegalArgumentException("Invalid handle");
+			}
+			return object;
+		}
+
+		synchronized void remove(int slot, int generation) {
+			check(slot, generation);
+			Table t = table;
+			int next = (generation + 1) & GENERATION_MASK;
+			// zero is never a valid generation
+			t.generations.set(slot, next == 0 ? 1 : next);
+			t.objects.set(slot, null);
+			free[freeSize++] = slot;
+		}
+
+		synchronized boolean removeIfPresent(int slot, int generation) {
+			if (slot < 0 || slot >= used || table.generations.get(slot) != generation) {
+				return false;
+			}
+			remove(slot, generation);
+			return true;
+		}
+
+		synchronized int capacity() {
+			return used;
+		}
+
+		private void check(int slot, int generation) {
+			if (slot < 0 || slot >= used || table.generations.get(slot) != generation) {
+				throw new IllegalArgumentException("Invalid handle");
+			}
+		}
+
+		private Table grow() {
+			Table t = table;
+			int capacity = t.length() * 2;
+			if (capacity < 0) {
+				throw new IllegalStateException("Too many handles");
+			}
+			Table newTable = new Table(capacity);
+			for (int i = 0; i < used; i++) {
+				newTable.objects.set(i, t.objects.get(i));
+				newTable.generations.set(i, t.generations.get(i));
+			}
+			int[] newFree = new int[capacity];
+			System.arraycopy(free, 0, newFree, 0, free.length);
+			free = newFree;
+			table = newTable;
+			return newTable;
+		}
+
+	}
+
+	/**
+	 * The slots of a stripe. Slots which were never used have generation zero and
+	 * are thus rejected by lookups.
+	 */
+	private static class Table {
+
+		private final AtomicReferenceArray<Object> objects;
+		private final AtomicIntegerArray generations;
+
+		Table(int capacity) {
+			this.objects = new AtomicReferenceArray<>(capacity);
+			this.generations = new AtomicIntegerArray(capacity);
+		}
+
+		int length() {
+			return objects.length();
+		}
+
+	}
+
+}
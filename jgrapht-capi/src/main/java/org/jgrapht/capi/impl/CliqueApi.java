@@ -34,10 +34,11 @@ import org.jgrapht.alg.interfaces.MaximalCliqueEnumerationAlgorithm;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class CliqueApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clique_exec_bron_kerbosch", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -35,10 +35,11 @@ import org.jgrapht.alg.interfaces.ClusteringAlgorithm.Clustering;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class ClusteringApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clustering_exec_k_spanning_tree", exceptionHandler = StatusReturnExceptionHandler.class)
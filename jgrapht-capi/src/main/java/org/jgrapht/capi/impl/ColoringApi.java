@@ -42,10 +42,11 @@ import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.Coloring;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class ColoringApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "coloring_exec_greedy", exceptionHandler = StatusReturnExceptionHandler.class)
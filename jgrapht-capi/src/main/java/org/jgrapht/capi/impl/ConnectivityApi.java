@@ -16,10 +16,11 @@ import org.jgrapht.alg.connectivity.KosarajuStrongConnectivityInspector;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class ConnectivityApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "connectivity_strong_exec_kosaraju", exceptionHandler = StatusReturnExceptionHandler.class)
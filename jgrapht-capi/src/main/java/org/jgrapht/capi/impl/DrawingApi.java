@@ -46,10 +46,11 @@ import org.jgrapht.capi.JGraphTContext.LLToIFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.custom.drawing.IndexedFRLayoutAlgorithm2D;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class DrawingApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "drawing_layout_model_2d_create", exceptionHandler = StatusReturnExceptionHandler.class)
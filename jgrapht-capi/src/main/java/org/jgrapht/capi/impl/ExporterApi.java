@@ -33,6 +33,7 @@ import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
 import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.Graph;
@@ -40,10 +41,14 @@ import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.ExporterDIMACSFormat;
 import org.jgrapht.capi.JGraphTContext.ImporterExporterCSVFormat;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.JGraphTContext.WriteChunkFunctionPointer;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.attributes.AttributesStore;
 import org.jgrapht.capi.attributes.RegisteredAttribute;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.BinaryGraphFormat;
+import org.jgrapht.capi.graph.NativeChunkedOutputStream;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.nio.AttributeType;
 import org.jgrapht.nio.BaseExporter;
 import org.jgrapht.nio.ExportException;
@@ -64,7 +69,7 @@ import org.jgrapht.nio.lemon.LemonExporter;
 
 public class ExporterApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "export_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -571,6 +576,314 @@ public class ExporterApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "export_file_binary", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int exportBinaryToFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			boolean compress, boolean exportAttributes) {
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		try {
+			BinaryGraphFormat.write(g, file, false, compress, exportAttributes);
+		} catch (IOException e) {
+			throw new ExportException(e);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "export_file_binary", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int llExportBinaryToFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			boolean compress, boolean exportAttributes) {
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		try {
+			BinaryGraphFormat.write(g, file, true, compress, exportAttributes);
+		} catch (IOException e) {
+			throw new ExportException(e);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	// *************** streaming ***************
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "export_stream_create_callback", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create an output stream for the streaming exporters which hands the output to a function in chunks.",
+					"All chunks but the last one of each export have exactly chunk_size bytes.",
+					"@param thread the isolate thread", "@param chunk_size the chunk size in bytes",
+					"@param callback function receiving each chunk, a non-zero return value aborts the export",
+					"@param res the resulting output stream handle" })
+	public static int createCallbackStream(IsolateThread thread, int chunkSize, WriteChunkFunctionPointer callback,
+			WordPointer res) {
+		NativeChunkedOutputStream stream = NativeChunkedOutputStream.toCallback(chunkSize, callback);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(stream));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "export_stream_create_fd", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create an output stream for the streaming exporters which writes to a file descriptor in chunks.",
+					"The file descriptor is not closed when the stream is destroyed. Only supported on POSIX systems, on Windows an unsupported operation error is returned.",
+					"@param thread the isolate thread", "@param chunk_size the chunk size in bytes",
+					"@param fd the file descriptor, e.g. of a pipe or socket",
+					"@param res the resulting output stream handle" })
+	public static int createFileDescriptorStream(IsolateThread thread, int chunkSize, int fd, WordPointer res) {
+		NativeChunkedOutputStream stream = NativeChunkedOutputStream.toFileDescriptor(chunkSize, fd);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(stream));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "export_stream_get_total", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Get the total number of bytes written by an output stream.",
+					"@param thread the isolate thread", "@param stream the output stream handle",
+					"@param res the total number of bytes" })
+	public static int getStreamTotal(IsolateThread thread, ObjectHandle streamHandle, CLongPointer res) {
+		NativeChunkedOutputStream stream = globalHandles.get(streamHandle);
+		if (res.isNonNull()) {
+			res.write(stream.getTotal());
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "export_stream_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int exportDIMACSToStream(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle streamHandle, ExporterDIMACSFormat format, boolean exportEdgeWeights,
+			ObjectHandle vertexIdStore) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		DIMACSFormat actualFormat = null;
+		switch (format) {
+		case DIMACS_FORMAT_COLORING:
+			actualFormat = DIMACSFormat.COLORING;
+			break;
+		case DIMACS_FORMAT_MAX_CLIQUE:
+			actualFormat = DIMACSFormat.MAX_CLIQUE;
+			break;
+		default:
+			actualFormat = DIMACSFormat.SHORTEST_PATH;
+			break;
+		}
+
+		DIMACSExporter<Integer, E> exporter = new DIMACSExporter<>(createIntegerIdProviderDimacs(vertexIdStore),
+				actualFormat);
+		exporter.setParameter(DIMACSExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "export_stream_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int llExportDIMACSToStream(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle streamHandle, ExporterDIMACSFormat format, boolean exportEdgeWeights,
+			ObjectHandle vertexIdStore) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+
+		DIMACSFormat actualFormat = null;
+		switch (format) {
+		case DIMACS_FORMAT_COLORING:
+			actualFormat = DIMACSFormat.COLORING;
+			break;
+		case DIMACS_FORMAT_MAX_CLIQUE:
+			actualFormat = DIMACSFormat.MAX_CLIQUE;
+			break;
+		default:
+			actualFormat = DIMACSFormat.SHORTEST_PATH;
+			break;
+		}
+
+		DIMACSExporter<Long, E> exporter = new DIMACSExporter<>(createLongIdProviderDimacs(vertexIdStore),
+				actualFormat);
+		exporter.setParameter(DIMACSExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_gml", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportGmlStream(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle streamHandle,
+			boolean exportEdgeWeights, boolean exportVertexLabels, boolean exportEdgeLabels,
+			ObjectHandle vertexLabelsStore, ObjectHandle edgeLabelsStore, ObjectHandle vertexIdStore) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		GmlExporter<V, E> exporter = new GmlExporter<>(createIdProvider(vertexIdStore));
+
+		exporter.setParameter(GmlExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
+		exporter.setParameter(GmlExporter.Parameter.EXPORT_CUSTOM_VERTEX_ATTRIBUTES, true);
+		exporter.setParameter(GmlExporter.Parameter.EXPORT_CUSTOM_EDGE_ATTRIBUTES, true);
+		exporter.setParameter(GmlExporter.Parameter.EXPORT_VERTEX_LABELS, exportVertexLabels);
+		exporter.setParameter(GmlExporter.Parameter.EXPORT_EDGE_LABELS, exportEdgeLabels);
+
+		setupAttributeStores(exporter, vertexLabelsStore, edgeLabelsStore);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_json", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportJsonStream(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle streamHandle,
+			ObjectHandle vertexLabelsStore, ObjectHandle edgeLabelsStore, ObjectHandle vertexIdStore) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		JSONExporter<V, E> exporter = new JSONExporter<>(createIdProvider(vertexIdStore));
+
+		setupAttributeStores(exporter, vertexLabelsStore, edgeLabelsStore);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_lemon", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportLemonToStream(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle streamHandle, boolean exportEdgeWeights, boolean escapeStringsAsJava,
+			ObjectHandle vertexIdStore) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		LemonExporter<V, E> exporter = new LemonExporter<>(createIdProvider(vertexIdStore));
+		exporter.setParameter(LemonExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
+		exporter.setParameter(LemonExporter.Parameter.ESCAPE_STRINGS_AS_JAVA, escapeStringsAsJava);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportCSVToStream(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle streamHandle,
+			ImporterExporterCSVFormat format, boolean exportEdgeWeights, boolean matrix_format_nodeid,
+			boolean matrix_format_zero_when_no_edge, ObjectHandle vertexIdStore) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		CSVFormat actualFormat = null;
+		switch (format) {
+		case CSV_FORMAT_MATRIX:
+			actualFormat = CSVFormat.MATRIX;
+			break;
+		default:
+			actualFormat = CSVFormat.ADJACENCY_LIST;
+			break;
+		}
+
+		CSVExporter<V, E> exporter = new CSVExporter<>(createIdProvider(vertexIdStore), actualFormat, ',');
+		exporter.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, exportEdgeWeights);
+		exporter.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, matrix_format_nodeid);
+		exporter.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_gexf", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportGexfStream(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle streamHandle,
+			ObjectHandle attributesRegistry, ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore,
+			ObjectHandle vertexIdStore, ObjectHandle edgeIdStore, boolean exportEdgeWeights, boolean exportEdgeLabels,
+			boolean exportEdgeTypes, boolean exportMeta) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		GEXFExporter<V, E> exporter = new GEXFExporter<>(createIdProvider(vertexIdStore),
+				createIdProvider(edgeIdStore));
+
+		exporter.setParameter(GEXFExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
+		exporter.setParameter(GEXFExporter.Parameter.EXPORT_EDGE_LABELS, exportEdgeLabels);
+		exporter.setParameter(GEXFExporter.Parameter.EXPORT_EDGE_TYPES, exportEdgeTypes);
+		exporter.setParameter(GEXFExporter.Parameter.EXPORT_META, exportMeta);
+
+		setupAttributeStores(exporter, vertexAttributesStore, edgeAttributesStore);
+
+		List<RegisteredAttribute> aRegistry = globalHandles.get(attributesRegistry);
+		if (aRegistry != null) {
+			for (RegisteredAttribute ra : aRegistry) {
+				AttributeCategory aCategory = AttributeCategory.valueOf(ra.getCategory().toUpperCase());
+				GEXFAttributeType aType = ra.getType() == null ? GEXFAttributeType.STRING
+						: GEXFAttributeType.valueOf(ra.getType().toUpperCase());
+				exporter.registerAttribute(ra.getName(), aCategory, aType, ra.getDefaultValue());
+			}
+		}
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_dot", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportDotStream(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle streamHandle,
+			ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore, ObjectHandle vertexIdStore) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		DOTExporter<V, E> exporter = new DOTExporter<>(createIdProvider(vertexIdStore));
+
+		setupAttributeStores(exporter, vertexAttributesStore, edgeAttributesStore);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_graph6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportGraph6Stream(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle streamHandle) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		Graph6Sparse6Exporter<V, E> exporter = new Graph6Sparse6Exporter<>(
+				Graph6Sparse6Exporter.Format.GRAPH6);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportSparse6Stream(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle streamHandle) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		Graph6Sparse6Exporter<V, E> exporter = new Graph6Sparse6Exporter<>(
+				Graph6Sparse6Exporter.Format.SPARSE6);
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "export_stream_graphml", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V,E> int exportGraphMLStream(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle streamHandle, ObjectHandle attributesRegistry, ObjectHandle vertexAttributesStore,
+			ObjectHandle edgeAttributesStore, ObjectHandle vertexIdStore, boolean exportEdgeWeights,
+			boolean exportVertexLabels, boolean exportEdgeLabels) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		GraphMLExporter<V, E> exporter = new GraphMLExporter<>(createIdProvider(vertexIdStore));
+
+		exporter.setExportEdgeWeights(exportEdgeWeights);
+		exporter.setExportVertexLabels(exportVertexLabels);
+		exporter.setExportEdgeLabels(exportEdgeLabels);
+
+		setupAttributeStores(exporter, vertexAttributesStore, edgeAttributesStore);
+
+		List<RegisteredAttribute> aRegistry = globalHandles.get(attributesRegistry);
+		if (aRegistry != null) {
+			for (RegisteredAttribute ra : aRegistry) {
+				GraphMLExporter.AttributeCategory aCategory = GraphMLExporter.AttributeCategory
+						.valueOf(ra.getCategory().toUpperCase());
+				AttributeType aType = ra.getType() == null ? null : AttributeType.valueOf(ra.getType().toUpperCase());
+				exporter.registerAttribute(ra.getName(), aCategory, aType, ra.getDefaultValue());
+			}
+		}
+
+		exportToStream(g, exporter, streamHandle);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	// *************** utils ***************
 
 	private static <E> Function<E, String> createIdProvider(ObjectHandle idStore) {
@@ -642,6 +955,28 @@ public class ExporterApi {
 		}
 	}
 
+	private static <V, E> void exportToStream(Graph<V, E> g, GraphExporter<V, E> exporter, ObjectHandle streamHandle) {
+		NativeChunkedOutputStream stream = globalHandles.get(streamHandle);
+		// the stream stays open for further exports, only the last chunk is flushed
+		Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+		IOException failure = null;
+		try {
+			exporter.exportGraph(g, writer);
+			writer.flush();
+		} catch (IOException e) {
+			failure = e;
+		}
+		try {
+			// exporters might have swallowed the failure, always check and clear it
+			stream.checkFailure();
+		} catch (IOException e) {
+			failure = e;
+		}
+		if (failure != null) {
+			throw new ExportException(failure);
+		}
+	}
+
 	private static <V, E> CCharPointerHolder exportToCString(Graph<V, E> g, GraphExporter<V, E> exporter) {
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 		try (OutputStreamWriter writer = new OutputStreamWriter(os, StandardCharsets.UTF_8)) {
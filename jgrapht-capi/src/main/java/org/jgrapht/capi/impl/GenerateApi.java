@@ -27,6 +27,7 @@ import org.jgrapht.Graph;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.generate.BarabasiAlbertForestGenerator;
 import org.jgrapht.generate.BarabasiAlbertGraphGenerator;
 import org.jgrapht.generate.ComplementGraphGenerator;
@@ -53,7 +54,7 @@ import org.jgrapht.generate.WindmillGraphsGenerator.Mode;
 
 public class GenerateApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_barabasi_albert", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -17,6 +17,8 @@
  */
 package org.jgrapht.capi.impl;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -28,6 +30,7 @@ import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CCharPointer;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.graalvm.nativeimage.c.type.CLongPointer;
@@ -46,6 +49,8 @@ import org.jgrapht.capi.JGraphTContext.LongToDoubleFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.JGraphTContext.VoidToIntegerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.VoidToLongFunctionPointer;
+import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.custom.io.ParallelEdgeListParser;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
 import org.jgrapht.capi.graph.CapiGraph;
 import org.jgrapht.capi.graph.CapiGraphAsMaskSubgraph;
@@ -56,12 +61,19 @@ import org.jgrapht.capi.graph.CapiGraphAsUnweightedGraph;
 import org.jgrapht.capi.graph.CapiGraphAsWeightedGraph;
 import org.jgrapht.capi.graph.CapiGraphEdgeReversedGraph;
 import org.jgrapht.capi.graph.DefaultCapiGraph;
+import org.jgrapht.capi.graph.FrozenGraph;
+import org.jgrapht.capi.graph.NativeEdgePairList;
+import org.jgrapht.capi.graph.NativeEdgeTripleList;
+import org.jgrapht.capi.graph.PrimitiveIntGraph;
+import org.jgrapht.capi.graph.PrimitiveLongGraph;
 import org.jgrapht.capi.graph.SafeEdgeSupplier;
 import org.jgrapht.capi.graph.SafeLongEdgeSupplier;
 import org.jgrapht.capi.graph.SafeLongVertexSupplier;
 import org.jgrapht.capi.graph.SafeVertexSupplier;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.graph.AsGraphUnion;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.nio.ImportException;
 import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
 import org.jgrapht.opt.graph.sparse.SparseIntDirectedWeightedGraph;
 import org.jgrapht.opt.graph.sparse.SparseIntUndirectedGraph;
@@ -75,7 +87,7 @@ import org.jgrapht.util.WeightCombiner;
  */
 public class GraphApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	public static Graph<Integer, Integer> createGraph(boolean directed, boolean allowingSelfLoops,
 			boolean allowingMultipleEdges, boolean weighted, VoidToIntegerFunctionPointer vertexSupplier,
@@ -171,6 +183,66 @@ public class GraphApi {
 		return graph;
 	}
 
+	public static Graph<Integer, Integer> createPrimitiveGraph(boolean directed, boolean allowingSelfLoops,
+			boolean allowingMultipleEdges, boolean weighted, VoidToIntegerFunctionPointer vertexSupplier,
+			VoidToIntegerFunctionPointer edgeSupplier) {
+		Supplier<Integer> vSupplier;
+		if (vertexSupplier.isNull()) {
+			vSupplier = new SafeVertexSupplier();
+		} else {
+			vSupplier = () -> vertexSupplier.invoke();
+		}
+
+		Supplier<Integer> eSupplier;
+		if (edgeSupplier.isNull()) {
+			eSupplier = new SafeEdgeSupplier();
+		} else {
+			eSupplier = () -> edgeSupplier.invoke();
+		}
+
+		Graph<Integer, Integer> graph = new PrimitiveIntGraph(vSupplier, eSupplier, directed, allowingSelfLoops,
+				allowingMultipleEdges, weighted);
+		if (vSupplier instanceof SafeVertexSupplier) {
+			((SafeVertexSupplier) vSupplier).setGraph(graph);
+		}
+		if (eSupplier instanceof SafeEdgeSupplier) {
+			((SafeEdgeSupplier) eSupplier).setGraph(graph);
+		}
+
+		// wrap in order to support all methods
+		return new DefaultCapiGraph<Integer, Integer>(graph);
+	}
+
+	public static Graph<Long, Long> createPrimitiveLongGraph(boolean directed, boolean allowingSelfLoops,
+			boolean allowingMultipleEdges, boolean weighted, VoidToLongFunctionPointer vertexSupplier,
+			VoidToLongFunctionPointer edgeSupplier) {
+		Supplier<Long> vSupplier;
+		if (vertexSupplier.isNull()) {
+			vSupplier = new SafeLongVertexSupplier();
+		} else {
+			vSupplier = () -> vertexSupplier.invoke();
+		}
+
+		Supplier<Long> eSupplier;
+		if (edgeSupplier.isNull()) {
+			eSupplier = new SafeLongEdgeSupplier();
+		} else {
+			eSupplier = () -> edgeSupplier.invoke();
+		}
+
+		Graph<Long, Long> graph = new PrimitiveLongGraph(vSupplier, eSupplier, directed, allowingSelfLoops,
+				allowingMultipleEdges, weighted);
+		if (vSupplier instanceof SafeLongVertexSupplier) {
+			((SafeLongVertexSupplier) vSupplier).setGraph(graph);
+		}
+		if (eSupplier instanceof SafeLongEdgeSupplier) {
+			((SafeLongEdgeSupplier) eSupplier).setGraph(graph);
+		}
+
+		// wrap in order to support all methods
+		return new DefaultCapiGraph<Long, Long>(graph);
+	}
+
 	/**
 	 * Create a graph and return its handle.
 	 *
@@ -209,6 +281,46 @@ public class GraphApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_create_primitive", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a graph backed by primitive arrays and return its handle.",
+					"The graph supports the same operations as graph_create while using much less memory per edge.",
+					"@param thread the isolate thread", "@param directed directed or not",
+					"@param allowing_self_loops whether to allow self-loops",
+					"@param allowing_multiple_edges whether to allow multiple edges",
+					"@param weighted weighted graph or not", "@param vertex_supplier vertex supplier, can be null",
+					"@param edge_supplier edge supplier, can be null", "@param result the resulting graph handle" })
+	public static int createPrimitiveGraph(IsolateThread thread, boolean directed, boolean allowingSelfLoops,
+			boolean allowingMultipleEdges, boolean weighted, VoidToIntegerFunctionPointer vertexSupplier,
+			VoidToIntegerFunctionPointer edgeSupplier, WordPointer res) {
+		Graph<Integer, Integer> graph = createPrimitiveGraph(directed, allowingSelfLoops, allowingMultipleEdges,
+				weighted, vertexSupplier, edgeSupplier);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "graph_create_primitive", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a long graph backed by primitive arrays and return its handle.",
+					"The graph supports the same operations as graph_create while using much less memory per edge.",
+					"@param thread the isolate thread", "@param directed directed or not",
+					"@param allowing_self_loops whether to allow self-loops",
+					"@param allowing_multiple_edges whether to allow multiple edges",
+					"@param weighted weighted graph or not", "@param vertex_supplier vertex supplier, can be null",
+					"@param edge_supplier edge supplier, can be null", "@param result the resulting graph handle" })
+	public static int createPrimitiveLongGraph(IsolateThread thread, boolean directed, boolean allowingSelfLoops,
+			boolean allowingMultipleEdges, boolean weighted, VoidToLongFunctionPointer vertexSupplier,
+			VoidToLongFunctionPointer edgeSupplier, WordPointer res) {
+		Graph<Long, Long> graph = createPrimitiveLongGraph(directed, allowingSelfLoops, allowingMultipleEdges,
+				weighted, vertexSupplier, edgeSupplier);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	/**
 	 * Create a graph and return its handle.
 	 *
@@ -225,20 +337,8 @@ public class GraphApi {
 	public static int createSparseGraph(IsolateThread thread, boolean directed, boolean weighted, int numVertices,
 			ObjectHandle edgesListHandle, IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
 
-		// map to internal enum
-		org.jgrapht.opt.graph.sparse.IncomingEdgesSupport iSupport;
-		switch (incomingEdgesSupport) {
-		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
-			iSupport = org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.NO_INCOMING_EDGES;
-			break;
-		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
-			iSupport = org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.FULL_INCOMING_EDGES;
-			break;
-		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
-		default:
-			iSupport = org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.LAZY_INCOMING_EDGES;
-			break;
-		}
+		org.jgrapht.opt.graph.sparse.IncomingEdgesSupport iSupport = toSparseIncomingEdgesSupport(
+				incomingEdgesSupport);
 
 		Graph<Integer, Integer> graph;
 		if (weighted) {
@@ -281,21 +381,125 @@ public class GraphApi {
 	public static int createSuccinctGraph(IsolateThread thread, boolean directed, int numVertices,
 			ObjectHandle edgesListHandle, IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
 
-		boolean incomingEdges = false;
-		switch (incomingEdgesSupport) {
-		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
-			incomingEdges = false;
-			break;
-		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
-			throw new IllegalArgumentException("Lazy construction of incoming edges not supported.");
-		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
-		default:
-			incomingEdges = true;
-			break;
+		boolean incomingEdges = toSuccinctIncomingEdges(incomingEdgesSupport);
+
+		List<Pair<Integer, Integer>> edges = globalHandles.get(edgesListHandle);
+		Graph<Integer, Integer> graph = createSuccinctGraph(directed, numVertices, edges, incomingEdges);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_sparse_create_from_arrays", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a sparse graph directly from native edge arrays", "@param thread the isolate thread",
+					"@param directed directed or not", "@param num_vertices number of vertices",
+					"@param sources array with the edge sources", "@param targets array with the edge targets",
+					"@param weights array with the edge weights, if null the graph is unweighted",
+					"@param num_edges number of edges",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param result the resulting graph handle" })
+	public static int createSparseGraphFromArrays(IsolateThread thread, boolean directed, int numVertices,
+			CIntPointer sources, CIntPointer targets, CDoublePointer weights, int numEdges,
+			IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
+		org.jgrapht.opt.graph.sparse.IncomingEdgesSupport iSupport = toSparseIncomingEdgesSupport(
+				incomingEdgesSupport);
+
+		// the sparse representations copy the edges, thus views are enough
+		Graph<Integer, Integer> graph;
+		if (weights.isNonNull()) {
+			List<Triple<Integer, Integer, Double>> edges = new NativeEdgeTripleList(sources, targets, weights,
+					numEdges);
+			if (directed) {
+				graph = new SparseIntDirectedWeightedGraph(numVertices, edges, iSupport);
+			} else {
+				graph = new SparseIntUndirectedWeightedGraph(numVertices, edges);
+			}
+		} else {
+			List<Pair<Integer, Integer>> edges = new NativeEdgePairList(sources, targets, numEdges);
+			if (directed) {
+				graph = new SparseIntDirectedGraph(numVertices, edges, iSupport);
+			} else {
+				graph = new SparseIntUndirectedGraph(numVertices, edges);
+			}
+		}
+
+		// wrap in order to support all methods
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_sparse_create_from_file_csv", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a sparse graph from a CSV edge list file using a parallel parser",
+					"Each line contains source,target and optionally weight, where the vertices are non-negative integers.",
+					"The file is memory-mapped and split at line boundaries into chunks which are parsed concurrently.",
+					"@param thread the isolate thread", "@param directed directed or not",
+					"@param filename the filename", "@param weighted whether to keep the edge weights",
+					"@param parallelism number of threads, if not positive all available processors are used",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param result the resulting graph handle" })
+	public static int createSparseGraphFromCsvFile(IsolateThread thread, boolean directed, CCharPointer filename,
+			boolean weighted, int parallelism, IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
+		Graph<Integer, Integer> graph = createSparseGraphFromFile(ParallelEdgeListParser.Format.CSV, directed,
+				filename, weighted, parallelism, incomingEdgesSupport);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_sparse_create_from_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a sparse graph from a DIMACS file using a parallel parser",
+					"Edges are read from the a and e lines, vertices are renumbered to start from zero.",
+					"The file is memory-mapped and split at line boundaries into chunks which are parsed concurrently.",
+					"@param thread the isolate thread", "@param directed directed or not",
+					"@param filename the filename", "@param weighted whether to keep the edge weights",
+					"@param parallelism number of threads, if not positive all available processors are used",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param result the resulting graph handle" })
+	public static int createSparseGraphFromDimacsFile(IsolateThread thread, boolean directed, CCharPointer filename,
+			boolean weighted, int parallelism, IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
+		Graph<Integer, Integer> graph = createSparseGraphFromFile(ParallelEdgeListParser.Format.DIMACS, directed,
+				filename, weighted, parallelism, incomingEdgesSupport);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_succinct_create_from_arrays", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a succinct graph directly from native edge arrays", "@param thread the isolate thread",
+					"@param directed directed or not", "@param num_vertices number of vertices",
+					"@param sources array with the edge sources", "@param targets array with the edge targets",
+					"@param num_edges number of edges",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param result the resulting graph handle" })
+	public static int createSuccinctGraphFromArrays(IsolateThread thread, boolean directed, int numVertices,
+			CIntPointer sources, CIntPointer targets, int numEdges, IncomingEdgesSupport incomingEdgesSupport,
+			WordPointer res) {
+		boolean incomingEdges = toSuccinctIncomingEdges(incomingEdgesSupport);
+
+		List<Pair<Integer, Integer>> edges = new NativeEdgePairList(sources, targets, numEdges);
+		Graph<Integer, Integer> graph = createSuccinctGraph(directed, numVertices, edges, incomingEdges);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
 		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
 
+	private static Graph<Integer, Integer> createSuccinctGraph(boolean directed, int numVertices,
+			List<Pair<Integer, Integer>> edges, boolean incomingEdges) {
 		// create a sparse graph
-		List<Pair<Integer, Integer>> edges = globalHandles.get(edgesListHandle);
 		Graph<Integer, Integer> sparseGraph;
 		if (directed) {
 			sparseGraph = new SparseIntDirectedGraph(numVertices, edges,
@@ -313,12 +517,66 @@ public class GraphApi {
 		}
 
 		// wrap in order to support all methods
-		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+		return new DefaultCapiGraph<Integer, Integer>(graph);
+	}
 
-		if (res.isNonNull()) {
-			res.write(globalHandles.create(graph));
+	private static Graph<Integer, Integer> createSparseGraphFromFile(ParallelEdgeListParser.Format format,
+			boolean directed, CCharPointer filename, boolean weighted, int parallelism,
+			IncomingEdgesSupport incomingEdgesSupport) {
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		ParallelEdgeListParser.Result edges;
+		try {
+			edges = new ParallelEdgeListParser(format, weighted, parallelism).parse(file);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+
+		org.jgrapht.opt.graph.sparse.IncomingEdgesSupport iSupport = toSparseIncomingEdgesSupport(
+				incomingEdgesSupport);
+		int n = edges.getNumVertices();
+		Graph<Integer, Integer> graph;
+		if (weighted) {
+			if (directed) {
+				graph = new SparseIntDirectedWeightedGraph(n, edges.asTriples(), iSupport);
+			} else {
+				graph = new SparseIntUndirectedWeightedGraph(n, edges.asTriples());
+			}
+		} else {
+			if (directed) {
+				graph = new SparseIntDirectedGraph(n, edges.asPairs(), iSupport);
+			} else {
+				graph = new SparseIntUndirectedGraph(n, edges.asPairs());
+			}
+		}
+
+		// wrap in order to support all methods
+		return new DefaultCapiGraph<Integer, Integer>(graph);
+	}
+
+	private static org.jgrapht.opt.graph.sparse.IncomingEdgesSupport toSparseIncomingEdgesSupport(
+			IncomingEdgesSupport incomingEdgesSupport) {
+		// map to internal enum
+		switch (incomingEdgesSupport) {
+		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
+			return org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.NO_INCOMING_EDGES;
+		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
+			return org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.FULL_INCOMING_EDGES;
+		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
+		default:
+			return org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.LAZY_INCOMING_EDGES;
+		}
+	}
+
+	private static boolean toSuccinctIncomingEdges(IncomingEdgesSupport incomingEdgesSupport) {
+		switch (incomingEdgesSupport) {
+		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
+			return false;
+		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
+			throw new IllegalArgumentException("Lazy construction of incoming edges not supported.");
+		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
+		default:
+			return true;
 		}
-		return Status.STATUS_SUCCESS.getCValue();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
@@ -506,6 +764,188 @@ public class GraphApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_add_vertices_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple vertices to the graph using the vertex supplier",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param count number of vertices to add",
+					"@param result array of size count where the new vertices are written, can be null" })
+	public static int addVerticesBulk(IsolateThread thread, ObjectHandle graphHandle, int count, CIntPointer res) {
+		Graph<Integer, ?> g = globalHandles.get(graphHandle);
+		for (int i = 0; i < count; i++) {
+			int v = g.addVertex();
+			if (res.isNonNull()) {
+				res.write(i, v);
+			}
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_add_vertices_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple vertices to the graph using the vertex supplier",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param count number of vertices to add",
+					"@param result array of size count where the new vertices are written, can be null" })
+	public static int addVerticesBulk(IsolateThread thread, ObjectHandle graphHandle, int count, CLongPointer res) {
+		Graph<Long, ?> g = globalHandles.get(graphHandle);
+		for (int i = 0; i < count; i++) {
+			long v = g.addVertex();
+			if (res.isNonNull()) {
+				res.write(i, v);
+			}
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_add_given_vertices_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple given vertices to the graph", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array with the vertices to add",
+					"@param count number of vertices in the array",
+					"@param result number of vertices actually added, can be null" })
+	public static int addGivenVerticesBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CIntPointer res) {
+		Graph<Integer, ?> g = globalHandles.get(graphHandle);
+		int added = 0;
+		for (int i = 0; i < count; i++) {
+			if (g.addVertex(vertices.read(i))) {
+				added++;
+			}
+		}
+		if (res.isNonNull()) {
+			res.write(added);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_add_given_vertices_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple given vertices to the graph", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array with the vertices to add",
+					"@param count number of vertices in the array",
+					"@param result number of vertices actually added, can be null" })
+	public static int addGivenVerticesBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CIntPointer res) {
+		Graph<Long, ?> g = globalHandles.get(graphHandle);
+		int added = 0;
+		for (int i = 0; i < count; i++) {
+			if (g.addVertex(vertices.read(i))) {
+				added++;
+			}
+		}
+		if (res.isNonNull()) {
+			res.write(added);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_add_edges_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple edges to the graph using the edge supplier", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param sources array with the edge sources",
+					"@param targets array with the edge targets",
+					"@param weights array with the edge weights, can be null",
+					"@param count number of edges to add",
+					"@param result array of size count where the new edges are written, can be null" })
+	public static int addEdgesBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			CIntPointer targets, CDoublePointer weights, int count, CIntPointer res) {
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		for (int i = 0; i < count; i++) {
+			Integer e = g.addEdge(sources.read(i), targets.read(i));
+			if (e == null) {
+				throw new IllegalArgumentException("Graph does not allow multiple edges");
+			}
+			if (weights.isNonNull()) {
+				g.setEdgeWeight(e, weights.read(i));
+			}
+			if (res.isNonNull()) {
+				res.write(i, e);
+			}
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "graph_add_edges_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple edges to the graph using the edge supplier", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param sources array with the edge sources",
+					"@param targets array with the edge targets",
+					"@param weights array with the edge weights, can be null",
+					"@param count number of edges to add",
+					"@param result array of size count where the new edges are written, can be null" })
+	public static int addEdgesBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer sources,
+			CLongPointer targets, CDoublePointer weights, int count, CLongPointer res) {
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		for (int i = 0; i < count; i++) {
+			Long e = g.addEdge(sources.read(i), targets.read(i));
+			if (e == null) {
+				throw new IllegalArgumentException("Graph does not allow multiple edges");
+			}
+			if (weights.isNonNull()) {
+				g.setEdgeWeight(e, weights.read(i));
+			}
+			if (res.isNonNull()) {
+				res.write(i, e);
+			}
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_add_given_edges_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple given edges to the graph", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param sources array with the edge sources",
+					"@param targets array with the edge targets", "@param edges array with the edges to add",
+					"@param weights array with the edge weights, can be null",
+					"@param count number of edges to add",
+					"@param result number of edges actually added, can be null" })
+	public static int addGivenEdgesBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			CIntPointer targets, CIntPointer edges, CDoublePointer weights, int count, CIntPointer res) {
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		int added = 0;
+		for (int i = 0; i < count; i++) {
+			int e = edges.read(i);
+			if (g.addEdge(sources.read(i), targets.read(i), e)) {
+				added++;
+				if (weights.isNonNull()) {
+					g.setEdgeWeight(e, weights.read(i));
+				}
+			}
+		}
+		if (res.isNonNull()) {
+			res.write(added);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "graph_add_given_edges_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Add multiple given edges to the graph", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param sources array with the edge sources",
+					"@param targets array with the edge targets", "@param edges array with the edges to add",
+					"@param weights array with the edge weights, can be null",
+					"@param count number of edges to add",
+					"@param result number of edges actually added, can be null" })
+	public static int addGivenEdgesBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer sources,
+			CLongPointer targets, CLongPointer edges, CDoublePointer weights, int count, CIntPointer res) {
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		int added = 0;
+		for (int i = 0; i < count; i++) {
+			long e = edges.read(i);
+			if (g.addEdge(sources.read(i), targets.read(i), e)) {
+				added++;
+				if (weights.isNonNull()) {
+					g.setEdgeWeight(e, weights.read(i));
+				}
+			}
+		}
+		if (res.isNonNull()) {
+			res.write(added);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "graph_remove_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeEdge(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
@@ -947,6 +1387,23 @@ public class GraphApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_freeze", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create an immutable copy of a graph which can be queried concurrently from many isolate threads.",
+					"All internal structures, such as lazily computed incoming edges, are materialized during the call.",
+					"The copy has the same vertices and edges in the same order but no attributes.",
+					"Attributes set on the copy afterwards must not be modified while other threads read it.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param res the resulting graph handle" })
+	public static <V, E> int freeze(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Graph<V, E> gIn = globalHandles.get(graphHandle);
+		Graph<V, E> gOut = new DefaultCapiGraph<V, E>(new FrozenGraph<V, E>(gIn));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(gOut));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_unweighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asUnweighted(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
@@ -0,0 +1,218 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.UnmanagedMemory;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.graalvm.word.PointerBase;
+import org.graalvm.word.WordFactory;
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.DefaultCapiGraph;
+import org.jgrapht.capi.graph.IntVertexIndex;
+import org.jgrapht.capi.graph.MappedCsrGraph;
+import org.jgrapht.capi.handles.StripedObjectHandles;
+import org.jgrapht.nio.ExportException;
+import org.jgrapht.nio.ImportException;
+
+/**
+ * Export of graphs in compressed sparse row format into native memory or into
+ * memory-mapped files.
+ */
+public class GraphCsrApi {
+
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_csr_create", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a compressed sparse row snapshot of a graph in native memory.",
+					"Row i corresponds to vertex vertices[i] and contains entries offsets[i] up to offsets[i+1].",
+					"Each entry j contains the row index targets[j] of the opposite vertex, the edge edges[j] and its weight weights[j].",
+					"Directed graphs store outgoing edges, undirected graphs store all incident edges.",
+					"The arrays must be released using graph_csr_destroy.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param num_vertices number of vertices (rows)",
+					"@param num_entries number of entries",
+					"@param vertices array of size num_vertices with the vertex of each row, can be null",
+					"@param offsets array of size num_vertices+1 with the row offsets, can be null",
+					"@param targets array of size num_entries with the target rows, can be null",
+					"@param edges array of size num_entries with the edges, can be null",
+					"@param weights array of size num_entries with the edge weights, can be null" })
+	public static int createCsr(IsolateThread thread, ObjectHandle graphHandle, CIntPointer numVerticesRes,
+			CIntPointer numEntriesRes, WordPointer verticesRes, WordPointer offsetsRes, WordPointer targetsRes,
+			WordPointer edgesRes, WordPointer weightsRes) {
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+
+		IntVertexIndex index = new IntVertexIndex(g);
+		int n = index.size();
+
+		CIntPointer vertices = malloc(n);
+		CIntPointer offsets = malloc(n + 1);
+		CIntPointer targets = WordFactory.nullPointer();
+		CIntPointer edges = WordFactory.nullPointer();
+		CDoublePointer weights = WordFactory.nullPointer();
+		int entries = 0;
+		try {
+			// first pass computes the row offsets
+			int row;
+			for (row = 0; row < n; row++) {
+				vertices.write(row, index.vertexAt(row));
+			}
+			offsets.write(0, 0);
+			for (row = 0; row < n; row++) {
+				entries = Math.addExact(entries, g.outgoingEdgesOf(vertices.read(row)).size());
+				offsets.write(row + 1, entries);
+			}
+
+			// second pass fills the entries
+			targets = malloc(entries);
+			edges = malloc(entries);
+			if (weightsRes.isNonNull()) {
+				weights = mallocDouble(entries);
+			}
+			int pos = 0;
+			for (row = 0; row < n; row++) {
+				int v = vertices.read(row);
+				for (Integer e : g.outgoingEdgesOf(v)) {
+					int u = Graphs.getOppositeVertex(g, e, v);
+					targets.write(pos, index.indexOf(u));
+					edges.write(pos, e);
+					if (weights.isNonNull()) {
+						weights.write(pos, g.getEdgeWeight(e));
+					}
+					pos++;
+				}
+			}
+		} catch (RuntimeException e) {
+			free(vertices);
+			free(offsets);
+			free(targets);
+			free(edges);
+			free(weights);
+			throw e;
+		}
+
+		if (numVerticesRes.isNonNull()) {
+			numVerticesRes.write(n);
+		}
+		if (numEntriesRes.isNonNull()) {
+			numEntriesRes.write(entries);
+		}
+		writeOrFree(verticesRes, vertices);
+		writeOrFree(offsetsRes, offsets);
+		writeOrFree(targetsRes, targets);
+		writeOrFree(edgesRes, edges);
+		writeOrFree(weightsRes, weights);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + "graph_csr_destroy", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Release the native arrays of a compressed sparse row snapshot.", "@param thread the isolate thread",
+			"@param vertices the vertices array, can be null", "@param offsets the offsets array, can be null",
+			"@param targets the targets array, can be null", "@param edges the edges array, can be null",
+			"@param weights the weights array, can be null" })
+	public static int destroyCsr(IsolateThread thread, CIntPointer vertices, CIntPointer offsets, CIntPointer targets,
+			CIntPointer edges, CDoublePointer weights) {
+		free(vertices);
+		free(offsets);
+		free(targets);
+		free(edges);
+		free(weights);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_csr_file_write", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Write a graph into a file in compressed sparse row format which can be memory-mapped using graph_csr_file_open.",
+					"Identifiers are kept. Identifiers which are not 0 up to n-1 for the vertices or 0 up to m-1 for the edges are stored in the file and resolved by binary search.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param filename the filename" })
+	public static int writeCsrFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename) {
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		try {
+			MappedCsrGraph.write(g, file);
+		} catch (IOException e) {
+			throw new ExportException(e);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "graph_csr_file_open", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Open a graph written by graph_csr_file_write as a read-only memory-mapped graph with integer vertices and edges.",
+					"Opening is independent of the graph size, pages are loaded on demand and shared between processes.",
+					"@param thread the isolate thread", "@param filename the filename",
+					"@param res the resulting graph handle" })
+	public static int openCsrFile(IsolateThread thread, CCharPointer filename, WordPointer res) {
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		Graph<Integer, Integer> graph;
+		try {
+			graph = MappedCsrGraph.open(file);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+
+		// wrap in order to support all methods
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	private static CIntPointer malloc(int size) {
+		return UnmanagedMemory.malloc(WordFactory.unsigned((long) Math.max(size, 1) * Integer.BYTES));
+	}
+
+	private static CDoublePointer mallocDouble(int size) {
+		return UnmanagedMemory.malloc(WordFactory.unsigned((long) Math.max(size, 1) * Double.BYTES));
+	}
+
+	private static void writeOrFree(WordPointer res, PointerBase array) {
+		if (array.isNull()) {
+			return;
+		}
+		if (res.isNonNull()) {
+			res.write(array);
+		} else {
+			UnmanagedMemory.free(array);
+		}
+	}
+
+	private static void free(PointerBase array) {
+		if (array.isNonNull()) {
+			UnmanagedMemory.free(array);
+		}
+	}
+
+}
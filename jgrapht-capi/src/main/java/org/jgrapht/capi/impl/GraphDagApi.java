@@ -35,11 +35,12 @@ import org.jgrapht.capi.graph.SafeEdgeSupplier;
 import org.jgrapht.capi.graph.SafeLongEdgeSupplier;
 import org.jgrapht.capi.graph.SafeLongVertexSupplier;
 import org.jgrapht.capi.graph.SafeVertexSupplier;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.graph.DirectedAcyclicGraph;
 
 public class GraphDagApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	/**
 	 * Create a dag and return its handle.
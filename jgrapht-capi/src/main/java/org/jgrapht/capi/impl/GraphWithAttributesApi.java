@@ -33,6 +33,7 @@ import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
 import org.jgrapht.capi.graph.GraphWithAttributes;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.nio.Attribute;
 import org.jgrapht.nio.DefaultAttribute;
 
@@ -41,7 +42,7 @@ import org.jgrapht.nio.DefaultAttribute;
  */
 public class GraphWithAttributesApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	// ---------------- GET ----------------
 
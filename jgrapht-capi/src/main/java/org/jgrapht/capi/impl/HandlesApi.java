@@ -33,10 +33,11 @@ import org.jgrapht.alg.util.Triple;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class HandlesApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	/**
 	 * Destroy a handle
@@ -50,6 +51,52 @@ public class HandlesApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + "handles_get_stats", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Get statistics about the handles of the isolate.",
+			"A number of live handles which keeps growing usually indicates handles which are never destroyed.",
+			"@param thread the isolate thread", "@param live number of handles currently alive, can be null",
+			"@param created total number of handles created, can be null",
+			"@param destroyed total number of handles destroyed, can be null",
+			"@param capacity number of slots allocated by the handles table, can be null" })
+	public static int getStats(IsolateThread thread, CLongPointer live, CLongPointer created, CLongPointer destroyed,
+			CLongPointer capacity) {
+		StripedObjectHandles handles = StripedObjectHandles.getGlobal();
+		if (live.isNonNull()) {
+			live.write(handles.getLiveCount());
+		}
+		if (created.isNonNull()) {
+			created.write(handles.getCreatedCount());
+		}
+		if (destroyed.isNonNull()) {
+			destroyed.write(handles.getDestroyedCount());
+		}
+		if (capacity.isNonNull()) {
+			capacity.write(handles.getCapacity());
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + "handles_scope_begin", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Open a handles scope for the calling thread. Every handle created by this thread until the matching",
+			"handles_scope_end is released by that call. Scopes can be nested, handles which must outlive the scope",
+			"should be created before it is opened.", "@param thread the isolate thread" })
+	public static int scopeBegin(IsolateThread thread) {
+		StripedObjectHandles.getGlobal().beginScope();
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + "handles_scope_end", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Close the innermost handles scope of the calling thread and destroy all handles created inside it.",
+			"Handles which were already destroyed explicitly are skipped.", "@param thread the isolate thread",
+			"@param released the number of handles destroyed, can be null" })
+	public static int scopeEnd(IsolateThread thread, CIntPointer released) {
+		int count = StripedObjectHandles.getGlobal().endScope();
+		if (released.isNonNull()) {
+			released.write(count);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	/**
 	 * Access a CCharPointerHolder which has been previously kept in the global
 	 * handles.
@@ -18,6 +18,7 @@
 package org.jgrapht.capi.impl;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 
 import org.apache.commons.text.StringEscapeUtils;
@@ -43,7 +44,10 @@ import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.custom.io.CustomDIMACSImporter;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.BinaryGraphFormat;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.nio.BaseEventDrivenImporter;
+import org.jgrapht.nio.ImportException;
 import org.jgrapht.nio.csv.CSVFormat;
 import org.jgrapht.nio.csv.CSVImporter;
 import org.jgrapht.nio.dot.DOTImporter;
@@ -56,7 +60,7 @@ import org.jgrapht.nio.json.JSONImporter;
 
 public class ImporterApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "import_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -1086,6 +1090,34 @@ public class ImporterApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_file_binary", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importBinaryFromFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			boolean preserveIds) {
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		try {
+			BinaryGraphFormat.read(g, file, preserveIds, Math::toIntExact, Math::toIntExact);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_file_binary", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int llImportBinaryFromFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			boolean preserveIds) {
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		try {
+			BinaryGraphFormat.read(g, file, preserveIds, x -> x, x -> x);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	// **************** Utils ****************
 
 	private static void setupImportAttributes(BaseEventDrivenImporter<Integer, Integer> importer,
@@ -18,20 +18,28 @@
 package org.jgrapht.capi.impl;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.commons.text.translate.CharSequenceTranslator;
 import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.UnmanagedMemory;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
 import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
 import org.graalvm.nativeimage.c.type.WordPointer;
+import org.graalvm.word.PointerBase;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.alg.util.Triple;
@@ -40,10 +48,17 @@ import org.jgrapht.capi.JGraphTContext.ImporterExporterCSVFormat;
 import org.jgrapht.capi.JGraphTContext.IntegerIdNotifyAttributeFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongIdNotifyAttributeFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.JGraphTContext.StringEdgeBatchFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.StringIdNotifyAttributeFunctionPointer;
 import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.custom.io.ParallelEdgeListParser;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.NativeEdgeArraysBuilder;
+import org.jgrapht.capi.graph.NativeStringEdgeBatch;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.nio.BaseEventDrivenImporter;
+import org.jgrapht.nio.EventDrivenImporter;
+import org.jgrapht.nio.ImportException;
 import org.jgrapht.nio.csv.CSVEventDrivenImporter;
 import org.jgrapht.nio.csv.CSVFormat;
 import org.jgrapht.nio.dimacs.DIMACSEventDrivenImporter;
@@ -67,10 +82,23 @@ import org.jgrapht.nio.json.JSONEventDrivenImporter;
  * 
  * Note that this is required, as the JGraphT importers are not guaranteed to
  * return attributes in some particular order.
+ * 
+ * Finally, the streaming versions never build the edge list. They hand the
+ * edges to a C callback in fixed-size batches while parsing, thus inputs of any
+ * size can be imported with bounded memory.
+ * 
+ * The integer identifier versions parse the vertices as int or long and write
+ * the edges directly into native arrays of sources, targets and optionally
+ * weights, without creating any strings for the endpoints. The exception is
+ * CSV, whose importer reports each endpoint as a string which is then parsed;
+ * the parallel CSV version avoids that for edge lists. The arrays are owned by
+ * the caller and must be released using import_edgelist_int_destroy.
+ * The parallel versions memory-map the file and parse chunks of it
+ * concurrently, see {@link ParallelEdgeListParser}.
  */
 public class ImporterEdgeListApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	// ------------------------- DIMACS ------------------------------
 
@@ -1274,8 +1302,433 @@ public class ImporterEdgeListApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	// ------------------------- integer identifiers -----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistFromDimacsFile(IsolateThread thread, CCharPointer filename,
+			CIntPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
+				.zeroBasedNumbering(true);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, v -> v),
+				new File(StringUtils.toJavaStringFromUtf8(filename)), null, false, numEdgesRes, sourcesRes, targetsRes,
+				weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_string_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistFromDimacsString(IsolateThread thread, CCharPointer input,
+			CIntPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
+				.zeroBasedNumbering(true);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, v -> v), null,
+				StringUtils.toJavaStringFromUtf8(input), false, numEdgesRes, sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_edgelist_int_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importLongEdgelistFromDimacsFile(IsolateThread thread, CCharPointer filename,
+			CLongPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
+				.zeroBasedNumbering(true);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, v -> v),
+				new File(StringUtils.toJavaStringFromUtf8(filename)), null, true, numEdgesRes, sourcesRes, targetsRes,
+				weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_edgelist_int_string_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importLongEdgelistFromDimacsString(IsolateThread thread, CCharPointer input,
+			CLongPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
+				.zeroBasedNumbering(true);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, v -> v), null,
+				StringUtils.toJavaStringFromUtf8(input), true, numEdgesRes, sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_file_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistFromCsvFile(IsolateThread thread, CCharPointer filename,
+			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
+			boolean matrix_format_zero_when_no_edge, CIntPointer numEdgesRes, WordPointer sourcesRes,
+			WordPointer targetsRes, WordPointer weightsRes) {
+		CSVEventDrivenImporter importer = new CSVEventDrivenImporter(toCSVFormat(format));
+		importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, import_edge_weights);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, matrix_format_nodeid);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, Integer::parseInt),
+				new File(StringUtils.toJavaStringFromUtf8(filename)), null, false, numEdgesRes, sourcesRes, targetsRes,
+				weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_string_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistFromCsvString(IsolateThread thread, CCharPointer input,
+			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
+			boolean matrix_format_zero_when_no_edge, CIntPointer numEdgesRes, WordPointer sourcesRes,
+			WordPointer targetsRes, WordPointer weightsRes) {
+		CSVEventDrivenImporter importer = new CSVEventDrivenImporter(toCSVFormat(format));
+		importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, import_edge_weights);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, matrix_format_nodeid);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, Integer::parseInt), null,
+				StringUtils.toJavaStringFromUtf8(input), false, numEdgesRes, sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_edgelist_int_file_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importLongEdgelistFromCsvFile(IsolateThread thread, CCharPointer filename,
+			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
+			boolean matrix_format_zero_when_no_edge, CLongPointer numEdgesRes, WordPointer sourcesRes,
+			WordPointer targetsRes, WordPointer weightsRes) {
+		CSVEventDrivenImporter importer = new CSVEventDrivenImporter(toCSVFormat(format));
+		importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, import_edge_weights);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, matrix_format_nodeid);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, Long::parseLong),
+				new File(StringUtils.toJavaStringFromUtf8(filename)), null, true, numEdgesRes, sourcesRes, targetsRes,
+				weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_edgelist_int_string_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importLongEdgelistFromCsvString(IsolateThread thread, CCharPointer input,
+			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
+			boolean matrix_format_zero_when_no_edge, CLongPointer numEdgesRes, WordPointer sourcesRes,
+			WordPointer targetsRes, WordPointer weightsRes) {
+		CSVEventDrivenImporter importer = new CSVEventDrivenImporter(toCSVFormat(format));
+		importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, import_edge_weights);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, matrix_format_nodeid);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
+		importIntEdgelist(importer, edges -> setupImporterWithEdgeArrays(importer, edges, Long::parseLong), null,
+				StringUtils.toJavaStringFromUtf8(input), true, numEdgesRes, sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_file_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistFromGraph6Sparse6File(IsolateThread thread, CCharPointer filename,
+			CIntPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
+		importIntEdgelist(importer, edges -> setupImporterWithPairEdgeArrays(importer, edges, v -> v),
+				new File(StringUtils.toJavaStringFromUtf8(filename)), null, false, numEdgesRes, sourcesRes, targetsRes,
+				weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_string_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistFromGraph6Sparse6String(IsolateThread thread, CCharPointer input,
+			CIntPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
+		importIntEdgelist(importer, edges -> setupImporterWithPairEdgeArrays(importer, edges, v -> v), null,
+				StringUtils.toJavaStringFromUtf8(input), false, numEdgesRes, sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_edgelist_int_file_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importLongEdgelistFromGraph6Sparse6File(IsolateThread thread, CCharPointer filename,
+			CLongPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
+		importIntEdgelist(importer, edges -> setupImporterWithPairEdgeArrays(importer, edges, v -> v),
+				new File(StringUtils.toJavaStringFromUtf8(filename)), null, true, numEdgesRes, sourcesRes, targetsRes,
+				weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_edgelist_int_string_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importLongEdgelistFromGraph6Sparse6String(IsolateThread thread, CCharPointer input,
+			CLongPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes, WordPointer weightsRes) {
+		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
+		importIntEdgelist(importer, edges -> setupImporterWithPairEdgeArrays(importer, edges, v -> v), null,
+				StringUtils.toJavaStringFromUtf8(input), true, numEdgesRes, sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_parallel_file_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistParallelFromCsvFile(IsolateThread thread, CCharPointer filename, int parallelism,
+			CIntPointer numVerticesRes, CIntPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes,
+			WordPointer weightsRes) {
+		importParallel(ParallelEdgeListParser.Format.CSV, filename, parallelism, numVerticesRes, numEdgesRes,
+				sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_edgelist_int_parallel_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importIntEdgelistParallelFromDimacsFile(IsolateThread thread, CCharPointer filename,
+			int parallelism, CIntPointer numVerticesRes, CIntPointer numEdgesRes, WordPointer sourcesRes,
+			WordPointer targetsRes, WordPointer weightsRes) {
+		importParallel(ParallelEdgeListParser.Format.DIMACS, filename, parallelism, numVerticesRes, numEdgesRes,
+				sourcesRes, targetsRes, weightsRes);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "import_edgelist_int_destroy", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int destroyIntEdgelist(IsolateThread thread, PointerBase sources, PointerBase targets,
+			CDoublePointer weights) {
+		free(sources);
+		free(targets);
+		free(weights);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	// ------------------------- streaming ---------------------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromDimacsFile(IsolateThread thread, CCharPointer filename, int batch_size,
+			StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
+				.zeroBasedNumbering(true);
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_gml", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromGmlFile(IsolateThread thread, CCharPointer filename, int batch_size,
+			StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_json", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromJsonFile(IsolateThread thread, CCharPointer filename, int batch_size,
+			StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_csv", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromCsvFile(IsolateThread thread, CCharPointer filename,
+			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
+			boolean matrix_format_zero_when_no_edge, int batch_size, StringEdgeBatchFunctionPointer callback,
+			CLongPointer res) {
+		CSVEventDrivenImporter importer = new CSVEventDrivenImporter(toCSVFormat(format));
+		importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, import_edge_weights);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, matrix_format_nodeid);
+		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_gexf", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromGexfFile(IsolateThread thread, CCharPointer filename,
+			boolean validate_schema, int batch_size, StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
+		importer.setSchemaValidation(validate_schema);
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_graphml_simple", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromGraphmlSimpleFile(IsolateThread thread, CCharPointer filename,
+			boolean validate_schema, int batch_size, StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
+		importer.setSchemaValidation(validate_schema);
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_graphml", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromGraphmlFile(IsolateThread thread, CCharPointer filename,
+			boolean validate_schema, int batch_size, StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
+		importer.setSchemaValidation(validate_schema);
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_dot", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromDotFile(IsolateThread thread, CCharPointer filename, int batch_size,
+			StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithPairEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "import_edgelist_stream_file_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int importEdgelistStreamFromGraph6Sparse6File(IsolateThread thread, CCharPointer filename,
+			int batch_size, StringEdgeBatchFunctionPointer callback, CLongPointer res) {
+		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
+		NativeStringEdgeBatch batch = new NativeStringEdgeBatch(batch_size, callback);
+		setupImporterWithPairEdgeBatch(importer, batch);
+		importStreaming(importer, filename, batch, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	// ---------------------- utils -----------------------------------
 
+	private static CSVFormat toCSVFormat(ImporterExporterCSVFormat format) {
+		switch (format) {
+		case CSV_FORMAT_ADJACENCY_LIST:
+			return CSVFormat.ADJACENCY_LIST;
+		case CSV_FORMAT_EDGE_LIST:
+			return CSVFormat.EDGE_LIST;
+		default:
+			return CSVFormat.MATRIX;
+		}
+	}
+
+	private static void importParallel(ParallelEdgeListParser.Format format, CCharPointer filename, int parallelism,
+			CIntPointer numVerticesRes, CIntPointer numEdgesRes, WordPointer sourcesRes, WordPointer targetsRes,
+			WordPointer weightsRes) {
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		boolean weighted = weightsRes.isNonNull();
+		ParallelEdgeListParser.Result result;
+		try {
+			result = new ParallelEdgeListParser(format, weighted, parallelism).parse(file);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+
+		// copy each chunk at its offset and release it, thus the edges are never held
+		// twice in full on the Java heap
+		int m = result.getNumEdges();
+		try (NativeEdgeArraysBuilder edges = new NativeEdgeArraysBuilder(false, weighted, m)) {
+			edges.resize(m);
+			result.drain((offset, sources, targets, weights, count) -> edges.setAll(offset, sources, targets,
+					weights, count));
+			edges.transfer(sourcesRes, targetsRes, weightsRes);
+		}
+		if (numVerticesRes.isNonNull()) {
+			numVerticesRes.write(result.getNumVertices());
+		}
+		if (numEdgesRes.isNonNull()) {
+			numEdgesRes.write(m);
+		}
+	}
+
+	/**
+	 * Run an importer whose edge consumer is installed by setup and collect the
+	 * edges into native arrays. Exactly one of file and input is not null.
+	 */
+	private static void importIntEdgelist(EventDrivenImporter<?, ?> importer, Consumer<NativeEdgeArraysBuilder> setup,
+			File file, String input, boolean longIds, PointerBase numEdgesRes, WordPointer sourcesRes,
+			WordPointer targetsRes, WordPointer weightsRes) {
+		try (NativeEdgeArraysBuilder edges = new NativeEdgeArraysBuilder(longIds, weightsRes.isNonNull())) {
+			setup.accept(edges);
+			if (file != null) {
+				importer.importInput(file);
+			} else {
+				try (StringReader reader = new StringReader(input)) {
+					importer.importInput(reader);
+				}
+			}
+			edges.transfer(sourcesRes, targetsRes, weightsRes);
+			if (numEdgesRes.isNonNull()) {
+				if (longIds) {
+					((CLongPointer) numEdgesRes).write(edges.size());
+				} else {
+					((CIntPointer) numEdgesRes).write((int) edges.size());
+				}
+			}
+		}
+	}
+
+	private static <V> void setupImporterWithEdgeArrays(BaseEventDrivenImporter<V, Triple<V, V, Double>> importer,
+			NativeEdgeArraysBuilder edges, ToLongFunction<V> toId) {
+		importer.addEdgeConsumer(e -> {
+			Double weight = e.getThird();
+			edges.add(toId.applyAsLong(e.getFirst()), toId.applyAsLong(e.getSecond()),
+					weight == null ? Graph.DEFAULT_EDGE_WEIGHT : weight);
+		});
+	}
+
+	private static <V> void setupImporterWithPairEdgeArrays(BaseEventDrivenImporter<V, Pair<V, V>> importer,
+			NativeEdgeArraysBuilder edges, ToLongFunction<V> toId) {
+		importer.addEdgeConsumer(e -> edges.add(toId.applyAsLong(e.getFirst()), toId.applyAsLong(e.getSecond()),
+				Graph.DEFAULT_EDGE_WEIGHT));
+	}
+
+	private static void free(PointerBase array) {
+		if (array.isNonNull()) {
+			UnmanagedMemory.free(array);
+		}
+	}
+
+	private static <V> void setupImporterWithEdgeBatch(BaseEventDrivenImporter<V, Triple<V, V, Double>> importer,
+			NativeStringEdgeBatch batch) {
+		importer.addEdgeConsumer(e -> {
+			Double weight = e.getThird();
+			batch.add(e.getFirst(), e.getSecond(), weight == null ? Graph.DEFAULT_EDGE_WEIGHT : weight);
+		});
+	}
+
+	private static <V> void setupImporterWithPairEdgeBatch(BaseEventDrivenImporter<V, Pair<V, V>> importer,
+			NativeStringEdgeBatch batch) {
+		importer.addEdgeConsumer(e -> batch.add(e.getFirst(), e.getSecond(), Graph.DEFAULT_EDGE_WEIGHT));
+	}
+
+	/**
+	 * Run a streaming import. The last partial batch is delivered at the end and
+	 * the native buffers are always released. A stop requested by the callback is
+	 * not an error.
+	 */
+	private static void importStreaming(EventDrivenImporter<?, ?> importer, CCharPointer filename,
+			NativeStringEdgeBatch batch, CLongPointer res) {
+		try {
+			importer.importInput(new File(StringUtils.toJavaStringFromUtf8(filename)));
+			batch.flush();
+		} catch (RuntimeException e) {
+			if (!isStopped(e)) {
+				throw e;
+			}
+		} finally {
+			batch.close();
+		}
+		if (res.isNonNull()) {
+			res.write(batch.getTotal());
+		}
+	}
+
+	private static boolean isStopped(Throwable e) {
+		// importers might wrap exceptions thrown by the consumers
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof NativeStringEdgeBatch.StoppedException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private static <V> void setupImporterWithEdgeList(BaseEventDrivenImporter<V, Triple<V, V, Double>> importer,
 			List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist) {
 		importer.addEdgeConsumer(e -> {
@@ -29,10 +29,11 @@ import org.jgrapht.alg.independentset.ChordalGraphIndependentSetFinder;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class IndependentSetApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "independent_set_exec_chordal_max_independent_set", exceptionHandler = StatusReturnExceptionHandler.class)
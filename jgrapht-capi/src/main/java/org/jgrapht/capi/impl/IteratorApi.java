@@ -34,10 +34,11 @@ import org.jgrapht.alg.util.Triple;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class IteratorApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_int", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextInt(IsolateThread thread, ObjectHandle itHandle, CIntPointer res) {
@@ -132,6 +133,124 @@ public class IteratorApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_int_batch", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Read up to capacity elements from an integer iterator", "@param thread the isolate thread",
+			"@param it the iterator handle", "@param buffer array of size capacity where the elements are written",
+			"@param capacity the size of the buffer",
+			"@param result number of elements written, smaller than capacity only if the iterator is exhausted" })
+	public static int iteratorNextIntBatch(IsolateThread thread, ObjectHandle itHandle, CIntPointer buffer,
+			int capacity, CIntPointer res) {
+		Iterator<Integer> it = globalHandles.get(itHandle);
+		int count = 0;
+		while (count < capacity && it.hasNext()) {
+			buffer.write(count++, it.next());
+		}
+		if (res.isNonNull()) {
+			res.write(count);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_long_batch", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Read up to capacity elements from a long iterator", "@param thread the isolate thread",
+			"@param it the iterator handle", "@param buffer array of size capacity where the elements are written",
+			"@param capacity the size of the buffer",
+			"@param result number of elements written, smaller than capacity only if the iterator is exhausted" })
+	public static int iteratorNextLongBatch(IsolateThread thread, ObjectHandle itHandle, CLongPointer buffer,
+			int capacity, CIntPointer res) {
+		Iterator<Long> it = globalHandles.get(itHandle);
+		int count = 0;
+		while (count < capacity && it.hasNext()) {
+			buffer.write(count++, it.next());
+		}
+		if (res.isNonNull()) {
+			res.write(count);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_double_batch", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+			"Read up to capacity elements from a double iterator", "@param thread the isolate thread",
+			"@param it the iterator handle", "@param buffer array of size capacity where the elements are written",
+			"@param capacity the size of the buffer",
+			"@param result number of elements written, smaller than capacity only if the iterator is exhausted" })
+	public static int iteratorNextDoubleBatch(IsolateThread thread, ObjectHandle itHandle, CDoublePointer buffer,
+			int capacity, CIntPointer res) {
+		Iterator<Double> it = globalHandles.get(itHandle);
+		int count = 0;
+		while (count < capacity && it.hasNext()) {
+			buffer.write(count++, it.next());
+		}
+		if (res.isNonNull()) {
+			res.write(count);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "it_next_int_edge_triple_batch", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read up to capacity edge triples from an iterator", "@param thread the isolate thread",
+					"@param it the iterator handle", "@param sources array of size capacity for the sources, can be null",
+					"@param targets array of size capacity for the targets, can be null",
+					"@param weights array of size capacity for the weights, can be null",
+					"@param capacity the size of the buffers",
+					"@param result number of triples written, smaller than capacity only if the iterator is exhausted" })
+	public static int iteratorNextEdgeTripleBatch(IsolateThread thread, ObjectHandle itHandle, CIntPointer sources,
+			CIntPointer targets, CDoublePointer weights, int capacity, CIntPointer res) {
+		Iterator<Triple<Integer, Integer, Double>> it = globalHandles.get(itHandle);
+		int count = 0;
+		while (count < capacity && it.hasNext()) {
+			Triple<Integer, Integer, Double> triple = it.next();
+			if (sources.isNonNull()) {
+				sources.write(count, triple.getFirst());
+			}
+			if (targets.isNonNull()) {
+				targets.write(count, triple.getSecond());
+			}
+			if (weights.isNonNull()) {
+				Double edgeWeight = triple.getThird();
+				weights.write(count, edgeWeight == null ? Graph.DEFAULT_EDGE_WEIGHT : edgeWeight);
+			}
+			count++;
+		}
+		if (res.isNonNull()) {
+			res.write(count);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "it_next_long_edge_triple_batch", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read up to capacity edge triples from an iterator", "@param thread the isolate thread",
+					"@param it the iterator handle", "@param sources array of size capacity for the sources, can be null",
+					"@param targets array of size capacity for the targets, can be null",
+					"@param weights array of size capacity for the weights, can be null",
+					"@param capacity the size of the buffers",
+					"@param result number of triples written, smaller than capacity only if the iterator is exhausted" })
+	public static int iteratorNextLongEdgeTripleBatch(IsolateThread thread, ObjectHandle itHandle,
+			CLongPointer sources, CLongPointer targets, CDoublePointer weights, int capacity, CIntPointer res) {
+		Iterator<Triple<Long, Long, Double>> it = globalHandles.get(itHandle);
+		int count = 0;
+		while (count < capacity && it.hasNext()) {
+			Triple<Long, Long, Double> triple = it.next();
+			if (sources.isNonNull()) {
+				sources.write(count, triple.getFirst());
+			}
+			if (targets.isNonNull()) {
+				targets.write(count, triple.getSecond());
+			}
+			if (weights.isNonNull()) {
+				Double edgeWeight = triple.getThird();
+				weights.write(count, edgeWeight == null ? Graph.DEFAULT_EDGE_WEIGHT : edgeWeight);
+			}
+			count++;
+		}
+		if (res.isNonNull()) {
+			res.write(count);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_object", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextObject(IsolateThread thread, ObjectHandle itHandle, WordPointer res) {
 		Iterator<?> it = globalHandles.get(itHandle);
@@ -22,6 +22,9 @@ import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
+import org.graalvm.word.WordFactory;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.linkprediction.AdamicAdarIndexLinkPrediction;
 import org.jgrapht.alg.linkprediction.CommonNeighborsLinkPrediction;
@@ -35,11 +38,14 @@ import org.jgrapht.alg.linkprediction.SaltonIndexLinkPrediction;
 import org.jgrapht.alg.linkprediction.SørensenIndexLinkPrediction;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.linkprediction.SortedNeighborhoodLinkPrediction;
+import org.jgrapht.capi.custom.linkprediction.SortedNeighborhoodLinkPrediction.Index;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class LinkPredictionApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_adamic_adar_index", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -301,4 +307,478 @@ public class LinkPredictionApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_adamic_adar_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeAdamicAdarIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.ADAMIC_ADAR, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_adamic_adar_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeAdamicAdarIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CLongPointer us,
+			CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.ADAMIC_ADAR, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_common_neighbors_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeCommonNeighborsBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.COMMON_NEIGHBORS, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_common_neighbors_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeCommonNeighborsBatch(IsolateThread thread, ObjectHandle graphHandle, CLongPointer us,
+			CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.COMMON_NEIGHBORS, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_hub_depressed_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubDepressedIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.HUB_DEPRESSED, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_hub_depressed_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubDepressedIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CLongPointer us,
+			CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.HUB_DEPRESSED, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_hub_promoted_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubPromotedIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.HUB_PROMOTED, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_hub_promoted_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubPromotedIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CLongPointer us,
+			CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.HUB_PROMOTED, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_jaccard_coefficient_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeJaccardCoefficientBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.JACCARD_COEFFICIENT, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_jaccard_coefficient_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeJaccardCoefficientBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer us, CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.JACCARD_COEFFICIENT, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_leicht_holme_newman_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeLeichtHolmeNewmanIndexBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer us, CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.LEICHT_HOLME_NEWMAN, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_leicht_holme_newman_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeLeichtHolmeNewmanIndexBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer us, CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.LEICHT_HOLME_NEWMAN, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_preferential_attachment_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executePreferentialAttachmentBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer us, CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.PREFERENTIAL_ATTACHMENT, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_preferential_attachment_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executePreferentialAttachmentBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer us, CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.PREFERENTIAL_ATTACHMENT, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_resource_allocation_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeResourceAllocationIndexBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer us, CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.RESOURCE_ALLOCATION, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_resource_allocation_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeResourceAllocationIndexBatch(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer us, CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.RESOURCE_ALLOCATION, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_salton_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSaltonIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.SALTON, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_salton_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSaltonIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CLongPointer us,
+			CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.SALTON, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_sorensen_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSorensenIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CIntPointer us,
+			CIntPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		batchInt(g, Index.SORENSEN, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_sorensen_index_batch", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSorensenIndexBatch(IsolateThread thread, ObjectHandle graphHandle, CLongPointer us,
+			CLongPointer vs, int count, int parallelism, CDoublePointer res) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		batchLong(g, Index.SORENSEN, us, vs, count, parallelism, res);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_adamic_adar_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeAdamicAdarIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.ADAMIC_ADAR, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_adamic_adar_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeAdamicAdarIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.ADAMIC_ADAR, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_common_neighbors_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeCommonNeighborsTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.COMMON_NEIGHBORS, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_common_neighbors_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeCommonNeighborsTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.COMMON_NEIGHBORS, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_hub_depressed_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubDepressedIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.HUB_DEPRESSED, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_hub_depressed_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubDepressedIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.HUB_DEPRESSED, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_hub_promoted_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubPromotedIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.HUB_PROMOTED, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_hub_promoted_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeHubPromotedIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.HUB_PROMOTED, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_jaccard_coefficient_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeJaccardCoefficientTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.JACCARD_COEFFICIENT, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_jaccard_coefficient_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeJaccardCoefficientTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.JACCARD_COEFFICIENT, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_leicht_holme_newman_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeLeichtHolmeNewmanIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.LEICHT_HOLME_NEWMAN, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_leicht_holme_newman_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeLeichtHolmeNewmanIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.LEICHT_HOLME_NEWMAN, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_preferential_attachment_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executePreferentialAttachmentTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.PREFERENTIAL_ATTACHMENT, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_preferential_attachment_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executePreferentialAttachmentTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.PREFERENTIAL_ATTACHMENT, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_resource_allocation_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeResourceAllocationIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer sources, int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.RESOURCE_ALLOCATION, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_resource_allocation_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeResourceAllocationIndexTopK(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int k, int parallelism, CLongPointer candidates,
+			CDoublePointer scores, CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.RESOURCE_ALLOCATION, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_salton_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSaltonIndexTopK(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores, CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.SALTON, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_salton_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSaltonIndexTopK(IsolateThread thread, ObjectHandle graphHandle, CLongPointer sources,
+			int numSources, int k, int parallelism, CLongPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.SALTON, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_sorensen_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSorensenIndexTopK(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			int numSources, int k, int parallelism, CIntPointer candidates, CDoublePointer scores, CIntPointer counts) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		topKInt(g, Index.SORENSEN, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_sorensen_index_top_k", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeSorensenIndexTopK(IsolateThread thread, ObjectHandle graphHandle, CLongPointer sources,
+			int numSources, int k, int parallelism, CLongPointer candidates, CDoublePointer scores,
+			CIntPointer counts) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		topKLong(g, Index.SORENSEN, sources, numSources, k, parallelism, candidates, scores, counts);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	private static void writeScores(double[] scores, CDoublePointer res) {
+		if (res.isNull()) {
+			return;
+		}
+		for (int i = 0; i < scores.length; i++) {
+			res.write(i, scores[i]);
+		}
+	}
+
+	private static <E> void batchInt(Graph<Integer, E> g, Index type, CIntPointer us, CIntPointer vs, int count,
+			int parallelism, CDoublePointer res) {
+		SortedNeighborhoodLinkPrediction<Integer, E> alg = new SortedNeighborhoodLinkPrediction<>(g);
+		int[] uIndices = new int[count];
+		int[] vIndices = new int[count];
+		for (int i = 0; i < count; i++) {
+			uIndices[i] = alg.indexOf(us.read(i));
+			vIndices[i] = alg.indexOf(vs.read(i));
+		}
+		writeScores(alg.predict(type, uIndices, vIndices, parallelism), res);
+	}
+
+	private static <E> void batchLong(Graph<Long, E> g, Index type, CLongPointer us, CLongPointer vs, int count,
+			int parallelism, CDoublePointer res) {
+		SortedNeighborhoodLinkPrediction<Long, E> alg = new SortedNeighborhoodLinkPrediction<>(g);
+		int[] uIndices = new int[count];
+		int[] vIndices = new int[count];
+		for (int i = 0; i < count; i++) {
+			uIndices[i] = alg.indexOf(us.read(i));
+			vIndices[i] = alg.indexOf(vs.read(i));
+		}
+		writeScores(alg.predict(type, uIndices, vIndices, parallelism), res);
+	}
+
+	private static <E> void topKInt(Graph<Integer, E> g, Index type, CIntPointer sources, int numSources, int k,
+			int parallelism, CIntPointer candidates, CDoublePointer scores, CIntPointer counts) {
+		SortedNeighborhoodLinkPrediction<Integer, E> alg = new SortedNeighborhoodLinkPrediction<>(g);
+		int[] sourceIndices = new int[numSources];
+		for (int i = 0; i < numSources; i++) {
+			sourceIndices[i] = alg.indexOf(sources.read(i));
+		}
+
+		// word values cannot be captured, pass raw addresses instead
+		long candidatesAddress = candidates.rawValue();
+		long scoresAddress = scores.rawValue();
+		long countsAddress = counts.rawValue();
+		alg.topK(type, sourceIndices, k, parallelism, (i, rowCandidates, rowScores, count) -> {
+			long row = (long) i * k;
+			if (candidatesAddress != 0) {
+				CIntPointer c = WordFactory.pointer(candidatesAddress + row * Integer.BYTES);
+				for (int j = 0; j < count; j++) {
+					c.write(j, alg.vertexAt(rowCandidates[j]));
+				}
+			}
+			writeTopKRow(scoresAddress, countsAddress, row, i, k, rowScores, count);
+		});
+	}
+
+	private static <E> void topKLong(Graph<Long, E> g, Index type, CLongPointer sources, int numSources, int k,
+			int parallelism, CLongPointer candidates, CDoublePointer scores, CIntPointer counts) {
+		SortedNeighborhoodLinkPrediction<Long, E> alg = new SortedNeighborhoodLinkPrediction<>(g);
+		int[] sourceIndices = new int[numSources];
+		for (int i = 0; i < numSources; i++) {
+			sourceIndices[i] = alg.indexOf(sources.read(i));
+		}
+
+		// word values cannot be captured, pass raw addresses instead
+		long candidatesAddress = candidates.rawValue();
+		long scoresAddress = scores.rawValue();
+		long countsAddress = counts.rawValue();
+		alg.topK(type, sourceIndices, k, parallelism, (i, rowCandidates, rowScores, count) -> {
+			long row = (long) i * k;
+			if (candidatesAddress != 0) {
+				CLongPointer c = WordFactory.pointer(candidatesAddress + row * Long.BYTES);
+				for (int j = 0; j < count; j++) {
+					c.write(j, alg.vertexAt(rowCandidates[j]));
+				}
+			}
+			writeTopKRow(scoresAddress, countsAddress, row, i, k, rowScores, count);
+		});
+	}
+
+	private static void writeTopKRow(long scoresAddress, long countsAddress, long row, int i, int k, double[] rowScores,
+			int count) {
+		if (scoresAddress != 0) {
+			// unused slots are marked with NaN
+			CDoublePointer s = WordFactory.pointer(scoresAddress + row * Double.BYTES);
+			for (int j = 0; j < k; j++) {
+				s.write(j, j < count ? rowScores[j] : Double.NaN);
+			}
+		}
+		if (countsAddress != 0) {
+			CIntPointer c = WordFactory.pointer(countsAddress + (long) i * Integer.BYTES);
+			c.write(count);
+		}
+	}
+
 }
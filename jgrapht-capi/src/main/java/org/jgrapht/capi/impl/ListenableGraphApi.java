@@ -30,6 +30,7 @@ import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
 import org.jgrapht.capi.graph.CapiGraph;
 import org.jgrapht.capi.graph.CapiGraphAsListenableGraph;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.event.GraphEdgeChangeEvent;
 import org.jgrapht.event.GraphListener;
 import org.jgrapht.event.GraphVertexChangeEvent;
@@ -39,7 +40,7 @@ import org.jgrapht.event.GraphVertexChangeEvent;
  */
 public class ListenableGraphApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "listenable_as_listenable", exceptionHandler = StatusReturnExceptionHandler.class)
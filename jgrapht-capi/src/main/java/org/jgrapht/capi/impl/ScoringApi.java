@@ -18,6 +18,7 @@
 package org.jgrapht.capi.impl;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.function.ToDoubleFunction;
 
 import org.graalvm.nativeimage.IsolateThread;
@@ -27,6 +28,8 @@ import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
+import org.graalvm.word.PointerBase;
+import org.graalvm.word.WordFactory;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.EdgeScoringAlgorithm;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
@@ -43,11 +46,18 @@ import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.IntegerToDoubleFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToDoubleFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.scoring.IncrementalPageRank;
+import org.jgrapht.capi.custom.scoring.ParallelBetweennessCentrality;
+import org.jgrapht.capi.custom.scoring.ParallelPowerIteration;
+import org.jgrapht.capi.custom.scoring.SampledCentrality;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.CapiGraphAsListenableGraph;
+import org.jgrapht.capi.graph.CsrSnapshot;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 
 public class ScoringApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_eigenvector_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -186,6 +196,47 @@ public class ScoringApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_parallel_betweenness_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute betweenness centrality with the sources partitioned among multiple threads.",
+					"Each thread accumulates into its own arrays which are summed at the end. The scores are the same as in scoring_exec_custom_betweenness_centrality.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param normalize whether to normalize the scores",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param res the resulting vertex scores map handle" })
+	public static <V, E> int executeParallelBetweennessCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			boolean normalize, int parallelism, WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		ParallelBetweennessCentrality<V, E> alg = new ParallelBetweennessCentrality<>(g);
+		Map<V, Double> result = alg.getVertexScores(normalize, parallelism);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_parallel_edge_betweenness_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute edge betweenness centrality with the sources partitioned among multiple threads.",
+					"The scores are the same as in scoring_exec_edge_betweenness_centrality.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param res the resulting edge scores map handle" })
+	public static <V, E> int executeParallelEdgeBetweennessCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			int parallelism, WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		ParallelBetweennessCentrality<V, E> alg = new ParallelBetweennessCentrality<>(g);
+		Map<E, Double> result = alg.getEdgeScores(parallelism);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_closeness_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeClosenessCentrality(IsolateThread thread, ObjectHandle graphHandle,
@@ -246,6 +297,95 @@ public class ScoringApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_sampled_betweenness_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute approximate betweenness centrality by accumulating the dependencies of randomly sampled sources.",
+					"Either a number of samples or a target error epsilon is given, in which case ceil(ln(n)/epsilon^2) samples are used.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param normalize whether to normalize the scores",
+					"@param samples the number of sampled vertices, if not positive it is computed from epsilon",
+					"@param epsilon the target error, used only if samples is not positive",
+					"@param seed the seed of the random number generator",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param sample_size_res the realized number of samples, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <V, E> int executeSampledBetweennessCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			boolean normalize, int samples, double epsilon, long seed, int parallelism, CIntPointer sampleSizeRes,
+			WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		SampledCentrality<V, E> alg = new SampledCentrality<>(g, samples, epsilon, seed);
+		Map<V, Double> result = alg.getBetweennessScores(normalize, parallelism);
+
+		if (sampleSizeRes.isNonNull()) {
+			sampleSizeRes.write(alg.getSampleSize());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_sampled_closeness_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute approximate closeness centrality by estimating the sum of distances from the distances to randomly sampled pivots.",
+					"Either a number of samples or a target error epsilon is given, in which case ceil(ln(n)/epsilon^2) samples are used.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param incoming whether to use distances to each vertex instead of from each vertex",
+					"@param normalize whether to normalize the scores",
+					"@param samples the number of sampled vertices, if not positive it is computed from epsilon",
+					"@param epsilon the target error, used only if samples is not positive",
+					"@param seed the seed of the random number generator",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param sample_size_res the realized number of samples, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <V, E> int executeSampledClosenessCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			boolean incoming, boolean normalize, int samples, double epsilon, long seed, int parallelism,
+			CIntPointer sampleSizeRes, WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		SampledCentrality<V, E> alg = new SampledCentrality<>(g, samples, epsilon, seed);
+		Map<V, Double> result = alg.getClosenessScores(incoming, normalize, parallelism);
+
+		if (sampleSizeRes.isNonNull()) {
+			sampleSizeRes.write(alg.getSampleSize());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_sampled_harmonic_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute approximate harmonic centrality by estimating the sum of reciprocal distances from the distances to randomly sampled pivots.",
+					"Either a number of samples or a target error epsilon is given, in which case ceil(ln(n)/epsilon^2) samples are used.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param incoming whether to use distances to each vertex instead of from each vertex",
+					"@param normalize whether to normalize the scores",
+					"@param samples the number of sampled vertices, if not positive it is computed from epsilon",
+					"@param epsilon the target error, used only if samples is not positive",
+					"@param seed the seed of the random number generator",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param sample_size_res the realized number of samples, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <V, E> int executeSampledHarmonicCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			boolean incoming, boolean normalize, int samples, double epsilon, long seed, int parallelism,
+			CIntPointer sampleSizeRes, WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		SampledCentrality<V, E> alg = new SampledCentrality<>(g, samples, epsilon, seed);
+		Map<V, Double> result = alg.getHarmonicScores(incoming, normalize, parallelism);
+
+		if (sampleSizeRes.isNonNull()) {
+			sampleSizeRes.write(alg.getSampleSize());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_pagerank", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executePagerank(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
@@ -275,6 +415,261 @@ public class ScoringApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_parallel_pagerank", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute PageRank by power iteration over primitive arrays, with each sparse matrix-vector product split among multiple threads.",
+					"The parameters are the same as in scoring_exec_custom_pagerank.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param damping_factor the damping factor", "@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param iterations_res the number of iterations performed, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <V, E> int executeParallelPagerank(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, int parallelism, CIntPointer iterationsRes,
+			WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<V, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		Map<V, Double> result = alg.toMap(alg.pageRank(dampingFactor, maxIterations, tolerance));
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_parallel_eigenvector_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute eigenvector centrality by power iteration over primitive arrays, with each sparse matrix-vector product split among multiple threads.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param iterations_res the number of iterations performed, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <V, E> int executeParallelEigenVectorCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			int maxIterations, double tolerance, int parallelism, CIntPointer iterationsRes, WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<V, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		Map<V, Double> result = alg.toMap(alg.eigenvector(maxIterations, tolerance));
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_parallel_katz_centrality", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute Katz centrality by power iteration over primitive arrays, with each sparse matrix-vector product split among multiple threads.",
+					"The exogenous factors are evaluated in the calling thread before iterating.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param damping_factor the damping factor",
+					"@param exogenous_factor function from vertex to exogenous factor, if null all factors are one",
+					"@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param iterations_res the number of iterations performed, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <E> int executeParallelKatzCentrality(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, IntegerToDoubleFunctionPointer exogenousFactorFunctionPointer, int maxIterations,
+			double tolerance, int parallelism, CIntPointer iterationsRes, WordPointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		double[] exogenousFactors = exogenousFactors(alg.getSnapshot(), exogenousFactorFunctionPointer);
+		Map<Integer, Double> result = alg.toMap(alg.katz(dampingFactor, exogenousFactors, maxIterations, tolerance));
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_personalized_pagerank", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute personalized PageRank. Random jumps, as well as the rank of vertices without outgoing edges, go to the seed",
+					"vertices in proportion to their weights. The remaining parameters are the same as in scoring_exec_custom_pagerank.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param damping_factor the damping factor", "@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param seeds array with the seed vertices, duplicates add their weights",
+					"@param weights array with the weight of each seed, if null all seeds have the same weight",
+					"@param num_seeds the number of seeds",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param iterations_res the number of iterations performed, can be null",
+					"@param res the resulting vertex scores map handle" })
+	public static <E> int executePersonalizedPagerank(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, CIntPointer seeds, CDoublePointer weights,
+			int numSeeds, int parallelism, CIntPointer iterationsRes, WordPointer res) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		int[] seedIndices = readSeeds(alg.getSnapshot(), seeds, 0, numSeeds);
+		double[] seedWeights = readWeights(weights, 0, numSeeds);
+		double[] result = alg.personalizedPageRank(dampingFactor, seedIndices, seedWeights, maxIterations,
+				tolerance);
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(alg.toMap(result)));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_personalized_pagerank_batch_top_k", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute personalized PageRank for many seed sets in parallel and keep the k vertices with the highest scores of each.",
+					"Seed set i consists of the seeds and weights at positions offsets[i] up to offsets[i+1].",
+					"Row i of the result arrays starts at position i*k and is sorted by decreasing score, ties by smaller vertex.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param damping_factor the damping factor", "@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param num_sets the number of seed sets",
+					"@param offsets array of size num_sets+1 with the start of each seed set",
+					"@param seeds array with the seed vertices of all seed sets",
+					"@param weights array with the weight of each seed, if null all seeds have the same weight",
+					"@param k the number of vertices to keep per seed set",
+					"@param parallelism the number of threads, if not positive all available processors are used",
+					"@param top_vertices array of size num_sets*k with the vertices of each row, can be null",
+					"@param top_scores array of size num_sets*k with the scores of each row, unused slots are NaN, can be null",
+					"@param counts array of size num_sets with the number of vertices of each row, can be null" })
+	public static <E> int executePersonalizedPagerankBatchTopK(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, int numSets, CIntPointer offsets,
+			CIntPointer seeds, CDoublePointer weights, int k, int parallelism, CIntPointer topVertices,
+			CDoublePointer topScores, CIntPointer counts) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must be non-negative");
+		}
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		CsrSnapshot<Integer, E> snapshot = alg.getSnapshot();
+		if (numSets < 0) {
+			throw new IllegalArgumentException("Number of seed sets must be non-negative");
+		}
+		int[][] seedIndices = new int[numSets][];
+		double[][] seedWeights = new double[numSets][];
+		readSeedSets(snapshot, numSets, offsets, seeds, weights, seedIndices, seedWeights);
+
+		// word values cannot be captured, pass raw addresses instead
+		long verticesAddress = topVertices.rawValue();
+		long scoresAddress = topScores.rawValue();
+		long countsAddress = counts.rawValue();
+		alg.personalizedPageRank(dampingFactor, seedIndices, seedWeights, maxIterations, tolerance,
+				(i, result, iterations) -> {
+					int[] rowVertices = new int[k];
+					double[] rowScores = new double[k];
+					int count = ParallelPowerIteration.topK(result, k, rowVertices, rowScores);
+					long row = (long) i * k;
+					if (verticesAddress != 0) {
+						CIntPointer v = WordFactory.pointer(verticesAddress + row * Integer.BYTES);
+						for (int j = 0; j < count; j++) {
+							v.write(j, snapshot.vertexAt(rowVertices[j]));
+						}
+					}
+					if (scoresAddress != 0) {
+						// unused slots are marked with NaN
+						CDoublePointer s = WordFactory.pointer(scoresAddress + row * Double.BYTES);
+						for (int j = 0; j < k; j++) {
+							s.write(j, j < count ? rowScores[j] : Double.NaN);
+						}
+					}
+					if (countsAddress != 0) {
+						CIntPointer c = WordFactory.pointer(countsAddress + (long) i * Integer.BYTES);
+						c.write(count);
+					}
+				});
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_pagerank_create", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a PageRank handle which listens to the changes of a listenable graph.",
+					"The scores are computed by scoring_pagerank_refresh, which after changes of the graph warm-starts from the previous scores.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle, must be created by listenable_as_listenable",
+					"@param damping_factor the damping factor",
+					"@param max_iterations the maximum number of iterations of each refresh",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param res the resulting PageRank handle" })
+	public static <V, E> int createPagerank(IsolateThread thread, ObjectHandle graphHandle, double dampingFactor,
+			int maxIterations, double tolerance, WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		if (!(g instanceof CapiGraphAsListenableGraph)) {
+			throw new IllegalArgumentException("Graph is not listenable");
+		}
+
+		IncrementalPageRank<V, E> alg = new IncrementalPageRank<>((CapiGraphAsListenableGraph<V, E>) g,
+				dampingFactor, maxIterations, tolerance);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(alg));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_pagerank_refresh", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Bring the scores of a PageRank handle up to date with its graph.",
+					"Iterations only happen if the graph changed since the last refresh.",
+					"@param thread the isolate thread", "@param pagerank the PageRank handle",
+					"@param iterations_res the number of iterations performed, zero if the graph did not change, can be null",
+					"@param res the resulting vertex scores map handle, can be null" })
+	public static <V, E> int refreshPagerank(IsolateThread thread, ObjectHandle pagerankHandle,
+			CIntPointer iterationsRes, WordPointer res) {
+		IncrementalPageRank<V, E> alg = globalHandles.get(pagerankHandle);
+
+		int iterations = alg.refresh();
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(iterations);
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(alg.getScores()));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_pagerank_refresh_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int refreshPagerankIntoArray(IsolateThread thread, ObjectHandle pagerankHandle,
+			CIntPointer iterationsRes, CDoublePointer scores, int length) {
+		IncrementalPageRank<Integer, E> alg = globalHandles.get(pagerankHandle);
+
+		int iterations = alg.refresh();
+		writeScores(alg.getScores(), scores, length);
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(iterations);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_pagerank_detach", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Stop a PageRank handle from listening to its graph. Must be called before destroying the handle",
+					"as long as the graph is alive, otherwise the graph keeps notifying it.",
+					"@param thread the isolate thread", "@param pagerank the PageRank handle" })
+	public static <V, E> int detachPagerank(IsolateThread thread, ObjectHandle pagerankHandle) {
+		IncrementalPageRank<V, E> alg = globalHandles.get(pagerankHandle);
+		alg.detach();
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_coreness", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCoreness(IsolateThread thread, ObjectHandle graphHandle, CIntPointer degeneracyRes,
@@ -319,4 +714,503 @@ public class ScoringApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_eigenvector_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute eigenvector centrality and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeEigenVectorCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new EigenvectorCentrality<Integer, E>(g);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_custom_eigenvector_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute eigenvector centrality with custom parameters and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeEigenVectorCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			int maxIterations, double tolerance, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new EigenvectorCentrality<Integer, E>(g, maxIterations, tolerance);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_katz_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute Katz centrality and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeKatzCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new KatzCentrality<>(g);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_custom_katz_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute Katz centrality with custom parameters and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param damping_factor the damping factor",
+					"@param exogenous_factor function from vertex to exogenous factor, if null all factors are one",
+					"@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeKatzCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, IntegerToDoubleFunctionPointer exogenousFactorFunctionPointer, int maxIterations,
+			double tolerance, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ToDoubleFunction<Integer> exogenousFactorFunction;
+		if (exogenousFactorFunctionPointer.isNull()) {
+			exogenousFactorFunction = x -> 1d;
+		} else {
+			exogenousFactorFunction = x -> exogenousFactorFunctionPointer.invoke(x);
+		}
+
+		VertexScoringAlgorithm<Integer, Double> alg = new KatzCentrality<>(g, dampingFactor, exogenousFactorFunction,
+				maxIterations, tolerance);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_betweenness_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute betweenness centrality and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeBetweennessCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new BetweennessCentrality<>(g);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_custom_betweenness_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute betweenness centrality with custom parameters and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param normalize whether to normalize the scores",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeCustomBetweennessCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			boolean normalize, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new BetweennessCentrality<>(g, normalize);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_parallel_betweenness_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeParallelBetweennessCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			boolean normalize, int parallelism, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelBetweennessCentrality<Integer, E> alg = new ParallelBetweennessCentrality<>(g);
+		double[] result = alg.getVertexScoresArray(normalize, parallelism);
+		writeScores(alg.getSnapshot(), result, scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_closeness_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute closeness centrality and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeClosenessCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new ClosenessCentrality<>(g);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_custom_closeness_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute closeness centrality with custom parameters and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param incoming whether to use distances to each vertex instead of from each vertex",
+					"@param normalize whether to normalize the scores",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeCustomClosenessCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			boolean incoming, boolean normalize, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new ClosenessCentrality<>(g, incoming, normalize);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_harmonic_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute harmonic centrality and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeHarmonicCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new HarmonicCentrality<>(g);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_custom_harmonic_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute harmonic centrality with custom parameters and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param incoming whether to use distances to each vertex instead of from each vertex",
+					"@param normalize whether to normalize the scores",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeCustomHarmonicCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			boolean incoming, boolean normalize, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new HarmonicCentrality<>(g, incoming, normalize);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_pagerank_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute PageRank and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executePagerankIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new PageRank<>(g);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_custom_pagerank_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute PageRank with custom parameters and write the scores into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param damping_factor the damping factor",
+					"@param max_iterations the maximum number of iterations",
+					"@param tolerance the maximum change of a score in order to stop iterating",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeCustomPagerankIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		VertexScoringAlgorithm<Integer, Double> alg = new PageRank<>(g, dampingFactor, maxIterations, tolerance);
+		writeScores(alg.getScores(), scores, length);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_coreness_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute coreness and write the core number of each vertex into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param degeneracy_res the degeneracy of the graph, can be null",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeCorenessIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CIntPointer degeneracyRes, CIntPointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		Coreness<Integer, E> alg = new Coreness<>(g);
+
+		int degeneracy = alg.getDegeneracy();
+		Map<Integer, Integer> result = alg.getScores();
+		checkScoresArray(result.keySet(), scores, length);
+		for (Map.Entry<Integer, Integer> entry : result.entrySet()) {
+			scores.write(entry.getKey(), entry.getValue());
+		}
+
+		if (degeneracyRes.isNonNull()) {
+			degeneracyRes.write(degeneracy);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_clustering_coefficient_into_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute clustering coefficient and write the local coefficients into an array indexed by vertex.",
+					"The algorithm still computes its scores as a map which is copied into the array, only the map handle and the per vertex lookups are avoided.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle",
+					"@param global_res the global clustering coefficient, can be null",
+					"@param avg_res the average clustering coefficient, can be null",
+					"@param scores the array receiving the score of vertex v at position v, positions which are not vertices are left untouched",
+					"@param length the length of the scores array, must be larger than every vertex" })
+	public static <E> int executeClusteringCoefficientIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			CDoublePointer globalRes, CDoublePointer avgRes, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ClusteringCoefficient<Integer, E> alg = new ClusteringCoefficient<>(g);
+
+		writeScores(alg.getScores(), scores, length);
+		double avg = alg.getAverageClusteringCoefficient();
+		double global = alg.getGlobalClusteringCoefficient();
+
+		if (avgRes.isNonNull()) {
+			avgRes.write(avg);
+		}
+		if (globalRes.isNonNull()) {
+			globalRes.write(global);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_parallel_pagerank_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeParallelPagerankIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, int parallelism, CIntPointer iterationsRes,
+			CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		double[] result = alg.pageRank(dampingFactor, maxIterations, tolerance);
+		writeScores(alg.getSnapshot(), result, scores, length);
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_parallel_eigenvector_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeParallelEigenVectorCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			int maxIterations, double tolerance, int parallelism, CIntPointer iterationsRes, CDoublePointer scores,
+			int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		double[] result = alg.eigenvector(maxIterations, tolerance);
+		writeScores(alg.getSnapshot(), result, scores, length);
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_parallel_katz_centrality_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executeParallelKatzCentralityIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, IntegerToDoubleFunctionPointer exogenousFactorFunctionPointer, int maxIterations,
+			double tolerance, int parallelism, CIntPointer iterationsRes, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		double[] exogenousFactors = exogenousFactors(alg.getSnapshot(), exogenousFactorFunctionPointer);
+		double[] result = alg.katz(dampingFactor, exogenousFactors, maxIterations, tolerance);
+		writeScores(alg.getSnapshot(), result, scores, length);
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_personalized_pagerank_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executePersonalizedPagerankIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, CIntPointer seeds, CDoublePointer weights,
+			int numSeeds, int parallelism, CIntPointer iterationsRes, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		int[] seedIndices = readSeeds(alg.getSnapshot(), seeds, 0, numSeeds);
+		double[] seedWeights = readWeights(weights, 0, numSeeds);
+		double[] result = alg.personalizedPageRank(dampingFactor, seedIndices, seedWeights, maxIterations,
+				tolerance);
+		writeScores(alg.getSnapshot(), result, scores, length);
+
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_personalized_pagerank_batch_into_array", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <E> int executePersonalizedPagerankBatchIntoArray(IsolateThread thread, ObjectHandle graphHandle,
+			double dampingFactor, int maxIterations, double tolerance, int numSets, CIntPointer offsets,
+			CIntPointer seeds, CDoublePointer weights, int parallelism, CDoublePointer scores, int length) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		ParallelPowerIteration<Integer, E> alg = new ParallelPowerIteration<>(g, parallelism);
+		CsrSnapshot<Integer, E> snapshot = alg.getSnapshot();
+		checkScoresArray(g.vertexSet(), scores, length);
+		if (numSets < 0) {
+			throw new IllegalArgumentException("Number of seed sets must be non-negative");
+		}
+		int[][] seedIndices = new int[numSets][];
+		double[][] seedWeights = new double[numSets][];
+		readSeedSets(snapshot, numSets, offsets, seeds, weights, seedIndices, seedWeights);
+
+		// word values cannot be captured, pass raw addresses instead, row i starts at i*length
+		long scoresAddress = scores.rawValue();
+		alg.personalizedPageRank(dampingFactor, seedIndices, seedWeights, maxIterations, tolerance,
+				(i, result, iterations) -> {
+					CDoublePointer s = WordFactory.pointer(scoresAddress + (long) i * length * Double.BYTES);
+					for (int j = 0; j < result.length; j++) {
+						s.write(snapshot.vertexAt(j), result[j]);
+					}
+				});
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	private static <E> int[] readSeeds(CsrSnapshot<Integer, E> snapshot, CIntPointer seeds, int from, int to) {
+		if (to < from) {
+			throw new IllegalArgumentException("Number of seeds must be non-negative");
+		}
+		if (seeds.isNull()) {
+			throw new NullPointerException("Seeds array cannot be null");
+		}
+		int[] seedIndices = new int[to - from];
+		for (int i = from; i < to; i++) {
+			seedIndices[i - from] = snapshot.indexOf(seeds.read(i));
+		}
+		return seedIndices;
+	}
+
+	private static double[] readWeights(CDoublePointer weights, int from, int to) {
+		if (weights.isNull()) {
+			return null;
+		}
+		double[] seedWeights = new double[to - from];
+		for (int i = from; i < to; i++) {
+			seedWeights[i - from] = weights.read(i);
+		}
+		return seedWeights;
+	}
+
+	private static <E> void readSeedSets(CsrSnapshot<Integer, E> snapshot, int numSets, CIntPointer offsets,
+			CIntPointer seeds, CDoublePointer weights, int[][] seedIndices, double[][] seedWeights) {
+		if (offsets.isNull()) {
+			throw new NullPointerException("Offsets array cannot be null");
+		}
+		for (int i = 0; i < numSets; i++) {
+			int from = offsets.read(i);
+			int to = offsets.read(i + 1);
+			if (from < 0 || to < from) {
+				throw new IllegalArgumentException("Invalid offsets of seed set " + i);
+			}
+			seedIndices[i] = readSeeds(snapshot, seeds, from, to);
+			seedWeights[i] = readWeights(weights, from, to);
+		}
+	}
+
+	/**
+	 * Evaluate the exogenous factor of each vertex of a snapshot. Function pointers
+	 * are only invoked from the calling thread.
+	 */
+	private static <E> double[] exogenousFactors(CsrSnapshot<Integer, E> snapshot,
+			IntegerToDoubleFunctionPointer exogenousFactorFunctionPointer) {
+		double[] exogenousFactors = new double[snapshot.vertexCount()];
+		for (int i = 0; i < exogenousFactors.length; i++) {
+			if (exogenousFactorFunctionPointer.isNull()) {
+				exogenousFactors[i] = 1d;
+			} else {
+				exogenousFactors[i] = exogenousFactorFunctionPointer.invoke(snapshot.vertexAt(i));
+			}
+		}
+		return exogenousFactors;
+	}
+
+	/**
+	 * Write scores indexed by the vertex order of a snapshot into a native array
+	 * indexed by vertex.
+	 */
+	private static <E> void writeScores(CsrSnapshot<Integer, E> snapshot, double[] result, CDoublePointer scores,
+			int length) {
+		if (scores.isNull()) {
+			throw new NullPointerException("Scores array cannot be null");
+		}
+		for (int i = 0; i < result.length; i++) {
+			int v = snapshot.vertexAt(i);
+			if (v < 0 || v >= length) {
+				throw new IllegalArgumentException("Vertex " + v + " is outside the scores array");
+			}
+		}
+		for (int i = 0; i < result.length; i++) {
+			scores.write(snapshot.vertexAt(i), result[i]);
+		}
+	}
+
+	/**
+	 * Write the scores of a graph with integer vertices into a native array indexed
+	 * by vertex. Positions which do not correspond to a vertex are left untouched.
+	 * Used by algorithms which only expose their scores as a map, so the boxed map
+	 * is still built once per call.
+	 */
+	private static void writeScores(Map<Integer, Double> result, CDoublePointer scores, int length) {
+		checkScoresArray(result.keySet(), scores, length);
+		for (Map.Entry<Integer, Double> entry : result.entrySet()) {
+			scores.write(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private static void checkScoresArray(Set<Integer> vertices, PointerBase scores, int length) {
+		if (scores.isNull()) {
+			throw new NullPointerException("Scores array cannot be null");
+		}
+		for (Integer v : vertices) {
+			if (v < 0 || v >= length) {
+				throw new IllegalArgumentException("Vertex " + v + " is outside the scores array");
+			}
+		}
+	}
+
 }
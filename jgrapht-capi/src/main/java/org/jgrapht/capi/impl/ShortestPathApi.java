@@ -29,6 +29,8 @@ import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.graalvm.word.WordFactory;
 import org.jgrapht.Graph;
@@ -57,7 +59,10 @@ import org.jgrapht.capi.JGraphTContext.AStarHeuristicLLFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.IntegerToCDoublePointerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToCDoublePointerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.shortestpath.MultiSourceDijkstra;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.CsrSnapshot;
+import org.jgrapht.capi.handles.StripedObjectHandles;
 import org.jgrapht.util.ConcurrencyUtil;
 
 /**
@@ -65,7 +70,7 @@ import org.jgrapht.util.ConcurrencyUtil;
  */
 public class ShortestPathApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
@@ -139,6 +144,62 @@ public class ShortestPathApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "sp_exec_dijkstra_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeDijkstraDistanceBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
+			int target, CDoublePointer res) {
+		Graph<Integer, ?> g = globalHandles.get(graphHandle);
+
+		ShortestPathAlgorithm<Integer, ?> alg = new IntVertexDijkstraShortestPath<>(g);
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "sp_exec_dijkstra_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeDijkstraDistanceBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
+			long target, CDoublePointer res) {
+		Graph<Long, ?> g = globalHandles.get(graphHandle);
+
+		ShortestPathAlgorithm<Long, ?> alg = new DijkstraShortestPath<>(g);
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "sp_exec_bidirectional_dijkstra_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeBiDirectionalDijkstraDistanceBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
+			int target, CDoublePointer res) {
+		Graph<Integer, ?> g = globalHandles.get(graphHandle);
+
+		ShortestPathAlgorithm<Integer, ?> alg = new BidirectionalDijkstraShortestPath<>(g);
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "sp_exec_bidirectional_dijkstra_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeBiDirectionalDijkstraDistanceBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
+			long target, CDoublePointer res) {
+		Graph<Long, ?> g = globalHandles.get(graphHandle);
+
+		ShortestPathAlgorithm<Long, ?> alg = new BidirectionalDijkstraShortestPath<>(g);
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_dijkstra_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDijkstraFrom(IsolateThread thread, ObjectHandle graphHandle, int source,
@@ -167,6 +228,53 @@ public class ShortestPathApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "sp_exec_dijkstra_get_distances_from_vertices", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute Dijkstra from many sources in parallel and write the distances into a row-major matrix.",
+					"Row i corresponds to sources[i] and column j to the j-th vertex of the vertex set iteration order.",
+					"Unreachable vertices have distance infinity.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param sources array with the source vertices",
+					"@param num_sources number of sources",
+					"@param parallelism number of threads, if not positive the number of available processors",
+					"@param distances matrix of size num_sources times the number of vertices",
+					"@param predecessors matrix of the same size with the column of the predecessor of each vertex or -1, can be null" })
+	public static <E> int executeDijkstraFromMany(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			int numSources, int parallelism, CDoublePointer distances, CIntPointer predecessors) {
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+
+		CsrSnapshot<Integer, E> snapshot = new CsrSnapshot<>(g);
+		int[] sourceIndices = new int[numSources];
+		for (int i = 0; i < numSources; i++) {
+			sourceIndices[i] = snapshot.indexOf(sources.read(i));
+		}
+		executeDijkstraFromMany(snapshot, sourceIndices, parallelism, distances, predecessors);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "sp_exec_dijkstra_get_distances_from_vertices", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute Dijkstra from many sources in parallel and write the distances into a row-major matrix.",
+					"Row i corresponds to sources[i] and column j to the j-th vertex of the vertex set iteration order.",
+					"Unreachable vertices have distance infinity.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param sources array with the source vertices",
+					"@param num_sources number of sources",
+					"@param parallelism number of threads, if not positive the number of available processors",
+					"@param distances matrix of size num_sources times the number of vertices",
+					"@param predecessors matrix of the same size with the column of the predecessor of each vertex or -1, can be null" })
+	public static <E> int executeDijkstraFromMany(IsolateThread thread, ObjectHandle graphHandle,
+			CLongPointer sources, int numSources, int parallelism, CDoublePointer distances,
+			CIntPointer predecessors) {
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+
+		CsrSnapshot<Long, E> snapshot = new CsrSnapshot<>(g);
+		int[] sourceIndices = new int[numSources];
+		for (int i = 0; i < numSources; i++) {
+			sourceIndices[i] = snapshot.indexOf(sources.read(i));
+		}
+		executeDijkstraFromMany(snapshot, sourceIndices, parallelism, distances, predecessors);
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bellmanford_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBellmanFordFrom(IsolateThread thread, ObjectHandle graphHandle, int source,
@@ -373,6 +481,38 @@ public class ShortestPathApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "sp_exec_astar_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeAStarDistanceBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
+			int target, AStarHeuristicFunctionPointer admissibleHeuristicFunctionPointer, CDoublePointer res) {
+		Graph<Integer, ?> g = globalHandles.get(graphHandle);
+
+		AStarShortestPath<Integer, ?> alg = new AStarShortestPath<>(g, (a, b) -> {
+			return admissibleHeuristicFunctionPointer.invoke(a, b);
+		});
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "sp_exec_astar_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeAStarDistanceBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
+			long target, AStarHeuristicLLFunctionPointer admissibleHeuristicFunctionPointer, CDoublePointer res) {
+		Graph<Long, ?> g = globalHandles.get(graphHandle);
+
+		AStarShortestPath<Long, ?> alg = new AStarShortestPath<>(g, (a, b) -> {
+			return admissibleHeuristicFunctionPointer.invoke(a, b);
+		});
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bidirectional_astar_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBidirectionalAStarBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
@@ -733,6 +873,31 @@ public class ShortestPathApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	private static <V, E> void executeDijkstraFromMany(CsrSnapshot<V, E> snapshot, int[] sources, int parallelism,
+			CDoublePointer distances, CIntPointer predecessors) {
+		if (distances.isNull()) {
+			throw new NullPointerException("Distances matrix cannot be null");
+		}
+		int n = snapshot.vertexCount();
+
+		// word values cannot be captured by the worker lambdas, pass raw addresses
+		long distancesAddress = distances.rawValue();
+		long predecessorsAddress = predecessors.rawValue();
+		new MultiSourceDijkstra<>(snapshot).run(sources, parallelism, (i, distance, predecessor) -> {
+			long row = (long) i * n;
+			CDoublePointer d = WordFactory.pointer(distancesAddress + row * Double.BYTES);
+			for (int j = 0; j < n; j++) {
+				d.write(j, distance[j]);
+			}
+			if (predecessorsAddress != 0) {
+				CIntPointer p = WordFactory.pointer(predecessorsAddress + row * Integer.BYTES);
+				for (int j = 0; j < n; j++) {
+					p.write(j, predecessor[j]);
+				}
+			}
+		});
+	}
+
 	private static Function<Integer, double[]> cacheEdgeWeightFunction(Graph<Integer, Integer> g,
 			IntegerToCDoublePointerFunctionPointer edgeWeightFunctionPointer, int dim) {
 		// cache all function values
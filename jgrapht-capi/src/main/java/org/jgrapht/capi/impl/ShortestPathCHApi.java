@@ -17,6 +17,8 @@
  */
 package org.jgrapht.capi.impl;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -26,6 +28,8 @@ import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.graalvm.word.WordFactory;
 import org.jgrapht.Graph;
@@ -39,7 +43,12 @@ import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.Contracti
 import org.jgrapht.alg.shortestpath.TransitNodeRoutingShortestPath;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.custom.shortestpath.ContractionHierarchyIO;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.StripedObjectHandles;
+import org.jgrapht.nio.ExportException;
+import org.jgrapht.nio.ImportException;
 import org.jgrapht.util.ConcurrencyUtil;
 import org.jheaps.tree.PairingHeap;
 
@@ -48,7 +57,7 @@ import org.jheaps.tree.PairingHeap;
  */
 public class ShortestPathCHApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = StripedObjectHandles.getGlobal();
 
 	/**
 	 * Given a {@link ManyToManyShortestPaths} get a path.
@@ -133,6 +142,57 @@ public class ShortestPathCHApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	/**
+	 * Save a {@link ContractionHierarchy} into a binary file.
+	 * 
+	 * @param thread   thread
+	 * @param chHandle the contraction hierarchy handle
+	 * @param filename the filename
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "sp_contraction_hierarchy_save", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int saveCH(IsolateThread thread, ObjectHandle chHandle, CCharPointer filename) {
+		ContractionHierarchy<V, E> ch = globalHandles.get(chHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		try {
+			ContractionHierarchyIO.write(ch, file);
+		} catch (IOException e) {
+			throw new ExportException(e);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	/**
+	 * Load a {@link ContractionHierarchy} from a binary file. The graph must be
+	 * identical, including the iteration order of vertices and edges, to the graph
+	 * used when computing the saved hierarchy.
+	 * 
+	 * @param thread      thread
+	 * @param graphHandle the graph handle
+	 * @param filename    the filename
+	 * @param res         the {@link ContractionHierarchy} handle
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "sp_contraction_hierarchy_load", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int loadCH(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		File file = new File(StringUtils.toJavaStringFromUtf8(filename));
+		ContractionHierarchy<V, E> ch;
+		try {
+			ch = ContractionHierarchyIO.read(g, file);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(ch));
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	/**
 	 * Given a contraction hierarchy get a {@link ManyToManyShortestPaths}.
 	 * 
@@ -218,6 +278,60 @@ public class ShortestPathCHApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 
+	/**
+	 * Given a contraction hierarchy get the weight of the shortest path using
+	 * bidirectional dijkstra, without creating a {@link GraphPath} handle.
+	 * 
+	 * @param thread   the thread
+	 * @param chHandle the contraction hierarchy handle
+	 * @param source   the source vertex
+	 * @param target   the target vertex
+	 * @param radius   the search radius
+	 * @param res      the path weight, infinity if no path exists
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeCHBiDirectionalDijkstraDistanceBetween(IsolateThread thread, ObjectHandle chHandle,
+			int source, int target, double radius, CDoublePointer res) {
+		ContractionHierarchy<Integer, ?> ch = globalHandles.get(chHandle);
+
+		ContractionHierarchyBidirectionalDijkstra<Integer, ?> alg = new ContractionHierarchyBidirectionalDijkstra<>(ch,
+				radius, PairingHeap::new);
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	/**
+	 * Given a contraction hierarchy get the weight of the shortest path using
+	 * bidirectional dijkstra, without creating a {@link GraphPath} handle.
+	 * 
+	 * @param thread   the thread
+	 * @param chHandle the contraction hierarchy handle
+	 * @param source   the source vertex
+	 * @param target   the target vertex
+	 * @param radius   the search radius
+	 * @param res      the path weight, infinity if no path exists
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeCHBiDirectionalDijkstraDistanceBetween(IsolateThread thread, ObjectHandle chHandle,
+			long source, long target, double radius, CDoublePointer res) {
+		ContractionHierarchy<Long, ?> ch = globalHandles.get(chHandle);
+
+		ContractionHierarchyBidirectionalDijkstra<Long, ?> alg = new ContractionHierarchyBidirectionalDijkstra<>(ch,
+				radius, PairingHeap::new);
+		double weight = alg.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
 	/**
 	 * Compute a {@link TransitNodeRoutingShortestPath}
 	 * 
@@ -279,6 +393,30 @@ public class ShortestPathCHApi {
 		return Status.STATUS_SUCCESS.getCValue();
 	}
 	
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "sp_exec_transit_node_routing_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeTransitNodeRoutingDistanceBetween(IsolateThread thread, ObjectHandle tnrHandle, int source,
+			int target, CDoublePointer res) {
+		TransitNodeRoutingShortestPath<Integer, ?> tnr = globalHandles.get(tnrHandle);
+		double weight = tnr.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+	
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "sp_exec_transit_node_routing_get_distance_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeTransitNodeRoutingDistanceBetween(IsolateThread thread, ObjectHandle tnrHandle, long source,
+			long target, CDoublePointer res) {
+		TransitNodeRoutingShortestPath<Long, ?> tnr = globalHandles.get(tnrHandle);
+		double weight = tnr.getPathWeight(source, target);
+		if (res.isNonNull()) {
+			res.write(weight);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_transit_node_routing_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeTransitNodeRoutingFrom(IsolateThread thread, ObjectHandle tnrHandle, int source,
@@ -0,0 +1,151 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g);
+
+    int given[3] = { 3, 10, 11 };
+    jgrapht_capi_ix_graph_add_given_vertices_bulk(thread, g, given, 3, NULL);
+    int sources[2] = { 3, 10 };
+    int targets[2] = { 10, 11 };
+    int edges[2] = { 100, 101 };
+    double weights[2] = { 1.5, 2.5 };
+    jgrapht_capi_ii_graph_add_given_edges_bulk(thread, g, sources, targets, edges, weights, 2, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_xx_graph_attrs_put_long(thread, g, "version", 7);
+    jgrapht_capi_ix_graph_attrs_vertex_put_long(thread, g, 10, "color", 2);
+    jgrapht_capi_xi_graph_attrs_edge_put_long(thread, g, 101, "capacity", 40);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // compressed with attributes
+    jgrapht_capi_ii_export_file_binary(thread, g, "test_binary.bin", 1, 1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g1;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g1);
+    jgrapht_capi_ii_import_file_binary(thread, g1, "test_binary.bin", 1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g1, &count);
+    assert(count == 3);
+    jgrapht_capi_ix_graph_edges_count(thread, g1, &count);
+    assert(count == 2);
+    int v;
+    jgrapht_capi_ii_graph_edge_source(thread, g1, 101, &v);
+    assert(v == 10);
+    jgrapht_capi_ii_graph_edge_target(thread, g1, 101, &v);
+    assert(v == 11);
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 100, &w);
+    assert(w == 1.5);
+
+    long long value;
+    jgrapht_capi_xx_graph_attrs_get_long(thread, g1, "version", &value);
+    assert(value == 7);
+    jgrapht_capi_ix_graph_attrs_vertex_get_long(thread, g1, 10, "color", &value);
+    assert(value == 2);
+    jgrapht_capi_xi_graph_attrs_edge_get_long(thread, g1, 101, "capacity", &value);
+    assert(value == 40);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, g1);
+
+    // uncompressed without attributes and new identifiers
+    jgrapht_capi_ii_export_file_binary(thread, g, "test_binary.bin", 0, 0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g2;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g2);
+    jgrapht_capi_ii_import_file_binary(thread, g2, "test_binary.bin", 0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_ix_graph_vertices_count(thread, g2, &count);
+    assert(count == 3);
+    jgrapht_capi_ix_graph_edges_count(thread, g2, &count);
+    assert(count == 2);
+    jgrapht_capi_ii_graph_edge_source(thread, g2, 1, &v);
+    assert(v == 1);
+    jgrapht_capi_ii_graph_edge_target(thread, g2, 1, &v);
+    assert(v == 2);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g2, 1, &w);
+    assert(w == 2.5);
+    jgrapht_capi_handles_destroy(thread, g2);
+
+    // long graph
+    void *lg;
+    jgrapht_capi_ll_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &lg);
+    jgrapht_capi_ll_import_file_binary(thread, lg, "test_binary.bin", 1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    long long lcount;
+    jgrapht_capi_lx_graph_edges_count(thread, lg, &lcount);
+    assert(lcount == 2);
+    jgrapht_capi_ll_export_file_binary(thread, lg, "test_binary.bin", 1, 0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, lg);
+
+    // parallel edges are refused by a simple graph whether identifiers are kept or not
+    void *mg, *sg;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 1, 0, NULL, NULL, &mg);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, mg, 0, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, mg, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, mg, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, mg, 0, 1, NULL);
+    jgrapht_capi_ii_export_file_binary(thread, mg, "test_binary.bin", 0, 0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, mg);
+    for (int preserve = 0; preserve < 2; preserve++) {
+        jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &sg);
+        jgrapht_capi_ii_import_file_binary(thread, sg, "test_binary.bin", preserve);
+        assert(jgrapht_capi_error_get_errno(thread) == STATUS_IMPORT_ERROR);
+        jgrapht_capi_error_clear_errno(thread);
+        jgrapht_capi_handles_destroy(thread, sg);
+    }
+
+    // not a binary graph file
+    FILE* fp = fopen("test_binary.bin", "w");
+    fprintf(fp, "p sp 1 0\n");
+    fclose(fp);
+    jgrapht_capi_ii_import_file_binary(thread, g, "test_binary.bin", 0);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_IMPORT_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+    remove("test_binary.bin");
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
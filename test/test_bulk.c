@@ -0,0 +1,110 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int vertices[4];
+    assert(jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 4, vertices) == 0);
+    assert(vertices[0] == 0);
+    assert(vertices[3] == 3);
+
+    int given[3] = { 3, 10, 11 };
+    int added;
+    assert(jgrapht_capi_ix_graph_add_given_vertices_bulk(thread, g, given, 3, &added) == 0);
+    assert(added == 2);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 6);
+
+    int sources[3] = { 0, 1, 2 };
+    int targets[3] = { 1, 2, 10 };
+    double weights[3] = { 1.5, 2.5, 3.5 };
+    int edges[3];
+    assert(jgrapht_capi_ii_graph_add_edges_bulk(thread, g, sources, targets, weights, 3, edges) == 0);
+    assert(edges[0] == 0);
+    assert(edges[2] == 2);
+
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 1, &w);
+    assert(w == 2.5);
+
+    int s, t;
+    jgrapht_capi_ii_graph_edge_source(thread, g, 2, &s);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 2, &t);
+    assert(s == 2 && t == 10);
+
+    // duplicate edge is not allowed
+    int dupsources[1] = { 0 };
+    int duptargets[1] = { 1 };
+    assert(jgrapht_capi_ii_graph_add_edges_bulk(thread, g, dupsources, duptargets, NULL, 1, NULL) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    int gsources[2] = { 10, 3 };
+    int gtargets[2] = { 11, 0 };
+    int gedges[2] = { 100, 101 };
+    assert(jgrapht_capi_ii_graph_add_given_edges_bulk(thread, g, gsources, gtargets, gedges, NULL, 2, &added) == 0);
+    assert(added == 2);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 5);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    void *lg;
+    jgrapht_capi_ll_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &lg);
+
+    long long lvertices[3];
+    assert(jgrapht_capi_lx_graph_add_vertices_bulk(thread, lg, 3, lvertices) == 0);
+
+    long long lsources[2] = { lvertices[0], lvertices[1] };
+    long long ltargets[2] = { lvertices[1], lvertices[2] };
+    long long ledges[2];
+    assert(jgrapht_capi_ll_graph_add_edges_bulk(thread, lg, lsources, ltargets, NULL, 2, ledges) == 0);
+
+    long long lcount;
+    jgrapht_capi_lx_graph_edges_count(thread, lg, &lcount);
+    assert(lcount == 2);
+
+    jgrapht_capi_handles_destroy(thread, lg);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
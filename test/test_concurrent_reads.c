@@ -0,0 +1,164 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+#include <pthread.h>
+
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+#define NUM_THREADS 32
+#define NUM_VERTICES 1000
+#define NUM_ROUNDS 20
+
+static graal_isolate_t *isolate = NULL;
+static void *frozen = NULL;
+static int indegree[NUM_VERTICES];
+static double distance[NUM_VERTICES];
+static int failures = 0;
+static pthread_mutex_t failures_mutex = PTHREAD_MUTEX_INITIALIZER;
+
+static int next_target(int v) {
+    return (v * 7 + 3) % NUM_VERTICES;
+}
+
+static void fail(const char *what, int v) {
+    pthread_mutex_lock(&failures_mutex);
+    fprintf(stderr, "concurrent read failure: %s (vertex %d)\n", what, v);
+    failures++;
+    pthread_mutex_unlock(&failures_mutex);
+}
+
+static void *reader(void *arg) {
+    long id = (long) arg;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_attach_thread(isolate, &thread) != 0) {
+        fail("graal_attach_thread", -1);
+        return NULL;
+    }
+
+    for (int round = 0; round < NUM_ROUNDS; round++) {
+        for (int i = 0; i < NUM_VERTICES; i++) {
+            // each thread starts from a different vertex
+            int v = (int) ((i + id * 31) % NUM_VERTICES);
+
+            int count;
+            if (jgrapht_capi_ix_graph_indegree_of(thread, frozen, v, &count) != 0 || count != indegree[v]) {
+                fail("indegree", v);
+            }
+
+            void *it;
+            if (jgrapht_capi_ix_graph_vertex_create_in_eit(thread, frozen, v, &it) != 0) {
+                fail("incoming edges iterator", v);
+                continue;
+            }
+            int hasnext, e, target, seen = 0;
+            while (jgrapht_capi_it_hasnext(thread, it, &hasnext) == 0 && hasnext) {
+                jgrapht_capi_it_next_int(thread, it, &e);
+                jgrapht_capi_ii_graph_edge_target(thread, frozen, e, &target);
+                if (target != v) {
+                    fail("incoming edge target", v);
+                }
+                seen++;
+            }
+            jgrapht_capi_handles_destroy(thread, it);
+            if (seen != indegree[v]) {
+                fail("incoming edges count", v);
+            }
+
+            int flag;
+            jgrapht_capi_ix_graph_contains_edge_between(thread, frozen, v, next_target(v), &flag);
+            if (!flag) {
+                fail("contains edge", v);
+            }
+
+            if (i % 50 == 0) {
+                double d;
+                if (jgrapht_capi_ix_sp_exec_dijkstra_get_distance_between_vertices(thread, frozen, 0, v, &d) != 0 || d != distance[v]) {
+                    fail("distance", v);
+                }
+            }
+        }
+
+        // modifications fail and the error stays local to this thread
+        if (jgrapht_capi_ix_graph_add_vertex(thread, frozen, NULL) != STATUS_UNSUPPORTED_OPERATION) {
+            fail("add vertex", -1);
+        }
+        if (jgrapht_capi_error_get_errno(thread) != STATUS_UNSUPPORTED_OPERATION) {
+            fail("thread local errno", -1);
+        }
+        jgrapht_capi_error_clear_errno(thread);
+    }
+
+    if (graal_detach_thread(thread) != 0) {
+        fail("graal_detach_thread", -1);
+    }
+    return NULL;
+}
+
+int main() {
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // sparse graph with lazily computed incoming edges
+    void *edgelist;
+    jgrapht_capi_list_create(thread, &edgelist);
+    int added;
+    for (int v = 0; v < NUM_VERTICES; v++) {
+        jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, v, (v + 1) % NUM_VERTICES, &added);
+        indegree[(v + 1) % NUM_VERTICES]++;
+        jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, v, next_target(v), &added);
+        indegree[next_target(v)]++;
+    }
+
+    void *g;
+    jgrapht_capi_ii_graph_sparse_create(thread, 1, 0, NUM_VERTICES, edgelist, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, edgelist);
+
+    assert(jgrapht_capi_xx_graph_freeze(thread, g, &frozen) == 0);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    int flag;
+    jgrapht_capi_xx_graph_is_modifiable(thread, frozen, &flag);
+    assert(flag == 0);
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, frozen, &count);
+    assert(count == NUM_VERTICES);
+    jgrapht_capi_ix_graph_edges_count(thread, frozen, &count);
+    assert(count == 2 * NUM_VERTICES);
+
+    for (int v = 0; v < NUM_VERTICES; v++) {
+        jgrapht_capi_ix_sp_exec_dijkstra_get_distance_between_vertices(thread, frozen, 0, v, &distance[v]);
+    }
+    assert(distance[0] == 0.0);
+    assert(distance[1] == 1.0);
+
+    pthread_t threads[NUM_THREADS];
+    for (long i = 0; i < NUM_THREADS; i++) {
+        assert(pthread_create(&threads[i], NULL, reader, (void *) i) == 0);
+    }
+    for (int i = 0; i < NUM_THREADS; i++) {
+        pthread_join(threads[i], NULL);
+    }
+    assert(failures == 0);
+
+    jgrapht_capi_handles_destroy(thread, frozen);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
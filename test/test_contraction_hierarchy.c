@@ -88,6 +88,12 @@ int main() {
     assert(end_vertex == 6);
     jgrapht_capi_handles_destroy(thread, gp);
 
+    // test distance only
+    double distance;
+    jgrapht_capi_ix_sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_distance_between_vertices(thread, ch, 0, 6, 500000, &distance);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(distance == 80.0);
+
     // test many to many
     void *sources, *targets, *mm;
     jgrapht_capi_set_linked_create(thread, &sources);
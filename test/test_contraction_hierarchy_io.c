@@ -0,0 +1,99 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 8, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 0, 5.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 1, 2.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 2, 100.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 3, 2.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 5, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 4, 20.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 5, 3, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 5, 20.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 6, 7, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 6, 50.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 6, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 7, 40.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 7, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 8, 70.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 5, 7, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 9, 10.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 5, 6, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 10, 100.0);
+
+    // compute and save
+    void *ch;
+    jgrapht_capi_xx_sp_exec_contraction_hierarchy(thread, g, 1, 17, &ch);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(jgrapht_capi_xx_sp_contraction_hierarchy_save(thread, ch, "dummy.ch.out") == 0);
+    jgrapht_capi_handles_destroy(thread, ch);
+
+    // load and query
+    assert(jgrapht_capi_xx_sp_contraction_hierarchy_load(thread, g, "dummy.ch.out", &ch) == 0);
+
+    void *gp;
+    double weight;
+    int start_vertex;
+    int end_vertex;
+    jgrapht_capi_ix_sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_path_between_vertices(thread, ch, 0, 6, 500000, &gp);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_ix_handles_get_graphpath(thread, gp, &weight, &start_vertex, &end_vertex, NULL);
+    assert(weight == 80.0);
+    assert(start_vertex == 0);
+    assert(end_vertex == 6);
+    jgrapht_capi_handles_destroy(thread, gp);
+    jgrapht_capi_handles_destroy(thread, ch);
+
+    // a modified graph is rejected
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 10, 99.0);
+    assert(jgrapht_capi_xx_sp_contraction_hierarchy_load(thread, g, "dummy.ch.out", &ch) == STATUS_IMPORT_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
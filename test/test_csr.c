@@ -0,0 +1,97 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *edgelist;
+    jgrapht_capi_list_create(thread, &edgelist);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 0, 1, NULL);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 1, 2, NULL);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 0, 2, NULL);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 2, 3, NULL);
+
+    void *g;
+    jgrapht_capi_ii_graph_sparse_create(thread, 1, 0, 4, edgelist, INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES, &g);
+    jgrapht_capi_handles_destroy(thread, edgelist);
+
+    int n, m;
+    int *vertices, *offsets, *targets, *edges;
+    double *weights;
+    assert(jgrapht_capi_ii_graph_csr_create(thread, g, &n, &m, &vertices, &offsets, &targets, &edges, &weights) == 0);
+    assert(n == 4);
+    assert(m == 4);
+    assert(vertices[2] == 2);
+    assert(offsets[0] == 0);
+    assert(offsets[1] == 2);
+    assert(offsets[2] == 3);
+    assert(offsets[3] == 4);
+    assert(offsets[4] == 4);
+    assert(targets[2] == 2);
+    assert(edges[2] == 1);
+    assert(targets[3] == 3);
+    assert(weights[3] == 1.0);
+    jgrapht_capi_graph_csr_destroy(thread, vertices, offsets, targets, edges, weights);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // undirected graph with arbitrary vertex identifiers
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 10, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 20, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 30, NULL);
+    int e;
+    jgrapht_capi_ii_graph_add_edge(thread, g, 10, 20, &e);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, e, 2.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 20, 30, &e);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, e, 3.0);
+
+    assert(jgrapht_capi_ii_graph_csr_create(thread, g, &n, &m, &vertices, &offsets, NULL, NULL, &weights) == 0);
+    assert(n == 3);
+    assert(m == 4);
+    assert(vertices[0] == 10);
+    assert(vertices[1] == 20);
+    assert(vertices[2] == 30);
+    assert(offsets[1] == 1);
+    assert(offsets[2] == 3);
+    assert(offsets[3] == 4);
+    assert(weights[0] == 2.0);
+    assert(weights[3] == 3.0);
+    jgrapht_capi_graph_csr_destroy(thread, vertices, offsets, NULL, NULL, weights);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,149 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 1, 1, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 0, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 1, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 2, NULL);
+    int e;
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, &e);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, e, 3.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, &e);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, e, 2.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 0, &e);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, e, 5.0);
+
+    assert(jgrapht_capi_ii_graph_csr_file_write(thread, g, "dummy.csr.out") == 0);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    void *mg;
+    assert(jgrapht_capi_graph_csr_file_open(thread, "dummy.csr.out", &mg) == 0);
+
+    int flag;
+    jgrapht_capi_xx_graph_is_directed(thread, mg, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_weighted(thread, mg, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_modifiable(thread, mg, &flag);
+    assert(flag == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, mg, &count);
+    assert(count == 3);
+    jgrapht_capi_ix_graph_edges_count(thread, mg, &count);
+    assert(count == 3);
+
+    // vertex and edge identifiers are kept although edges were not added by source
+    int v;
+    jgrapht_capi_ii_graph_edge_source(thread, mg, 0, &v);
+    assert(v == 1);
+    jgrapht_capi_ii_graph_edge_target(thread, mg, 0, &v);
+    assert(v == 2);
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, mg, 0, &w);
+    assert(w == 3.0);
+    jgrapht_capi_ii_graph_edge_source(thread, mg, 1, &v);
+    assert(v == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, mg, 1, &w);
+    assert(w == 2.0);
+    jgrapht_capi_ii_graph_edge_target(thread, mg, 2, &v);
+    assert(v == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, mg, 2, &w);
+    assert(w == 5.0);
+
+    jgrapht_capi_ix_graph_outdegree_of(thread, mg, 0, &count);
+    assert(count == 2);
+    jgrapht_capi_ix_graph_indegree_of(thread, mg, 0, &count);
+    assert(count == 1);
+    jgrapht_capi_ix_graph_degree_of(thread, mg, 1, &count);
+    assert(count == 2);
+    jgrapht_capi_ix_graph_contains_edge_between(thread, mg, 1, 2, &flag);
+    assert(flag == 1);
+    jgrapht_capi_ix_graph_contains_edge_between(thread, mg, 2, 1, &flag);
+    assert(flag == 0);
+
+    // read-only
+    assert(jgrapht_capi_ix_graph_add_vertex(thread, mg, &v) == STATUS_UNSUPPORTED_OPERATION);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, mg);
+
+    // identifiers which are not consecutive from zero are stored as well
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 10, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 20, NULL);
+    jgrapht_capi_ix_graph_add_given_vertex(thread, g, 30, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 10, 20, &e);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 20, 30, &e);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 30, 10, &e);
+    jgrapht_capi_xi_graph_remove_edge(thread, g, 0, NULL);
+    assert(jgrapht_capi_ii_graph_csr_file_write(thread, g, "dummy.csr.out") == 0);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_graph_csr_file_open(thread, "dummy.csr.out", &mg) == 0);
+    jgrapht_capi_ix_graph_vertices_count(thread, mg, &count);
+    assert(count == 3);
+    jgrapht_capi_ix_graph_edges_count(thread, mg, &count);
+    assert(count == 2);
+    jgrapht_capi_ix_graph_contains_vertex(thread, mg, 20, &flag);
+    assert(flag == 1);
+    jgrapht_capi_ix_graph_contains_vertex(thread, mg, 0, &flag);
+    assert(flag == 0);
+    jgrapht_capi_xi_graph_contains_edge(thread, mg, 0, &flag);
+    assert(flag == 0);
+    jgrapht_capi_ii_graph_edge_source(thread, mg, 2, &v);
+    assert(v == 30);
+    jgrapht_capi_ii_graph_edge_target(thread, mg, 2, &v);
+    assert(v == 10);
+    jgrapht_capi_ix_graph_outdegree_of(thread, mg, 20, &count);
+    assert(count == 1);
+    jgrapht_capi_ix_graph_indegree_of(thread, mg, 20, &count);
+    assert(count == 0);
+    jgrapht_capi_ix_graph_contains_edge_between(thread, mg, 30, 10, &flag);
+    assert(flag == 1);
+    assert(jgrapht_capi_ix_graph_degree_of(thread, mg, 0, &count) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_handles_destroy(thread, mg);
+
+    // not a graph file
+    assert(jgrapht_capi_graph_csr_file_open(thread, "dummy.missing.out", &mg) == STATUS_IMPORT_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
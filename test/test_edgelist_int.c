@@ -0,0 +1,100 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+char *dimacs="p sp 4 3\na 1 2 2.5\na 2 3 1.5\na 3 4 4.0\n";
+char *csv="0,1,2.0\n1,2,3.0\n5000000000,0,1.0\n";
+char *bad="a,b\n";
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int num_edges;
+    int *sources, *targets;
+    double *weights;
+
+    // DIMACS with weights, directly usable to build a sparse graph
+    jgrapht_capi_ii_import_edgelist_int_string_dimacs(thread, dimacs, &num_edges, &sources, &targets, &weights);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(num_edges == 3);
+    assert(sources[0] == 0 && targets[0] == 1 && weights[0] == 2.5);
+    assert(sources[1] == 1 && targets[1] == 2 && weights[1] == 1.5);
+    assert(sources[2] == 2 && targets[2] == 3 && weights[2] == 4.0);
+
+    void *g;
+    jgrapht_capi_ii_graph_sparse_create_from_arrays(thread, 1, 4, sources, targets, weights, num_edges, INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    int count;
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 3);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    jgrapht_capi_import_edgelist_int_destroy(thread, sources, targets, weights);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // graph6 without weights
+    sources = NULL;
+    targets = NULL;
+    jgrapht_capi_ii_import_edgelist_int_string_graph6sparse6(thread, "Bw", &num_edges, &sources, &targets, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(num_edges == 3);
+    int sum = 0;
+    for (int i = 0; i < num_edges; i++) {
+        assert(sources[i] != targets[i]);
+        sum += sources[i] + targets[i];
+    }
+    assert(sum == 6);
+    jgrapht_capi_import_edgelist_int_destroy(thread, sources, targets, NULL);
+
+    // long identifiers
+    long long num_long_edges;
+    long long *long_sources, *long_targets;
+    jgrapht_capi_ll_import_edgelist_int_string_csv(thread, csv, CSV_FORMAT_EDGE_LIST, 1, 0, 0, &num_long_edges, &long_sources, &long_targets, &weights);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(num_long_edges == 3);
+    assert(long_sources[1] == 1 && long_targets[1] == 2 && weights[1] == 3.0);
+    assert(long_sources[2] == 5000000000LL && long_targets[2] == 0);
+    jgrapht_capi_import_edgelist_int_destroy(thread, long_sources, long_targets, weights);
+
+    // identifier does not fit in an int
+    jgrapht_capi_ii_import_edgelist_int_string_csv(thread, csv, CSV_FORMAT_EDGE_LIST, 1, 0, 0, &num_edges, &sources, &targets, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) != 0);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // non numeric identifiers
+    jgrapht_capi_ii_import_edgelist_int_string_csv(thread, bad, CSV_FORMAT_EDGE_LIST, 0, 0, 0, &num_edges, &sources, &targets, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) != 0);
+    jgrapht_capi_error_clear_errno(thread);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,93 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+char *input="c\nc SOURCE: Generated using the JGraphT library\nc\np edge 4 4\ne 1 2\ne 2 3\ne 3 4\ne 4 1\n";
+
+void write_to_file(char* filename, char *str) { 
+    FILE* fp = fopen(filename, "w");
+    fprintf(fp, "%s", str);
+    fclose(fp);
+}
+
+int batches = 0;
+int edges = 0;
+char received[16][8];
+int stop_after_first = 0;
+
+int on_batch(char **sources, char **targets, double *weights, int count) {
+    assert(count <= 3);
+    for (int i = 0; i < count; i++) {
+        snprintf(received[edges], 8, "%s-%s", sources[i], targets[i]);
+        assert(weights[i] == 1.0);
+        edges++;
+    }
+    batches++;
+    return stop_after_first;
+}
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    write_to_file("test_edgelist_stream.dimacs", input);
+
+    long long total;
+    assert(jgrapht_capi_xx_import_edgelist_stream_file_dimacs(thread, "test_edgelist_stream.dimacs", 3, on_batch, &total) == 0);
+    assert(total == 4);
+    assert(batches == 2);
+    assert(edges == 4);
+    assert(strcmp(received[0], "0-1") == 0);
+    assert(strcmp(received[1], "1-2") == 0);
+    assert(strcmp(received[2], "2-3") == 0);
+    assert(strcmp(received[3], "3-0") == 0);
+
+    // stop after the first batch
+    batches = 0;
+    edges = 0;
+    stop_after_first = 1;
+    assert(jgrapht_capi_xx_import_edgelist_stream_file_dimacs(thread, "test_edgelist_stream.dimacs", 3, on_batch, &total) == 0);
+    assert(total == 3);
+    assert(batches == 1);
+
+    // invalid batch size
+    assert(jgrapht_capi_xx_import_edgelist_stream_file_dimacs(thread, "test_edgelist_stream.dimacs", 0, on_batch, &total) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // missing file
+    assert(jgrapht_capi_xx_import_edgelist_stream_file_dimacs(thread, "no_such_file.dimacs", 3, on_batch, &total) != 0);
+    jgrapht_capi_error_clear_errno(thread);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,120 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+char received[65536];
+int received_length = 0;
+int chunks = 0;
+int short_chunks = 0;
+int fail = 0;
+
+int on_chunk(char *data, int length) {
+    assert(length > 0 && length <= 16);
+    if (length < 16) {
+        short_chunks++;
+    }
+    memcpy(received + received_length, data, length);
+    received_length += length;
+    chunks++;
+    return fail;
+}
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_xx_generate_complete(thread, g, 20);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *out;
+    jgrapht_capi_xx_export_string_gml(thread, g, 0, 0, 0, NULL, NULL, NULL, &out);
+    char *expected;
+    jgrapht_capi_handles_get_ccharpointer(thread, out, &expected);
+    int expected_length = strlen(expected);
+
+    // callback
+    void *stream;
+    jgrapht_capi_export_stream_create_callback(thread, 16, on_chunk, &stream);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xx_export_stream_gml(thread, g, stream, 0, 0, 0, NULL, NULL, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(received_length == expected_length);
+    assert(memcmp(received, expected, expected_length) == 0);
+    assert(chunks == (expected_length + 15) / 16);
+    assert(short_chunks <= 1);
+
+    long long total;
+    jgrapht_capi_export_stream_get_total(thread, stream, &total);
+    assert(total == expected_length);
+
+    // the stream can be reused
+    received_length = 0;
+    jgrapht_capi_xx_export_stream_graph6(thread, g, stream);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(received_length > 0);
+
+    // abort from the callback
+    fail = 1;
+    jgrapht_capi_xx_export_stream_gml(thread, g, stream, 0, 0, 0, NULL, NULL, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_EXPORT_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_handles_destroy(thread, stream);
+
+#ifndef _WIN32
+    // file descriptor
+    FILE *fp = fopen("test_export_stream.gml", "w+");
+    jgrapht_capi_export_stream_create_fd(thread, 64, fileno(fp), &stream);
+    jgrapht_capi_xx_export_stream_gml(thread, g, stream, 0, 0, 0, NULL, NULL, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, stream);
+
+    fseek(fp, 0, SEEK_SET);
+    int read = fread(received, 1, sizeof(received), fp);
+    assert(read == expected_length);
+    assert(memcmp(received, expected, expected_length) == 0);
+    fclose(fp);
+    remove("test_export_stream.gml");
+#endif
+
+    // invalid chunk size
+    jgrapht_capi_export_stream_create_callback(thread, 0, on_chunk, &stream);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, out);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,92 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <pthread.h>
+
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+#define NUM_THREADS 32
+#define NUM_ROUNDS 200
+#define BATCH 50
+
+static graal_isolate_t *isolate = NULL;
+static int failures = 0;
+static pthread_mutex_t failures_mutex = PTHREAD_MUTEX_INITIALIZER;
+
+static void fail(const char *what) {
+    pthread_mutex_lock(&failures_mutex);
+    fprintf(stderr, "handles churn failure: %s\n", what);
+    failures++;
+    pthread_mutex_unlock(&failures_mutex);
+}
+
+static void *churn(void *arg) {
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_attach_thread(isolate, &thread) != 0) {
+        fail("graal_attach_thread");
+        return NULL;
+    }
+
+    void *lists[BATCH];
+    for (int round = 0; round < NUM_ROUNDS; round++) {
+        for (int i = 0; i < BATCH; i++) {
+            if (jgrapht_capi_list_create(thread, &lists[i]) != 0) {
+                fail("create");
+            }
+            jgrapht_capi_list_int_add(thread, lists[i], i, NULL);
+        }
+        for (int i = 0; i < BATCH; i++) {
+            int size;
+            if (jgrapht_capi_list_size(thread, lists[i], &size) != 0 || size != 1) {
+                fail("size");
+            }
+            if (jgrapht_capi_handles_destroy(thread, lists[i]) != 0) {
+                fail("destroy");
+            }
+        }
+    }
+
+    if (graal_detach_thread(thread) != 0) {
+        fail("graal_detach_thread");
+    }
+    return NULL;
+}
+
+int main() {
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    long long live0, created0;
+    jgrapht_capi_handles_get_stats(thread, &live0, &created0, NULL, NULL);
+
+    pthread_t threads[NUM_THREADS];
+    for (int i = 0; i < NUM_THREADS; i++) {
+        assert(pthread_create(&threads[i], NULL, churn, NULL) == 0);
+    }
+    for (int i = 0; i < NUM_THREADS; i++) {
+        pthread_join(threads[i], NULL);
+    }
+    assert(failures == 0);
+
+    // no handle leaked
+    long long live, created;
+    jgrapht_capi_handles_get_stats(thread, &live, &created, NULL, NULL);
+    assert(live == live0);
+    assert(created - created0 == (long long) NUM_THREADS * NUM_ROUNDS * BATCH);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
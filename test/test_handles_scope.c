@@ -0,0 +1,103 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+
+    long long live0;
+    jgrapht_capi_handles_get_stats(thread, &live0, NULL, NULL, NULL);
+
+    assert(jgrapht_capi_handles_scope_begin(thread) == 0);
+
+    // handles created by algorithms and iterators are tracked
+    void *paths;
+    jgrapht_capi_ix_sp_exec_dijkstra_get_singlesource_from_vertex(thread, g, 0, &paths);
+    for (int v = 1; v < 4; v++) {
+        void *path, *it;
+        jgrapht_capi_ix_sp_singlesource_get_path_to_vertex(thread, paths, v, &path);
+        jgrapht_capi_ix_handles_get_graphpath(thread, path, NULL, NULL, NULL, &it);
+        int hasnext, count = 0;
+        while (jgrapht_capi_it_hasnext(thread, it, &hasnext) == 0 && hasnext) {
+            int e;
+            jgrapht_capi_it_next_int(thread, it, &e);
+            count++;
+        }
+        assert(count == v);
+    }
+
+    // explicitly destroyed handles are skipped
+    void *list;
+    jgrapht_capi_list_create(thread, &list);
+    jgrapht_capi_handles_destroy(thread, list);
+
+    // nested scope
+    assert(jgrapht_capi_handles_scope_begin(thread) == 0);
+    void *l1, *l2;
+    jgrapht_capi_list_create(thread, &l1);
+    jgrapht_capi_list_create(thread, &l2);
+    int released;
+    assert(jgrapht_capi_handles_scope_end(thread, &released) == 0);
+    assert(released == 2);
+
+    long long live;
+    jgrapht_capi_handles_get_stats(thread, &live, NULL, NULL, NULL);
+    assert(live == live0 + 7);
+
+    assert(jgrapht_capi_handles_scope_end(thread, &released) == 0);
+    assert(released == 7);
+
+    jgrapht_capi_handles_get_stats(thread, &live, NULL, NULL, NULL);
+    assert(live == live0);
+
+    // the graph created outside the scope is still alive
+    int count;
+    assert(jgrapht_capi_ix_graph_vertices_count(thread, g, &count) == 0);
+    assert(count == 4);
+
+    // no open scope
+    assert(jgrapht_capi_handles_scope_end(thread, NULL) == STATUS_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,80 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    long long live0, created0, destroyed0, capacity;
+    assert(jgrapht_capi_handles_get_stats(thread, &live0, &created0, &destroyed0, &capacity) == 0);
+    assert(live0 == created0 - destroyed0);
+
+    void *lists[100];
+    for (int i = 0; i < 100; i++) {
+        jgrapht_capi_list_create(thread, &lists[i]);
+    }
+
+    long long live, created, destroyed;
+    jgrapht_capi_handles_get_stats(thread, &live, &created, &destroyed, &capacity);
+    assert(live == live0 + 100);
+    assert(created == created0 + 100);
+    assert(capacity >= 100);
+
+    for (int i = 0; i < 100; i++) {
+        jgrapht_capi_handles_destroy(thread, lists[i]);
+    }
+
+    jgrapht_capi_handles_get_stats(thread, &live, NULL, &destroyed, NULL);
+    assert(live == live0);
+    assert(destroyed == destroyed0 + 100);
+
+    // slots are reused, stale handles are rejected
+    void *list;
+    jgrapht_capi_list_create(thread, &list);
+    assert(list != lists[99]);
+    int size;
+    assert(jgrapht_capi_list_size(thread, lists[99], &size) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    assert(jgrapht_capi_handles_destroy(thread, lists[99]) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    assert(jgrapht_capi_list_size(thread, list, &size) == 0);
+    assert(size == 0);
+    jgrapht_capi_handles_destroy(thread, list);
+
+    long long capacity2;
+    jgrapht_capi_handles_get_stats(thread, NULL, NULL, NULL, &capacity2);
+    assert(capacity2 == capacity);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,107 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *base, *g, *pr, *map1, *map2;
+    int iterations;
+    double expected, actual;
+
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 1, 0, NULL, NULL, &base);
+    jgrapht_capi_xx_generate_gnm_random(thread, base, 100, 400, 0, 0, 17);
+    jgrapht_capi_xx_listenable_as_listenable(thread, base, &g);
+
+    // only listenable graphs are supported
+    assert(jgrapht_capi_xx_scoring_pagerank_create(thread, base, 0.85, 100, 1e-9, &pr) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    assert(jgrapht_capi_xx_scoring_pagerank_create(thread, g, 0.85, 100, 1e-9, &pr) == 0);
+    assert(jgrapht_capi_xx_scoring_pagerank_refresh(thread, pr, &iterations, NULL) == 0);
+    assert(iterations > 0);
+
+    // nothing changed
+    assert(jgrapht_capi_xx_scoring_pagerank_refresh(thread, pr, &iterations, NULL) == 0);
+    assert(iterations == 0);
+
+    for (int i = 0; i < 5; i++) {
+        jgrapht_capi_ii_graph_add_edge(thread, g, i, 99 - i, NULL);
+    }
+    assert(jgrapht_capi_xx_scoring_pagerank_refresh(thread, pr, &iterations, &map1) == 0);
+    assert(iterations > 0);
+
+    jgrapht_capi_xx_scoring_exec_custom_pagerank(thread, g, 0.85, 100, 1e-9, &map2);
+    for (int v = 0; v < 100; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected - actual < 1e-6 && actual - expected < 1e-6);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    double scores[100];
+    jgrapht_capi_ii_graph_add_edge(thread, g, 50, 51, NULL);
+    assert(jgrapht_capi_ix_scoring_pagerank_refresh_into_array(thread, pr, &iterations, scores, 100) == 0);
+    assert(iterations > 0);
+    double sum = 0.0;
+    for (int v = 0; v < 100; v++) {
+        sum += scores[v];
+    }
+    assert(sum > 0.999 && sum < 1.001);
+
+    // a warm refresh needs fewer iterations than a cold run with the same tolerance
+    int e, cold;
+    void *cold_pr;
+    jgrapht_capi_ii_graph_add_edge(thread, g, 70, 71, &e);
+    jgrapht_capi_xi_graph_remove_edge(thread, g, e, NULL);
+    assert(jgrapht_capi_xx_scoring_pagerank_refresh(thread, pr, &iterations, NULL) == 0);
+    assert(jgrapht_capi_xx_scoring_pagerank_create(thread, g, 0.85, 100, 1e-9, &cold_pr) == 0);
+    assert(jgrapht_capi_xx_scoring_pagerank_refresh(thread, cold_pr, &cold, NULL) == 0);
+    assert(iterations > 0 && iterations < cold);
+    jgrapht_capi_xx_scoring_pagerank_detach(thread, cold_pr);
+    jgrapht_capi_handles_destroy(thread, cold_pr);
+
+    // after detaching changes are not seen
+    assert(jgrapht_capi_xx_scoring_pagerank_detach(thread, pr) == 0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 60, 61, NULL);
+    assert(jgrapht_capi_xx_scoring_pagerank_refresh(thread, pr, &iterations, NULL) == 0);
+    assert(iterations == 0);
+
+    jgrapht_capi_handles_destroy(thread, pr);
+    jgrapht_capi_handles_destroy(thread, g);
+    jgrapht_capi_handles_destroy(thread, base);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
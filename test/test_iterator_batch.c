@@ -0,0 +1,94 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 10, NULL);
+
+    void *vit;
+    jgrapht_capi_xx_graph_create_all_vit(thread, g, &vit);
+
+    int buffer[4];
+    int count;
+    assert(jgrapht_capi_it_next_int_batch(thread, vit, buffer, 4, &count) == 0);
+    assert(count == 4);
+    assert(buffer[0] == 0 && buffer[3] == 3);
+    assert(jgrapht_capi_it_next_int_batch(thread, vit, buffer, 4, &count) == 0);
+    assert(count == 4);
+    assert(buffer[0] == 4 && buffer[3] == 7);
+    assert(jgrapht_capi_it_next_int_batch(thread, vit, buffer, 4, &count) == 0);
+    assert(count == 2);
+    assert(buffer[0] == 8 && buffer[1] == 9);
+    assert(jgrapht_capi_it_next_int_batch(thread, vit, buffer, 4, &count) == 0);
+    assert(count == 0);
+    jgrapht_capi_handles_destroy(thread, vit);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    void *list;
+    jgrapht_capi_list_create(thread, &list);
+    jgrapht_capi_list_double_add(thread, list, 1.0, NULL);
+    jgrapht_capi_list_double_add(thread, list, 2.0, NULL);
+    jgrapht_capi_list_double_add(thread, list, 3.0, NULL);
+
+    void *dit;
+    double dbuffer[5];
+    jgrapht_capi_list_it_create(thread, list, &dit);
+    assert(jgrapht_capi_it_next_double_batch(thread, dit, dbuffer, 5, &count) == 0);
+    assert(count == 3);
+    assert(dbuffer[2] == 3.0);
+    jgrapht_capi_handles_destroy(thread, dit);
+    jgrapht_capi_handles_destroy(thread, list);
+
+    jgrapht_capi_list_create(thread, &list);
+    jgrapht_capi_ii_list_edge_triple_add(thread, list, 0, 1, 5.0, NULL);
+    jgrapht_capi_ii_list_edge_triple_add(thread, list, 1, 2, 6.0, NULL);
+
+    void *tit;
+    int sources[2], targets[2];
+    double weights[2];
+    jgrapht_capi_list_it_create(thread, list, &tit);
+    assert(jgrapht_capi_it_next_int_edge_triple_batch(thread, tit, sources, targets, weights, 2, &count) == 0);
+    assert(count == 2);
+    assert(sources[1] == 1 && targets[1] == 2 && weights[1] == 6.0);
+    jgrapht_capi_handles_destroy(thread, tit);
+    jgrapht_capi_handles_destroy(thread, list);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,89 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 5, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 4, 0, NULL);
+
+    int us[3] = { 0, 0, 0 };
+    int vs[3] = { 3, 2, 1 };
+    double scores[3];
+
+    assert(jgrapht_capi_ix_link_prediction_exec_adamic_adar_index_batch(thread, g, us, vs, 3, 2, scores) == 0);
+    assert(fabs(scores[0] - 1.442695) < 1e-6);
+    assert(fabs(scores[1] - 1.442695) < 1e-6);
+    assert(scores[2] == 0.0);
+
+    double single;
+    jgrapht_capi_ix_link_prediction_exec_adamic_adar_index(thread, g, 0, 3, &single);
+    assert(fabs(scores[0] - single) < 1e-9);
+
+    assert(jgrapht_capi_ix_link_prediction_exec_common_neighbors_batch(thread, g, us, vs, 3, 1, scores) == 0);
+    assert(scores[0] == 1.0);
+    assert(scores[1] == 1.0);
+    assert(scores[2] == 0.0);
+
+    assert(jgrapht_capi_ix_link_prediction_exec_jaccard_coefficient_batch(thread, g, us, vs, 3, 0, scores) == 0);
+    assert(fabs(scores[1] - 1.0 / 3.0) < 1e-9);
+
+    assert(jgrapht_capi_ix_link_prediction_exec_preferential_attachment_batch(thread, g, us, vs, 3, 0, scores) == 0);
+    assert(scores[0] == 4.0);
+
+    // not well defined pairs are NaN
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    us[0] = 5;
+    vs[0] = 5;
+    assert(jgrapht_capi_ix_link_prediction_exec_jaccard_coefficient_batch(thread, g, us, vs, 1, 0, scores) == 0);
+    assert(isnan(scores[0]));
+
+    // unknown vertex
+    vs[0] = 10;
+    assert(jgrapht_capi_ix_link_prediction_exec_salton_index_batch(thread, g, us, vs, 1, 0, scores) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,85 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 6, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 5, NULL);
+
+    int sources[3] = { 0, 4, 5 };
+    int candidates[6];
+    double scores[6];
+    int counts[3];
+
+    assert(jgrapht_capi_ix_link_prediction_exec_common_neighbors_top_k(thread, g, sources, 3, 2, 2, candidates, scores, counts) == 0);
+    assert(counts[0] == 1);
+    assert(candidates[0] == 3);
+    assert(scores[0] == 2.0);
+    assert(isnan(scores[1]));
+    assert(counts[1] == 2);
+    assert(candidates[2] == 1);
+    assert(candidates[3] == 2);
+    assert(counts[2] == 2);
+    assert(candidates[4] == 1);
+    assert(candidates[5] == 2);
+
+    assert(jgrapht_capi_ix_link_prediction_exec_adamic_adar_index_top_k(thread, g, sources, 3, 2, 0, candidates, scores, counts) == 0);
+    double single;
+    jgrapht_capi_ix_link_prediction_exec_adamic_adar_index(thread, g, 0, 3, &single);
+    assert(fabs(scores[0] - single) < 1e-9);
+    assert(fabs(scores[0] - 2.885390) < 1e-6);
+
+    assert(jgrapht_capi_ix_link_prediction_exec_jaccard_coefficient_top_k(thread, g, sources + 1, 1, 1, 1, candidates, scores, NULL) == 0);
+    assert(candidates[0] == 1);
+    assert(scores[0] == 0.5);
+
+    // k must be positive
+    assert(jgrapht_capi_ix_link_prediction_exec_jaccard_coefficient_top_k(thread, g, sources, 1, 0, 1, candidates, scores, counts) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,98 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    double expected, actual;
+    int ecount;
+    void *g, *map1, *map2;
+
+    for (int directed = 0; directed < 2; directed++) {
+        // unweighted and weighted with small integer weights creating ties
+        for (int weighted = 0; weighted < 2; weighted++) {
+            jgrapht_capi_ii_graph_create(thread, directed, 0, 0, weighted, NULL, NULL, &g);
+            jgrapht_capi_xx_generate_gnm_random(thread, g, 40, 150, 0, 0, 17);
+            jgrapht_capi_ix_graph_edges_count(thread, g, &ecount);
+            if (weighted) {
+                for (int e = 0; e < ecount; e++) {
+                    jgrapht_capi_xi_graph_set_edge_weight(thread, g, e, 1.0 + e % 3);
+                }
+            }
+
+            jgrapht_capi_xx_scoring_exec_custom_betweenness_centrality(thread, g, 1, &map1);
+            assert(jgrapht_capi_xx_scoring_exec_parallel_betweenness_centrality(thread, g, 1, 4, &map2) == 0);
+            for (int v = 0; v < 40; v++) {
+                jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+                jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+                assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+            }
+            jgrapht_capi_handles_destroy(thread, map1);
+            jgrapht_capi_handles_destroy(thread, map2);
+
+            double scores[40];
+            assert(jgrapht_capi_ix_scoring_exec_parallel_betweenness_centrality_into_array(thread, g, 0, 0, scores, 40) == 0);
+            jgrapht_capi_xx_scoring_exec_betweenness_centrality(thread, g, &map1);
+            for (int v = 0; v < 40; v++) {
+                jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+                assert(expected - scores[v] < 1e-9 && scores[v] - expected < 1e-9);
+            }
+            jgrapht_capi_handles_destroy(thread, map1);
+
+            jgrapht_capi_xx_scoring_exec_edge_betweenness_centrality(thread, g, &map1);
+            assert(jgrapht_capi_xx_scoring_exec_parallel_edge_betweenness_centrality(thread, g, 3, &map2) == 0);
+            for (int e = 0; e < ecount; e++) {
+                jgrapht_capi_map_int_double_get(thread, map1, e, &expected);
+                jgrapht_capi_map_int_double_get(thread, map2, e, &actual);
+                assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+            }
+            jgrapht_capi_handles_destroy(thread, map1);
+            jgrapht_capi_handles_destroy(thread, map2);
+
+            jgrapht_capi_handles_destroy(thread, g);
+        }
+    }
+
+    // negative weights are rejected
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 0, -1.0);
+    assert(jgrapht_capi_xx_scoring_exec_parallel_betweenness_centrality(thread, g, 0, 2, &map1) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
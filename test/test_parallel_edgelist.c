@@ -0,0 +1,125 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+char *dimacs="c example\np sp 6 3\na 1 2 2.5\na 2 3 1.5\na 3 4 4\n";
+
+void write_to_file(char* filename, char *str) { 
+    FILE* fp = fopen(filename, "w");
+    fprintf(fp, "%s", str);
+    fclose(fp);
+}
+
+// enough lines for the file to be split in several chunks
+#define NUM_LINES 300000
+
+void write_csv(char* filename) { 
+    FILE* fp = fopen(filename, "w");
+    for (int i = 0; i < NUM_LINES; i++) {
+        fprintf(fp, "%d,%d,%d.25\n", i, (i + 1) % NUM_LINES, i % 10);
+    }
+    fclose(fp);
+}
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    write_csv("test_parallel_edgelist.csv");
+    write_to_file("test_parallel_edgelist.dimacs", dimacs);
+
+    // sparse graph from CSV
+    void *g;
+    jgrapht_capi_ii_graph_sparse_create_from_file_csv(thread, 1, "test_parallel_edgelist.csv", 1, 4, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == NUM_LINES);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == NUM_LINES);
+
+    // edges keep the file order
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 0, &w);
+    assert(w == 0.25);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, NUM_LINES - 1, &w);
+    assert(w == (NUM_LINES - 1) % 10 + 0.25);
+    int v;
+    jgrapht_capi_ii_graph_edge_source(thread, g, 12345, &v);
+    assert(v == 12345);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 12345, &v);
+    assert(v == 12346);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // sparse graph from DIMACS, vertex count from the problem line
+    jgrapht_capi_ii_graph_sparse_create_from_file_dimacs(thread, 0, "test_parallel_edgelist.dimacs", 0, 0, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 6);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 3);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // native arrays
+    int num_vertices, num_edges;
+    int *sources, *targets;
+    double *weights;
+    jgrapht_capi_ii_import_edgelist_int_parallel_file_dimacs(thread, "test_parallel_edgelist.dimacs", 2, &num_vertices, &num_edges, &sources, &targets, &weights);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(num_vertices == 6);
+    assert(num_edges == 3);
+    assert(sources[0] == 0 && targets[0] == 1 && weights[0] == 2.5);
+    assert(sources[2] == 2 && targets[2] == 3 && weights[2] == 4.0);
+    jgrapht_capi_import_edgelist_int_destroy(thread, sources, targets, weights);
+
+    jgrapht_capi_ii_import_edgelist_int_parallel_file_csv(thread, "test_parallel_edgelist.csv", 0, &num_vertices, &num_edges, &sources, &targets, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(num_vertices == NUM_LINES);
+    assert(num_edges == NUM_LINES);
+    for (int i = 0; i < num_edges; i++) {
+        assert(sources[i] == i);
+        assert(targets[i] == (i + 1) % NUM_LINES);
+    }
+    jgrapht_capi_import_edgelist_int_destroy(thread, sources, targets, NULL);
+
+    // malformed input
+    write_to_file("test_parallel_edgelist.dimacs", "p sp 2 1\na 0 1\n");
+    jgrapht_capi_ii_import_edgelist_int_parallel_file_dimacs(thread, "test_parallel_edgelist.dimacs", 0, NULL, &num_edges, &sources, &targets, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_IMPORT_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+
+    remove("test_parallel_edgelist.csv");
+    remove("test_parallel_edgelist.dimacs");
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,102 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g, *map1, *map2;
+    int iterations;
+    double expected, actual;
+    double scores[100];
+
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_xx_generate_gnm_random(thread, g, 100, 500, 0, 0, 17);
+
+    jgrapht_capi_xx_scoring_exec_custom_pagerank(thread, g, 0.85, 1000, 1e-12, &map1);
+    assert(jgrapht_capi_xx_scoring_exec_parallel_pagerank(thread, g, 0.85, 1000, 1e-12, 4, &iterations, &map2) == 0);
+    assert(iterations > 0 && iterations < 1000);
+    assert(jgrapht_capi_ix_scoring_exec_parallel_pagerank_into_array(thread, g, 0.85, 1000, 1e-12, 2, NULL, scores, 100) == 0);
+    for (int v = 0; v < 100; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+        assert(expected - scores[v] < 1e-9 && scores[v] - expected < 1e-9);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    jgrapht_capi_ix_scoring_exec_custom_katz_centrality(thread, g, 0.01, NULL, 1000, 1e-12, &map1);
+    assert(jgrapht_capi_ix_scoring_exec_parallel_katz_centrality(thread, g, 0.01, NULL, 1000, 1e-12, 4, NULL, &map2) == 0);
+    assert(jgrapht_capi_ix_scoring_exec_parallel_katz_centrality_into_array(thread, g, 0.01, NULL, 1000, 1e-12, 0, NULL, scores, 100) == 0);
+    for (int v = 0; v < 100; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+        assert(expected - scores[v] < 1e-9 && scores[v] - expected < 1e-9);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // eigenvector centrality on an undirected graph, compared up to scaling
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_xx_generate_gnm_random(thread, g, 100, 500, 0, 0, 17);
+
+    jgrapht_capi_xx_scoring_exec_custom_eigenvector_centrality(thread, g, 1000, 1e-12, &map1);
+    assert(jgrapht_capi_xx_scoring_exec_parallel_eigenvector_centrality(thread, g, 1000, 1e-12, 4, &iterations, &map2) == 0);
+    assert(jgrapht_capi_ix_scoring_exec_parallel_eigenvector_centrality_into_array(thread, g, 1000, 1e-12, 3, NULL, scores, 100) == 0);
+    double expected0, actual0;
+    jgrapht_capi_map_int_double_get(thread, map1, 0, &expected0);
+    jgrapht_capi_map_int_double_get(thread, map2, 0, &actual0);
+    for (int v = 0; v < 100; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        expected /= expected0;
+        assert(expected - actual / actual0 < 1e-6 && actual / actual0 - expected < 1e-6);
+        assert(scores[v] - actual < 1e-12 && actual - scores[v] < 1e-12);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    // invalid parameters
+    assert(jgrapht_capi_xx_scoring_exec_parallel_pagerank(thread, g, 1.5, 100, 1e-6, 0, NULL, &map1) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    assert(jgrapht_capi_ix_scoring_exec_parallel_pagerank_into_array(thread, g, 0.85, 100, 1e-6, 0, NULL, scores, 50) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,133 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g, *map;
+    int iterations;
+    double value;
+    double scores[50];
+
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_xx_generate_gnm_random(thread, g, 50, 200, 0, 0, 17);
+
+    // all vertices as seeds with equal weights is global pagerank
+    int all[50];
+    for (int v = 0; v < 50; v++) {
+        all[v] = v;
+    }
+    void *global;
+    jgrapht_capi_xx_scoring_exec_custom_pagerank(thread, g, 0.85, 1000, 1e-12, &global);
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank(thread, g, 0.85, 1000, 1e-12, all, NULL, 50, 2, &iterations, &map) == 0);
+    assert(iterations > 0);
+    for (int v = 0; v < 50; v++) {
+        double expected, actual;
+        jgrapht_capi_map_int_double_get(thread, global, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map, v, &actual);
+        assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+    }
+    jgrapht_capi_handles_destroy(thread, map);
+    jgrapht_capi_handles_destroy(thread, global);
+
+    // a single seed receives at least all random jumps and the scores sum to one
+    int seed[1] = { 7 };
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank_into_array(thread, g, 0.85, 100, 1e-9, seed, NULL, 1, 0, NULL, scores, 50) == 0);
+    double sum = 0.0;
+    for (int v = 0; v < 50; v++) {
+        sum += scores[v];
+    }
+    assert(sum > 0.999 && sum < 1.001);
+    assert(scores[7] >= 0.15 - 1e-9);
+
+    // batch of three seed sets, the second one weighted
+    int offsets[4] = { 0, 1, 3, 4 };
+    int seeds[4] = { 7, 1, 2, 9 };
+    double weights[4] = { 1.0, 3.0, 1.0, 2.0 };
+    double batch[3 * 50];
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank_batch_into_array(thread, g, 0.85, 100, 1e-9, 3, offsets, seeds, weights, 0, batch, 50) == 0);
+    for (int v = 0; v < 50; v++) {
+        assert(batch[v] - scores[v] < 1e-12 && scores[v] - batch[v] < 1e-12);
+    }
+
+    // the weights take effect, the heavier seed gains against equal weights
+    double equal[50];
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank_into_array(thread, g, 0.85, 100, 1e-9, seeds + 1, NULL, 2, 0, NULL, equal, 50) == 0);
+    assert(batch[50 + 1] > equal[1]);
+    assert(batch[50 + 2] < equal[2]);
+
+    int top_vertices[3 * 5];
+    double top_scores[3 * 5];
+    int counts[3];
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank_batch_top_k(thread, g, 0.85, 100, 1e-9, 3, offsets, seeds, weights, 5, 4, top_vertices, top_scores, counts) == 0);
+    for (int i = 0; i < 3; i++) {
+        assert(counts[i] == 5);
+        for (int j = 0; j < 5; j++) {
+            int v = top_vertices[i * 5 + j];
+            assert(top_scores[i * 5 + j] == batch[i * 50 + v]);
+            if (j > 0) {
+                assert(top_scores[i * 5 + j] <= top_scores[i * 5 + j - 1]);
+            }
+        }
+        // nothing outside the top k scores higher
+        for (int v = 0; v < 50; v++) {
+            int found = 0;
+            for (int j = 0; j < 5; j++) {
+                found |= top_vertices[i * 5 + j] == v;
+            }
+            assert(found || batch[i * 50 + v] <= top_scores[i * 5 + 4]);
+        }
+    }
+    assert(top_scores[0] >= 0.15 - 1e-9);
+
+    // more slots than vertices are padded
+    int few_vertices[60];
+    double few_scores[60];
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank_batch_top_k(thread, g, 0.85, 100, 1e-9, 1, offsets, seeds, NULL, 60, 1, few_vertices, few_scores, counts) == 0);
+    assert(counts[0] == 50);
+    assert(few_scores[59] != few_scores[59]);
+
+    // invalid seeds and weights
+    int missing[1] = { 100 };
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank(thread, g, 0.85, 100, 1e-9, missing, NULL, 1, 0, NULL, &map) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    double zero[1] = { 0.0 };
+    assert(jgrapht_capi_ix_scoring_exec_personalized_pagerank(thread, g, 0.85, 100, 1e-9, seed, zero, 1, 0, NULL, &map) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,156 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    assert(jgrapht_capi_ii_graph_create_primitive(thread, 1, 0, 0, 1, NULL, NULL, &g) == 0);
+
+    int flag;
+    assert(jgrapht_capi_xx_graph_is_directed(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_weighted(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_allowing_selfloops(thread, g, &flag) == 0);
+    assert(flag == 0);
+
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 4, NULL);
+
+    int e;
+    assert(jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, &e) == 0);
+    assert(e == 0);
+    assert(jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, &e) == 0);
+    assert(e == 1);
+    assert(jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, &e) == 0);
+    assert(e == 2);
+    assert(jgrapht_capi_ii_graph_add_edge(thread, g, 3, 0, &e) == 0);
+    assert(e == 3);
+
+    // no multiple edges or self-loops
+    assert(jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, &e) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+    assert(jgrapht_capi_ii_graph_add_edge(thread, g, 0, 0, &e) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 2, 5.0);
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 2, &w);
+    assert(w == 5.0);
+
+    int count;
+    jgrapht_capi_ix_graph_outdegree_of(thread, g, 0, &count);
+    assert(count == 1);
+    jgrapht_capi_ix_graph_indegree_of(thread, g, 0, &count);
+    assert(count == 1);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 0, &count);
+    assert(count == 2);
+
+    int s, t;
+    jgrapht_capi_ii_graph_edge_source(thread, g, 3, &s);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 3, &t);
+    assert(s == 3 && t == 0);
+
+    jgrapht_capi_ix_graph_contains_edge_between(thread, g, 1, 2, &flag);
+    assert(flag == 1);
+    jgrapht_capi_ix_graph_contains_edge_between(thread, g, 2, 1, &flag);
+    assert(flag == 0);
+
+    jgrapht_capi_ix_graph_remove_vertex(thread, g, 1, &flag);
+    assert(flag == 1);
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 3);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 2);
+    jgrapht_capi_xi_graph_contains_edge(thread, g, 0, &flag);
+    assert(flag == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 2, &w);
+    assert(w == 5.0);
+
+    void *eit;
+    int hasnext;
+    jgrapht_capi_ix_graph_vertex_create_out_eit(thread, g, 3, &eit);
+    assert(jgrapht_capi_it_next_int(thread, eit, &e) == 0);
+    assert(e == 3);
+    jgrapht_capi_it_hasnext(thread, eit, &hasnext);
+    assert(hasnext == 0);
+    jgrapht_capi_handles_destroy(thread, eit);
+
+    // algorithms work as with any other graph
+    void *map;
+    jgrapht_capi_xx_scoring_exec_pagerank(thread, g, &map);
+    jgrapht_capi_map_int_contains_key(thread, map, 3, &flag);
+    assert(flag == 1);
+    jgrapht_capi_handles_destroy(thread, map);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // undirected with self-loops and multiple edges
+    assert(jgrapht_capi_ii_graph_create_primitive(thread, 0, 1, 1, 0, NULL, NULL, &g) == 0);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 0, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 0, NULL);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 0, &count);
+    assert(count == 4);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 1, &count);
+    assert(count == 2);
+    jgrapht_capi_ix_graph_create_between_eit(thread, g, 1, 0, &eit);
+    assert(jgrapht_capi_it_next_int(thread, eit, &e) == 0);
+    assert(e == 1);
+    assert(jgrapht_capi_it_next_int(thread, eit, &e) == 0);
+    assert(e == 2);
+    jgrapht_capi_handles_destroy(thread, eit);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    void *lg;
+    assert(jgrapht_capi_ll_graph_create_primitive(thread, 1, 1, 1, 0, NULL, NULL, &lg) == 0);
+    long long v1, v2, le;
+    jgrapht_capi_lx_graph_add_vertex(thread, lg, &v1);
+    jgrapht_capi_lx_graph_add_vertex(thread, lg, &v2);
+    jgrapht_capi_ll_graph_add_edge(thread, lg, v1, v2, &le);
+    long long lcount;
+    jgrapht_capi_lx_graph_edges_count(thread, lg, &lcount);
+    assert(lcount == 1);
+    jgrapht_capi_xl_graph_remove_edge(thread, lg, le, &flag);
+    assert(flag == 1);
+    jgrapht_capi_lx_graph_edges_count(thread, lg, &lcount);
+    assert(lcount == 0);
+    jgrapht_capi_handles_destroy(thread, lg);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
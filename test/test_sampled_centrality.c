@@ -0,0 +1,128 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    double expected, actual;
+    int k;
+    void *g, *map1, *map2;
+
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_xx_generate_gnm_random(thread, g, 30, 120, 0, 0, 17);
+
+    // sampling all vertices gives the exact scores
+    jgrapht_capi_xx_scoring_exec_custom_betweenness_centrality(thread, g, 1, &map1);
+    assert(jgrapht_capi_xx_scoring_exec_sampled_betweenness_centrality(thread, g, 1, 100, 0.0, 7, 2, &k, &map2) == 0);
+    assert(k == 30);
+    for (int v = 0; v < 30; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    jgrapht_capi_xx_scoring_exec_custom_closeness_centrality(thread, g, 0, 1, &map1);
+    assert(jgrapht_capi_xx_scoring_exec_sampled_closeness_centrality(thread, g, 0, 1, 30, 0.0, 7, 0, &k, &map2) == 0);
+    assert(k == 30);
+    for (int v = 0; v < 30; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    jgrapht_capi_xx_scoring_exec_custom_harmonic_centrality(thread, g, 1, 0, &map1);
+    assert(jgrapht_capi_xx_scoring_exec_sampled_harmonic_centrality(thread, g, 1, 0, 30, 0.0, 7, 0, NULL, &map2) == 0);
+    for (int v = 0; v < 30; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected - actual < 1e-9 && actual - expected < 1e-9);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    // the number of samples is derived from epsilon, ceil(ln(30)/0.25) = 14
+    assert(jgrapht_capi_xx_scoring_exec_sampled_betweenness_centrality(thread, g, 0, 0, 0.5, 7, 0, &k, &map2) == 0);
+    assert(k == 14);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    // the same seed gives the same estimates
+    assert(jgrapht_capi_xx_scoring_exec_sampled_harmonic_centrality(thread, g, 0, 1, 5, 0.0, 11, 1, &k, &map1) == 0);
+    assert(jgrapht_capi_xx_scoring_exec_sampled_harmonic_centrality(thread, g, 0, 1, 5, 0.0, 11, 1, &k, &map2) == 0);
+    assert(k == 5);
+    for (int v = 0; v < 30; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &expected);
+        jgrapht_capi_map_int_double_get(thread, map2, v, &actual);
+        assert(expected == actual);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+    jgrapht_capi_handles_destroy(thread, map2);
+
+    // either samples or epsilon must be positive
+    assert(jgrapht_capi_xx_scoring_exec_sampled_closeness_centrality(thread, g, 0, 1, 0, 0.0, 7, 0, &k, &map1) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // a single pivot has no other pivot to estimate its own score from
+    assert(jgrapht_capi_xx_scoring_exec_sampled_closeness_centrality(thread, g, 0, 1, 1, 0.0, 7, 0, &k, &map1) == 0);
+    assert(k == 1);
+    for (int v = 0; v < 30; v++) {
+        jgrapht_capi_map_int_double_get(thread, map1, v, &actual);
+        assert(actual == actual && actual >= 0.0 && actual <= 1.0);
+    }
+    jgrapht_capi_handles_destroy(thread, map1);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // a single vertex has zero scores
+    int v;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, &v);
+    assert(jgrapht_capi_xx_scoring_exec_sampled_closeness_centrality(thread, g, 0, 1, 1, 0.0, 7, 0, &k, &map1) == 0);
+    assert(k == 1);
+    jgrapht_capi_map_int_double_get(thread, map1, v, &actual);
+    assert(actual == 0.0);
+    jgrapht_capi_handles_destroy(thread, map1);
+    assert(jgrapht_capi_xx_scoring_exec_sampled_harmonic_centrality(thread, g, 0, 1, 1, 0.0, 7, 0, &k, &map1) == 0);
+    jgrapht_capi_map_int_double_get(thread, map1, v, &actual);
+    assert(actual == 0.0);
+    jgrapht_capi_handles_destroy(thread, map1);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
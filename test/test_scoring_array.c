@@ -0,0 +1,87 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 4, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 3, NULL);
+
+    void *map;
+    double scores[5];
+    double value;
+    scores[4] = -1.0;
+
+    assert(jgrapht_capi_ix_scoring_exec_pagerank_into_array(thread, g, scores, 5) == 0);
+    jgrapht_capi_xx_scoring_exec_pagerank(thread, g, &map);
+    for (int v = 0; v < 4; v++) {
+        jgrapht_capi_map_int_double_get(thread, map, v, &value);
+        assert(scores[v] == value);
+    }
+    assert(scores[4] == -1.0);
+    jgrapht_capi_handles_destroy(thread, map);
+
+    assert(jgrapht_capi_ix_scoring_exec_custom_betweenness_centrality_into_array(thread, g, 0, scores, 4) == 0);
+    assert(scores[0] == 2.0);
+    assert(scores[3] == 2.0);
+    assert(scores[1] == 0.0);
+
+    assert(jgrapht_capi_ix_scoring_exec_harmonic_centrality_into_array(thread, g, scores, 4) == 0);
+    jgrapht_capi_xx_scoring_exec_harmonic_centrality(thread, g, &map);
+    for (int v = 0; v < 4; v++) {
+        jgrapht_capi_map_int_double_get(thread, map, v, &value);
+        assert(scores[v] == value);
+    }
+    jgrapht_capi_handles_destroy(thread, map);
+
+    int core[4];
+    int degeneracy;
+    assert(jgrapht_capi_ix_scoring_exec_coreness_into_array(thread, g, &degeneracy, core, 4) == 0);
+    assert(degeneracy == 1);
+    assert(core[0] == 1);
+
+    // array too small
+    assert(jgrapht_capi_ix_scoring_exec_pagerank_into_array(thread, g, scores, 3) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
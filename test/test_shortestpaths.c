@@ -90,6 +90,15 @@ int main() {
     assert(end_vertex == 4);
     jgrapht_capi_handles_destroy(thread, gp);
 
+    // distance only queries
+    double distance;
+    jgrapht_capi_ix_sp_exec_dijkstra_get_distance_between_vertices(thread, g, 0, 4, &distance);
+    assert(distance == 42.0);
+    jgrapht_capi_ix_sp_exec_dijkstra_get_distance_between_vertices(thread, g, 5, 0, &distance);
+    assert(distance == INFINITY);
+    jgrapht_capi_ix_sp_exec_bidirectional_dijkstra_get_distance_between_vertices(thread, g, 0, 4, &distance);
+    assert(distance == 42.0);
+
     // dijkstra will multiple queries
     void *singlesource;
     jgrapht_capi_ix_sp_exec_dijkstra_get_singlesource_from_vertex(thread, g, 0, &singlesource);
@@ -220,6 +229,9 @@ int main() {
     assert(jgrapht_capi_error_get_errno(thread) == 0);
     jgrapht_capi_handles_destroy(thread, gp);
 
+    jgrapht_capi_ix_sp_exec_astar_get_distance_between_vertices(thread, g, 0, 2, astar_heuristic, &distance);
+    assert(distance == 2.0);
+
     jgrapht_capi_ix_sp_exec_bidirectional_astar_get_path_between_vertices(thread, g, 0, 2, astar_heuristic, &gp);
     assert(jgrapht_capi_error_get_errno(thread) == 0);
     jgrapht_capi_handles_destroy(thread, gp);
@@ -0,0 +1,98 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_ix_graph_add_vertices_bulk(thread, g, 6, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 0, 5.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 1, 2.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 2, 100.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 3, 2.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 5, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 4, 20.0);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 5, 3, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 5, 20.0);
+
+    int sources[3] = { 0, 3, 0 };
+    double distances[18];
+    int predecessors[18];
+
+    assert(jgrapht_capi_ix_sp_exec_dijkstra_get_distances_from_vertices(thread, g, sources, 3, 2, distances, predecessors) == 0);
+
+    assert(distances[0] == 0.0);
+    assert(distances[1] == 5.0);
+    assert(distances[2] == 7.0);
+    assert(distances[3] == 40.0);
+    assert(distances[4] == 42.0);
+    assert(distances[5] == 20.0);
+    assert(predecessors[0] == -1);
+    assert(predecessors[3] == 5);
+    assert(predecessors[4] == 3);
+
+    assert(distances[6] == INFINITY);
+    assert(distances[9] == 0.0);
+    assert(distances[10] == 2.0);
+    assert(predecessors[6] == -1);
+    assert(predecessors[10] == 3);
+
+    for (int j = 0; j < 6; j++) {
+        assert(distances[12 + j] == distances[j]);
+    }
+
+    // sequential without predecessors
+    assert(jgrapht_capi_ix_sp_exec_dijkstra_get_distances_from_vertices(thread, g, sources, 2, 1, distances, NULL) == 0);
+    assert(distances[4] == 42.0);
+    assert(distances[11] == INFINITY);
+
+    // invalid source
+    sources[1] = 10;
+    assert(jgrapht_capi_ix_sp_exec_dijkstra_get_distances_from_vertices(thread, g, sources, 2, 0, distances, NULL) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
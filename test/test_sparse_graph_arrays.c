@@ -0,0 +1,85 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int sources[7] = { 0, 1, 2, 3, 4, 0, 0 };
+    int targets[7] = { 1, 2, 3, 4, 5, 2, 3 };
+    double weights[7] = { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0 };
+
+    void *g;
+    assert(jgrapht_capi_ii_graph_sparse_create_from_arrays(thread, 1, 6, sources, targets, NULL, 7, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, &g) == 0);
+
+    int flag;
+    assert(jgrapht_capi_xx_graph_is_directed(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_weighted(thread, g, &flag) == 0);
+    assert(flag == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 6);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 7);
+    jgrapht_capi_ix_graph_indegree_of(thread, g, 3, &count);
+    assert(count == 2);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_ii_graph_sparse_create_from_arrays(thread, 0, 6, sources, targets, weights, 7, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, &g) == 0);
+    assert(jgrapht_capi_xx_graph_is_weighted(thread, g, &flag) == 0);
+    assert(flag == 1);
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 6, &w);
+    assert(w == 7.0);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 0, &count);
+    assert(count == 3);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_ii_graph_succinct_create_from_arrays(thread, 1, 6, sources, targets, 7, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, &g) == 0);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 7);
+    jgrapht_capi_ix_graph_outdegree_of(thread, g, 0, &count);
+    assert(count == 3);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // lazy incoming edges are not supported by succinct graphs
+    assert(jgrapht_capi_ii_graph_succinct_create_from_arrays(thread, 1, 6, sources, targets, 7, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, &g) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}